@@ -0,0 +1,72 @@
+package dev.openfga;
+
+import dev.openfga.sdk.api.client.model.ClientCheckRequest;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of a single {@link OpenFga#check} call without the network. Run with the {@code gc} profiler
+ * ({@code ./gradlew jmh}) and compare {@code gc.alloc.rate.norm}, the bytes allocated per check:
+ * {@link #formattedRequest()} builds the request the way the check path did before it stopped using
+ * {@link String#format}, {@link #request()} the way it does now. {@link #cachedCheck()} answers from a
+ * {@link CheckCache}: the check is looked up by its {@link CheckKey}, and the request is only built when the check is
+ * sent to OpenFGA.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckBenchmark {
+
+    private final String objectType = "document";
+    private final String objectId = "roadmap";
+    private final String relation = "viewer";
+    private final String userType = "user";
+    private final String userId = "anne";
+
+    private OpenFga openFga;
+    private OpenFga cachedOpenFga;
+
+    @Setup
+    public void setUp() throws Exception {
+        openFga = new OpenFga(new StubFgaClient(), new OpenFgaExceptionHandler());
+        cachedOpenFga = new OpenFga(new StubFgaClient(), new OpenFgaExceptionHandler());
+        cachedOpenFga.setCheckCache(new CheckCache(100, Duration.ofHours(1)));
+        cachedOpenFga.check(objectType, objectId, relation, userType, userId);
+    }
+
+    @Benchmark
+    public boolean check() {
+        return openFga.check(objectType, objectId, relation, userType, userId);
+    }
+
+    @Benchmark
+    public boolean cachedCheck() {
+        return cachedOpenFga.check(objectType, objectId, relation, userType, userId);
+    }
+
+    @Benchmark
+    public ClientCheckRequest request() {
+        return OpenFga.checkRequest(objectType, objectId, relation, userType, userId, null, null);
+    }
+
+    @Benchmark
+    public ClientCheckRequest formattedRequest() {
+        return new ClientCheckRequest()
+                .user(String.format("%s:%s", userType, userId))
+                .relation(relation)
+                ._object(String.format("%s:%s", objectType, objectId));
+    }
+}
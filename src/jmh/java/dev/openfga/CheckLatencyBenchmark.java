@@ -0,0 +1,79 @@
+package dev.openfga;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.openfga.sdk.api.client.OpenFgaClient;
+import dev.openfga.sdk.api.configuration.ClientConfiguration;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of {@link OpenFga#check} end to end, through the SDK's HTTP client, against an in-process HTTP
+ * server that answers every check as allowed. The server does no work, so the result is the overhead of the starter,
+ * the SDK and the loopback interface.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckLatencyBenchmark {
+
+    private static final byte[] CHECK_RESPONSE = "{\"allowed\":true,\"resolution\":\"\"}".getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private OpenFga openFga;
+
+    @Setup
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", CheckLatencyBenchmark::answerCheck);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        var configuration = new ClientConfiguration()
+                .apiUrl("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort())
+                .storeId("01GXSA8YR785C4FYS3C0RTG7B1")
+                .authorizationModelId("01GXSA8YR785C4FYS3C0RTG7B2");
+        openFga = new OpenFga(new OpenFgaClient(configuration), new OpenFgaExceptionHandler());
+    }
+
+    private static void answerCheck(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, CHECK_RESPONSE.length);
+            exchange.getResponseBody().write(CHECK_RESPONSE);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean check() {
+        return openFga.check("document", "roadmap", "viewer", "user", "anne");
+    }
+}
@@ -0,0 +1,50 @@
+package dev.openfga;
+
+import dev.openfga.sdk.errors.FgaApiNotFoundError;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long {@link OpenFgaExceptionHandler#handle} takes to map a failed request to an
+ * {@link OpenFgaException}, with and without an {@link dev.openfga.sdk.errors.FgaError} as the root cause.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionHandlerBenchmark {
+
+    private final OpenFgaExceptionHandler exceptionHandler = new OpenFgaExceptionHandler();
+
+    private Throwable fgaError;
+    private Throwable runtimeException;
+
+    @Setup
+    public void setUp() {
+        var notFound = new FgaApiNotFoundError("Check endpoint not found.", 404, null, "{\"code\":\"not_found\"}");
+        fgaError = new ExecutionException(notFound);
+        runtimeException = new ExecutionException(new IllegalStateException("unavailable"));
+    }
+
+    @Benchmark
+    public OpenFgaException handleFgaError() {
+        return exceptionHandler.handle(fgaError, "Error performing FGA check");
+    }
+
+    @Benchmark
+    public OpenFgaException handleRuntimeException() {
+        return exceptionHandler.handle(runtimeException, "Error performing FGA check");
+    }
+}
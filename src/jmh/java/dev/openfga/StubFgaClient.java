@@ -0,0 +1,32 @@
+package dev.openfga;
+
+import dev.openfga.sdk.api.client.ApiResponse;
+import dev.openfga.sdk.api.client.OpenFgaClient;
+import dev.openfga.sdk.api.client.model.ClientCheckRequest;
+import dev.openfga.sdk.api.client.model.ClientCheckResponse;
+import dev.openfga.sdk.api.configuration.ClientConfiguration;
+import dev.openfga.sdk.api.model.CheckResponse;
+import dev.openfga.sdk.errors.FgaInvalidParameterException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link OpenFgaClient} that answers every check with the same completed response, so that benchmarks measure the
+ * starter rather than the network.
+ */
+class StubFgaClient extends OpenFgaClient {
+
+    private final CompletableFuture<ClientCheckResponse> checkResponse;
+
+    StubFgaClient() throws FgaInvalidParameterException {
+        super(new ClientConfiguration().apiUrl("http://localhost:8080"));
+        var response = new CheckResponse().allowed(true);
+        this.checkResponse = CompletableFuture.completedFuture(
+                new ClientCheckResponse(new ApiResponse<>(200, Map.of(), "{\"allowed\":true}", response)));
+    }
+
+    @Override
+    public CompletableFuture<ClientCheckResponse> check(ClientCheckRequest request) {
+        return checkResponse;
+    }
+}
@@ -0,0 +1,74 @@
+package dev.openfga.autoconfigure;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.openfga.sdk.api.model.CheckRequest;
+import dev.openfga.sdk.api.model.CheckRequestTupleKey;
+import dev.openfga.sdk.api.model.CheckResponse;
+import dev.openfga.sdk.api.model.ListObjectsResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures request and response (de)serialization with the {@link com.fasterxml.jackson.databind.ObjectMapper} the
+ * starter creates when the application does not define one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    private final CheckRequest checkRequest = new CheckRequest()
+            .tupleKey(new CheckRequestTupleKey()
+                    .user("user:anne")
+                    .relation("viewer")
+                    ._object("document:roadmap"))
+            .authorizationModelId("01GXSA8YR785C4FYS3C0RTG7B1");
+    private final String checkResponse = "{\"allowed\":true,\"resolution\":\"\"}";
+
+    private ObjectWriter checkRequestWriter;
+    private ObjectReader checkResponseReader;
+    private ObjectReader listObjectsResponseReader;
+    private String listObjectsResponse;
+
+    @Setup
+    public void setUp() {
+        var objectMapper = OpenFgaAutoConfiguration.createDefaultObjectMapper();
+        checkRequestWriter = objectMapper.writerFor(CheckRequest.class);
+        checkResponseReader = objectMapper.readerFor(CheckResponse.class);
+        listObjectsResponseReader = objectMapper.readerFor(ListObjectsResponse.class);
+        listObjectsResponse = IntStream.range(0, 1000)
+                .mapToObj(i -> "\"document:" + i + "\"")
+                .collect(Collectors.joining(",", "{\"objects\":[", "]}"));
+    }
+
+    @Benchmark
+    public String writeCheckRequest() throws IOException {
+        return checkRequestWriter.writeValueAsString(checkRequest);
+    }
+
+    @Benchmark
+    public CheckResponse readCheckResponse() throws IOException {
+        return checkResponseReader.readValue(checkResponse);
+    }
+
+    @Benchmark
+    public ListObjectsResponse readListObjectsResponse() throws IOException {
+        return listObjectsResponseReader.readValue(listObjectsResponse);
+    }
+}
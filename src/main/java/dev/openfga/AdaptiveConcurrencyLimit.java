@@ -0,0 +1,206 @@
+package dev.openfga;
+
+import dev.openfga.sdk.errors.FgaError;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A limit on the number of concurrent requests to the FGA server that adapts to how the server copes, using additive
+ * increase and multiplicative decrease (AIMD).<br/>
+ *
+ * Every request answered within {@code latencyThreshold} while the limit is in use raises the limit by
+ * {@code 1 / limit}, so it grows by about one per round trip. A request that is slower, times out, fails without a
+ * response, or is answered with a {@code 429} or {@code 5xx} status is a sign of overload, and cuts the limit by
+ * {@value #BACKOFF_RATIO}. The limit is cut at most once per round trip: only requests sent after the last cut may cut
+ * it again, so that a burst of slow responses to requests sent together counts as a single sign of overload. The
+ * limit stays between 1 and {@code maxLimit}.<br/>
+ *
+ * Requests over the limit wait in a queue of at most {@code maxQueueSize}, in arrival order, and are rejected when the
+ * queue is full. Used by {@link OpenFgaConcurrencyLimiter}, which also bounds how long a request waits.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    static final double BACKOFF_RATIO = 0.9;
+
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final int maxQueueSize;
+    private final LongSupplier nanoClock;
+
+    private final Object lock = new Object();
+    private final ArrayDeque<CompletableFuture<Void>> queue = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long lastCutNanos;
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * Create a new adaptive limit.
+     *
+     * @param initialLimit The limit before any request was answered, between 1 and {@code maxLimit}
+     * @param maxLimit The highest the limit can grow to, must be positive
+     * @param latencyThreshold The duration from which a request is a sign of overload, must be positive
+     * @param maxQueueSize The maximum number of requests waiting for a slot, or {@code 0} to reject requests over the
+     * limit immediately
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int maxLimit, Duration latencyThreshold, int maxQueueSize) {
+        this(initialLimit, maxLimit, latencyThreshold, maxQueueSize, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimit(
+            int initialLimit, int maxLimit, Duration latencyThreshold, int maxQueueSize, LongSupplier nanoClock) {
+        if (maxLimit <= 0) {
+            throw new IllegalArgumentException("maxLimit must be positive");
+        }
+        if (initialLimit <= 0 || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("initialLimit must be between 1 and maxLimit");
+        }
+        if (latencyThreshold == null || latencyThreshold.isZero() || latencyThreshold.isNegative()) {
+            throw new IllegalArgumentException("latencyThreshold must be positive");
+        }
+        if (maxQueueSize < 0) {
+            throw new IllegalArgumentException("maxQueueSize must be positive or zero");
+        }
+        this.limit = initialLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.maxQueueSize = maxQueueSize;
+        this.nanoClock = nanoClock;
+        this.lastCutNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Take a slot for a request.
+     *
+     * @return a future completed once the request holds a slot, possibly already completed, or {@code null} if the
+     * limit was reached and the queue is full
+     */
+    CompletableFuture<Void> acquire() {
+        synchronized (lock) {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return CompletableFuture.completedFuture(null);
+            }
+            if (queue.size() >= maxQueueSize) {
+                rejectedCount.increment();
+                return null;
+            }
+            var slot = new CompletableFuture<Void>();
+            queue.addLast(slot);
+            return slot;
+        }
+    }
+
+    /**
+     * Give up waiting for a slot.
+     *
+     * @param slot The future returned by {@link #acquire()}
+     * @return {@code true} if the request was still waiting, {@code false} if it already holds a slot
+     */
+    boolean abandon(CompletableFuture<Void> slot) {
+        synchronized (lock) {
+            if (queue.remove(slot)) {
+                rejectedCount.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Free the slot of a request once it completed, and adjust the limit to its outcome.
+     *
+     * @param error The failure of the request, or {@code null} if it succeeded
+     * @param startNanos When the request was sent, as measured by {@link System#nanoTime()}
+     * @param latencyNanos How long the request took, or {@code 0} for requests whose duration says nothing about how
+     * the server copes, such as a request spanning several round trips
+     */
+    void release(Throwable error, long startNanos, long latencyNanos) {
+        CompletableFuture<Void> next = null;
+        synchronized (lock) {
+            boolean saturated = inFlight >= limit / 2;
+            inFlight--;
+            if (isOverload(error) || latencyNanos >= latencyThresholdNanos) {
+                // requests sent before the last cut were already accounted for by it
+                if (startNanos - lastCutNanos >= 0) {
+                    limit = Math.max(1, limit * BACKOFF_RATIO);
+                    lastCutNanos = nanoClock.getAsLong();
+                }
+            } else if (error == null && saturated) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            if (inFlight < (int) limit && !queue.isEmpty()) {
+                inFlight++;
+                next = queue.pollFirst();
+            }
+        }
+        if (next != null) {
+            next.complete(null);
+        }
+    }
+
+    private static boolean isOverload(Throwable error) {
+        if (error == null) {
+            return false;
+        }
+        var cause = error;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof CancellationException) {
+            return false;
+        }
+        if (cause instanceof FgaError fgaError && fgaError.getStatusCode() > 0) {
+            int status = fgaError.getStatusCode();
+            return status == 429 || status >= 500;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the current limit, rounded down.
+     *
+     * @return the number of requests that may be in flight at the same time
+     */
+    public int getLimit() {
+        synchronized (lock) {
+            return (int) limit;
+        }
+    }
+
+    /**
+     * Returns the number of requests in flight.
+     *
+     * @return the number of requests holding a slot
+     */
+    public int getInFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    /**
+     * Returns the number of requests waiting for a slot.
+     *
+     * @return the queue size
+     */
+    public int getQueued() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * Returns the number of requests rejected because the queue was full or they waited too long.
+     *
+     * @return the number of rejected requests
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
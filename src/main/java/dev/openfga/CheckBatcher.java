@@ -0,0 +1,251 @@
+package dev.openfga;
+
+import dev.openfga.sdk.api.client.OpenFgaClient;
+import dev.openfga.sdk.api.client.model.ClientBatchCheckItem;
+import dev.openfga.sdk.api.client.model.ClientBatchCheckRequest;
+import dev.openfga.sdk.api.client.model.ClientBatchCheckResponse;
+import dev.openfga.sdk.api.client.model.ClientCheckRequest;
+import dev.openfga.sdk.api.configuration.ClientBatchCheckOptions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Collects checks submitted concurrently by many threads and sends them to the FGA server as a single batch check
+ * request, completing each caller's future individually.<br/>
+ *
+ * A batch is sent as soon as it holds {@code maxBatchSize} checks, or when {@code window} has passed since its first
+ * check was submitted, whichever happens first. A batch holding a single check is sent to the check endpoint instead.
+ * This trades up to {@code window} of additional latency for far fewer requests at high request rates. A check that
+ * fails within a batch fails with the {@link dev.openfga.sdk.errors.FgaError} it would have failed with on its
+ * own.<br/>
+ *
+ * With a {@linkplain #setConcurrencyLimiter(OpenFgaConcurrencyLimiter) concurrency limiter}, each request the batcher
+ * sends takes a single slot of the limiter, however many checks it holds, and {@link OpenFga} lets the checks it
+ * submits to the batcher bypass the limiter.<br/>
+ *
+ * Batches are always sent from the batcher's thread, including those filled by a caller, so that a request carrying
+ * the checks of many callers does not carry the trace context of whichever caller filled it. Once the batcher is
+ * {@linkplain #close() closed}, checks are no longer batched but sent on their own.
+ */
+public class CheckBatcher implements AutoCloseable {
+
+    private final OpenFgaClient fgaClient;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    private final Object lock = new Object();
+    private List<PendingCheck> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean closed;
+    private OpenFgaConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * Create a new check batcher.
+     *
+     * @param fgaClient The {@link OpenFgaClient} to send batches with
+     * @param maxBatchSize The maximum number of checks per batch, must be positive
+     * @param window The maximum time a check waits for other checks to join its batch, must be positive
+     */
+    public CheckBatcher(OpenFgaClient fgaClient, int maxBatchSize, Duration window) {
+        this(fgaClient, maxBatchSize, window, runnable -> {
+            var thread = new Thread(runnable, "openfga-check-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Create a new check batcher that flushes batches on a thread created by the given factory.
+     *
+     * @param fgaClient The {@link OpenFgaClient} to send batches with
+     * @param maxBatchSize The maximum number of checks per batch, must be positive
+     * @param window The maximum time a check waits for other checks to join its batch, must be positive
+     * @param threadFactory The factory of the thread that flushes batches when their window has passed
+     */
+    public CheckBatcher(OpenFgaClient fgaClient, int maxBatchSize, Duration window, ThreadFactory threadFactory) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        if (window == null || window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        this.fgaClient = fgaClient;
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = window.toNanos();
+        this.scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Set the {@link OpenFgaConcurrencyLimiter} that limits the check and batch check requests sent by the batcher.
+     *
+     * @param concurrencyLimiter The limiter, or {@code null} to send requests without a limit
+     */
+    public void setConcurrencyLimiter(OpenFgaConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    OpenFgaConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * Submit a check to be sent with the next batch.
+     *
+     * @param request The check to perform
+     * @return a future completed with the decision once the batch holding the check was answered, or once the check was
+     *     answered on its own when the batcher is closed
+     */
+    public CompletableFuture<Boolean> submit(ClientCheckRequest request) {
+        var check = new PendingCheck(request, new CompletableFuture<>());
+        List<PendingCheck> batch = null;
+        synchronized (lock) {
+            if (closed) {
+                batch = List.of(check);
+            } else {
+                pending.add(check);
+                if (pending.size() >= maxBatchSize) {
+                    batch = drain();
+                } else if (pending.size() == 1) {
+                    scheduledFlush = scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+        if (batch != null) {
+            var ready = batch;
+            try {
+                scheduler.execute(() -> send(ready));
+            } catch (RejectedExecutionException rejected) {
+                send(ready);
+            }
+        }
+        return check.future;
+    }
+
+    private void flush() {
+        List<PendingCheck> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    private List<PendingCheck> drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        var batch = pending;
+        pending = new ArrayList<>();
+        return batch;
+    }
+
+    private void send(List<PendingCheck> batch) {
+        if (batch.size() == 1) {
+            var check = batch.get(0);
+            var call = new OpenFgaCall(
+                    OpenFgaCall.CHECK,
+                    OpenFgaCall.typeOf(check.request.getObject()),
+                    check.request.getRelation(),
+                    check.request.getObject());
+            send(call, () -> fgaClient.check(check.request)).whenComplete((response, error) -> {
+                if (error != null) {
+                    check.future.completeExceptionally(error);
+                } else {
+                    check.future.complete(Boolean.TRUE.equals(response.getAllowed()));
+                }
+            });
+            return;
+        }
+        var checks = new ArrayList<ClientBatchCheckItem>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            checks.add(toBatchCheckItem(batch.get(i).request, i));
+        }
+        var options = new ClientBatchCheckOptions().maxBatchSize(batch.size()).maxParallelRequests(1);
+        var call = new OpenFgaCall(OpenFgaCall.BATCH_CHECK, null, null, null);
+        send(call, () -> fgaClient.batchCheck(new ClientBatchCheckRequest().checks(checks), options))
+                .whenComplete((response, error) -> complete(batch, response, error));
+    }
+
+    private <T> CompletableFuture<T> send(OpenFgaCall call, FgaRequest<T> request) {
+        Supplier<CompletableFuture<T>> next = () -> {
+            try {
+                return request.send();
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        };
+        var limiter = concurrencyLimiter;
+        return limiter != null ? limiter.intercept(call, next) : next.get();
+    }
+
+    private static ClientBatchCheckItem toBatchCheckItem(ClientCheckRequest request, int index) {
+        var check = new ClientBatchCheckItem()
+                .user(request.getUser())
+                .relation(request.getRelation())
+                ._object(request.getObject())
+                .correlationId(Integer.toString(index));
+        if (request.getContextualTuples() != null) {
+            check.contextualTuples(request.getContextualTuples());
+        }
+        if (request.getContext() != null) {
+            check.context(request.getContext());
+        }
+        return check;
+    }
+
+    private static void complete(List<PendingCheck> batch, ClientBatchCheckResponse response, Throwable error) {
+        if (error != null) {
+            for (var check : batch) {
+                check.future.completeExceptionally(error);
+            }
+            return;
+        }
+        for (var result : response.getResult()) {
+            var check = batch.get(Integer.parseInt(result.getCorrelationId()));
+            if (result.getError() != null) {
+                check.future.completeExceptionally(CheckErrors.toFgaError(result.getError()));
+            } else {
+                check.future.complete(result.isAllowed());
+            }
+        }
+        var missing = new IllegalStateException("No result returned for check in batch");
+        for (var check : batch) {
+            check.future.completeExceptionally(missing);
+        }
+    }
+
+    /**
+     * Send the checks that are still waiting for their batch, and stop the scheduler. Checks submitted afterwards are
+     * sent on their own.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+        }
+        flush();
+        // send the checks that were handed to the scheduler but not sent yet
+        for (var unsent : scheduler.shutdownNow()) {
+            unsent.run();
+        }
+    }
+
+    @FunctionalInterface
+    private interface FgaRequest<T> {
+        CompletableFuture<T> send() throws Exception;
+    }
+
+    private record PendingCheck(ClientCheckRequest request, CompletableFuture<Boolean> future) {}
+}
@@ -0,0 +1,415 @@
+package dev.openfga;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded, in-process cache of FGA check decisions, used by {@link OpenFga} to avoid a network round trip for
+ * checks that were recently evaluated.<br/>
+ *
+ * Entries expire a fixed time after they were written. When the cache is full, the least recently used entry is
+ * evicted. The cache is split into independently locked segments so that concurrent checks on different keys do not
+ * contend with each other.<br/>
+ *
+ * With a {@linkplain #setRefreshAheadFraction(double) refresh-ahead fraction}, a decision that is close to expiring is
+ * still served, but {@link #tryStartRefresh(CheckKey)} asks a single caller to re-evaluate it in the background, so
+ * that hot decisions are replaced before they expire. With {@linkplain #setStaleWindows(Map) stale windows}, an
+ * expired decision is kept for a while longer, to be served by {@link #getStale(CheckKey)} when the FGA server cannot
+ * be reached, or does not answer within the {@linkplain #setStaleTimeout(Duration) stale timeout}.<br/>
+ *
+ * Every invalidation starts a new {@linkplain #generation() generation}. A check captures the generation before it is
+ * sent, and {@link #put(CheckKey, boolean, long)} drops its decision if the cache was invalidated in the meantime, so
+ * that a check evaluated before a change cannot write its outdated decision back once the change was applied.
+ */
+public class CheckCache {
+
+    private static final int MAXIMUM_SEGMENTS = 64;
+
+    private final Segment[] segments;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private volatile long refreshAheadNanos;
+    private volatile Map<String, Long> staleWindowNanos = Map.of();
+    private volatile Duration staleTimeout;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Create a new check cache.
+     *
+     * @param maximumSize The maximum number of decisions to keep, must be positive
+     * @param ttl How long a decision is kept after it was written, must be positive
+     */
+    public CheckCache(int maximumSize, Duration ttl) {
+        this(maximumSize, ttl, System::nanoTime);
+    }
+
+    CheckCache(int maximumSize, Duration ttl, LongSupplier nanoClock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        int segmentCount = segmentCount(maximumSize);
+        int segmentSize = (maximumSize + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    private static int segmentCount(int maximumSize) {
+        int target = Math.min(MAXIMUM_SEGMENTS, Runtime.getRuntime().availableProcessors() * 4);
+        int count = 1;
+        while (count * 2 <= target && count * 2 <= maximumSize) {
+            count *= 2;
+        }
+        return count;
+    }
+
+    /**
+     * Sets the fraction of the time to live before expiry in which a decision is refreshed ahead, see
+     * {@link #tryStartRefresh(CheckKey)}. For example, with a fraction of {@code 0.2} and a time to live of 10 seconds,
+     * a decision is refreshed when it is read more than 8 seconds after it was written. A fraction of {@code 0}, the
+     * default, disables refresh-ahead. Only applies to decisions written afterwards.
+     *
+     * @param fraction The fraction of the time to live, at least {@code 0} and less than {@code 1}
+     */
+    public void setRefreshAheadFraction(double fraction) {
+        if (!(fraction >= 0 && fraction < 1)) {
+            throw new IllegalArgumentException("fraction must be at least 0 and less than 1");
+        }
+        this.refreshAheadNanos = (long) (ttlNanos * fraction);
+    }
+
+    /**
+     * Sets how long an expired decision may still be served by {@link #getStale(CheckKey)}, per object type and
+     * relation. Keys are either {@code type#relation}, such as {@code document#viewer}, or just a type, such as
+     * {@code document}, which applies to all relations of the type without a window of their own. Decisions without a
+     * window are never served stale. Only applies to decisions written afterwards.
+     *
+     * @param staleWindows The stale windows by {@code type#relation} or {@code type}, must not be negative
+     */
+    public void setStaleWindows(Map<String, Duration> staleWindows) {
+        var windows = new HashMap<String, Long>();
+        staleWindows.forEach((name, window) -> {
+            if (window == null || window.isNegative()) {
+                throw new IllegalArgumentException("stale window of " + name + " must not be negative");
+            }
+            windows.put(name, window.toNanos());
+        });
+        this.staleWindowNanos = Map.copyOf(windows);
+    }
+
+    /**
+     * Sets how long {@link OpenFga} waits for a check before answering it with an expired decision that is still within
+     * its stale window, see {@link #setStaleWindows(Map)}. The check keeps running, and its decision replaces the
+     * cached one once it is answered. Should be shorter than the read timeout of the client, so that a slow FGA server
+     * is covered as well as an unavailable one. Defaults to {@code null}, which serves stale decisions only when the
+     * check fails.
+     *
+     * @param staleTimeout How long to wait before serving a stale decision, must be positive, or {@code null}
+     */
+    public void setStaleTimeout(Duration staleTimeout) {
+        if (staleTimeout != null && (staleTimeout.isZero() || staleTimeout.isNegative())) {
+            throw new IllegalArgumentException("staleTimeout must be positive");
+        }
+        this.staleTimeout = staleTimeout;
+    }
+
+    /**
+     * Returns how long a check is waited for before an expired decision within its stale window is served instead.
+     *
+     * @return the stale timeout, or {@code null} if stale decisions are only served when the check fails
+     */
+    public Duration getStaleTimeout() {
+        return staleTimeout;
+    }
+
+    /**
+     * Look up a cached decision.
+     *
+     * @param key The key of the check
+     * @return the cached decision, or {@code null} if there is no unexpired decision for the key
+     */
+    public Boolean get(CheckKey key) {
+        var segment = segmentFor(key);
+        Entry entry;
+        synchronized (segment) {
+            entry = segment.get(key);
+            long now = nanoClock.getAsLong();
+            if (entry != null && entry.isExpired(now)) {
+                if (entry.isPastStaleWindow(now)) {
+                    segment.remove(key);
+                    evictionCount.increment();
+                }
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return entry.allowed;
+    }
+
+    /**
+     * Look up an expired decision that is still within the stale window of its object type and relation, to be served
+     * when the decision cannot be re-evaluated.
+     *
+     * @param key The key of the check
+     * @return the stale decision, or {@code null} if there is no expired decision within its stale window for the key
+     */
+    public Boolean getStale(CheckKey key) {
+        var segment = segmentFor(key);
+        synchronized (segment) {
+            var entry = segment.get(key);
+            long now = nanoClock.getAsLong();
+            if (entry == null || !entry.isExpired(now) || entry.isPastStaleWindow(now)) {
+                return null;
+            }
+            return entry.allowed;
+        }
+    }
+
+    /**
+     * Claims the refresh of a decision that is within the refresh-ahead fraction of its time to live. Returns
+     * {@code true} to at most one caller per written decision, which is then expected to re-evaluate the check and
+     * {@linkplain #put(CheckKey, boolean) put} the new decision, or {@linkplain #abortRefresh(CheckKey) abort} the
+     * refresh if that failed, while all callers keep being served the current one.
+     *
+     * @param key The key of the check
+     * @return whether the caller should refresh the decision
+     */
+    public boolean tryStartRefresh(CheckKey key) {
+        var segment = segmentFor(key);
+        synchronized (segment) {
+            var entry = segment.get(key);
+            long now = nanoClock.getAsLong();
+            if (entry == null || entry.refreshing || entry.isExpired(now) || now - entry.refreshAt < 0) {
+                return false;
+            }
+            entry.refreshing = true;
+            return true;
+        }
+    }
+
+    /**
+     * Releases the refresh claimed with {@link #tryStartRefresh(CheckKey)} when the decision could not be re-evaluated,
+     * so that a later caller may claim it again.
+     *
+     * @param key The key of the check
+     */
+    public void abortRefresh(CheckKey key) {
+        var segment = segmentFor(key);
+        synchronized (segment) {
+            var entry = segment.get(key);
+            if (entry != null) {
+                entry.refreshing = false;
+            }
+        }
+    }
+
+    /**
+     * Returns the current generation of the cache, which every invalidation increments. Capture it before a check is
+     * sent, and pass it to {@link #put(CheckKey, boolean, long)} with its decision.
+     *
+     * @return the current generation
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Store a decision in the cache, replacing any existing decision for the same key.
+     *
+     * @param key The key of the check
+     * @param allowed The decision returned by the FGA server
+     */
+    public void put(CheckKey key, boolean allowed) {
+        put(key, allowed, generation.get());
+    }
+
+    /**
+     * Store the decision of a check, unless the cache was invalidated since the check was sent. Any invalidation drops
+     * the decision, even one that does not match the key, which only costs a later cache miss.
+     *
+     * @param key The key of the check
+     * @param allowed The decision returned by the FGA server
+     * @param generation The {@linkplain #generation() generation} captured before the check was sent
+     * @return whether the decision was stored
+     */
+    public boolean put(CheckKey key, boolean allowed, long generation) {
+        var segment = segmentFor(key);
+        long expiresAt = nanoClock.getAsLong() + ttlNanos;
+        long refreshAt = refreshAheadNanos > 0 ? expiresAt - refreshAheadNanos : expiresAt;
+        var entry = new Entry(allowed, expiresAt, refreshAt, expiresAt + staleWindowNanos(key));
+        synchronized (segment) {
+            // invalidations increment the generation before they lock the segments, so a decision stored here either
+            // sees the new generation or is removed by the invalidation
+            if (generation != this.generation.get()) {
+                return false;
+            }
+            segment.put(key, entry);
+            return true;
+        }
+    }
+
+    private long staleWindowNanos(CheckKey key) {
+        var windows = staleWindowNanos;
+        if (windows.isEmpty() || key.object() == null) {
+            return 0;
+        }
+        int separator = key.object().indexOf(':');
+        var type = separator < 0 ? key.object() : key.object().substring(0, separator);
+        var window = windows.get(type + "#" + key.relation());
+        if (window == null) {
+            window = windows.get(type);
+        }
+        return window == null ? 0 : window;
+    }
+
+    /**
+     * Remove the decisions matching a predicate, for example because the tuples they were evaluated from changed. The
+     * decisions of checks sent before are no longer stored, see {@link #put(CheckKey, boolean, long)}.
+     *
+     * @param predicate Tests the key and the decision of every cached entry
+     * @return the number of decisions removed
+     */
+    public int invalidateIf(BiPredicate<CheckKey, Boolean> predicate) {
+        generation.incrementAndGet();
+        int removed = 0;
+        for (var segment : segments) {
+            synchronized (segment) {
+                var entries = segment.entrySet().iterator();
+                while (entries.hasNext()) {
+                    var entry = entries.next();
+                    if (predicate.test(entry.getKey(), entry.getValue().allowed)) {
+                        entries.remove();
+                        removed++;
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Remove all decisions from the cache. The decisions of checks sent before are no longer stored.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        for (var segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of decisions currently held, including expired and stale decisions that were not yet removed.
+     *
+     * @return the number of cached decisions
+     */
+    public long size() {
+        long size = 0;
+        for (var segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the statistics collected since the cache was created
+     */
+    public Stats stats() {
+        return new Stats(hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    private Segment segmentFor(CheckKey key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & (segments.length - 1)];
+    }
+
+    /**
+     * A snapshot of the statistics of a {@link CheckCache}.
+     *
+     * @param hitCount The number of lookups that returned a cached decision
+     * @param missCount The number of lookups that found no unexpired decision
+     * @param evictionCount The number of decisions removed because they expired or the cache was full
+     */
+    public record Stats(long hitCount, long missCount, long evictionCount) {
+
+        /**
+         * Returns the ratio of lookups that returned a cached decision, or {@code 0} if there were no lookups.
+         *
+         * @return the hit rate, between {@code 0} and {@code 1}
+         */
+        public double hitRate() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+        }
+    }
+
+    private static final class Entry {
+        private final boolean allowed;
+        private final long expiresAt;
+        private final long refreshAt;
+        private final long staleUntil;
+        private boolean refreshing;
+
+        private Entry(boolean allowed, long expiresAt, long refreshAt, long staleUntil) {
+            this.allowed = allowed;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+            this.staleUntil = staleUntil;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+
+        private boolean isPastStaleWindow(long now) {
+            return now - staleUntil >= 0;
+        }
+    }
+
+    private final class Segment extends LinkedHashMap<CheckKey, Entry> {
+
+        private final int maximumSize;
+
+        private Segment(int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CheckKey, Entry> eldest) {
+            if (size() > maximumSize) {
+                evictionCount.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
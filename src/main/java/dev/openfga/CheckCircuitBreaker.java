@@ -0,0 +1,370 @@
+package dev.openfga;
+
+import dev.openfga.sdk.errors.FgaError;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Stops {@link OpenFga} from sending checks to an FGA server that is failing or answering slowly, so that callers get
+ * a decision immediately instead of waiting for the read timeout.<br/>
+ *
+ * The breaker records the outcome of the last {@code windowSize} checks. Once at least {@code minimumCalls} were
+ * recorded, it opens when the share of failed checks reaches {@code failureRateThreshold}, or the share of checks
+ * slower than {@code slowCallDuration} reaches {@code slowCallRateThreshold}. A check fails when the server could not
+ * be reached, timed out, or answered with a {@code 429} or {@code 5xx} status; other errors are the caller's and do not
+ * count. Checks that were cancelled, interrupted, or shed by an {@link OpenFgaConcurrencyLimiter} say nothing about the
+ * server and are not recorded.<br/>
+ *
+ * While open, checks are rejected with a {@link CircuitOpenException}, and {@link OpenFga} answers them with a stale
+ * cached decision if there is one, or the {@linkplain #setOpenDecision(OpenDecision) open decision} otherwise. After
+ * {@code openDuration}, a single probe check is let through: the breaker closes if it succeeds in time, and opens
+ * again otherwise.
+ */
+public class CheckCircuitBreaker {
+
+    /**
+     * The state of a circuit breaker.
+     */
+    public enum State {
+        /**
+         * Checks are sent and their outcomes recorded.
+         */
+        CLOSED,
+        /**
+         * Checks are rejected without being sent.
+         */
+        OPEN,
+        /**
+         * A single probe check is sent to find out whether the server recovered.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * The decision of a check rejected by an open circuit breaker, when there is no stale cached decision.
+     */
+    public enum OpenDecision {
+        /**
+         * The check is denied, so the application fails closed.
+         */
+        DENY,
+        /**
+         * The check is allowed, so the application fails open.
+         */
+        ALLOW,
+        /**
+         * The check fails with an {@link OpenFgaException} caused by a {@link CircuitOpenException}.
+         */
+        ERROR
+    }
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final double slowCallRateThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private final Object lock = new Object();
+    private final byte[] outcomes;
+    private int recorded;
+    private int next;
+    private int failureCount;
+    private int slowCount;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probing;
+
+    private final LongAdder rejectedCount = new LongAdder();
+    private volatile OpenDecision openDecision = OpenDecision.DENY;
+
+    /**
+     * Create a new circuit breaker.
+     *
+     * @param windowSize The number of most recent checks the rates are computed from, must be positive
+     * @param minimumCalls The number of checks to record before the breaker may open, between 1 and
+     * {@code windowSize}
+     * @param failureRateThreshold The share of failed checks that opens the breaker, greater than 0 and at most 1
+     * @param slowCallDuration The duration from which a check is slow, must be positive
+     * @param slowCallRateThreshold The share of slow checks that opens the breaker, greater than 0 and at most 1
+     * @param openDuration How long the breaker stays open before it lets a probe check through, must be positive
+     */
+    public CheckCircuitBreaker(
+            int windowSize,
+            int minimumCalls,
+            double failureRateThreshold,
+            Duration slowCallDuration,
+            double slowCallRateThreshold,
+            Duration openDuration) {
+        this(
+                windowSize,
+                minimumCalls,
+                failureRateThreshold,
+                slowCallDuration,
+                slowCallRateThreshold,
+                openDuration,
+                System::nanoTime);
+    }
+
+    CheckCircuitBreaker(
+            int windowSize,
+            int minimumCalls,
+            double failureRateThreshold,
+            Duration slowCallDuration,
+            double slowCallRateThreshold,
+            Duration openDuration,
+            LongSupplier nanoClock) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive");
+        }
+        if (minimumCalls <= 0 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("minimumCalls must be between 1 and windowSize");
+        }
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+            throw new IllegalArgumentException("failureRateThreshold must be greater than 0 and at most 1");
+        }
+        if (!(slowCallRateThreshold > 0 && slowCallRateThreshold <= 1)) {
+            throw new IllegalArgumentException("slowCallRateThreshold must be greater than 0 and at most 1");
+        }
+        if (slowCallDuration == null || slowCallDuration.isZero() || slowCallDuration.isNegative()) {
+            throw new IllegalArgumentException("slowCallDuration must be positive");
+        }
+        if (openDuration == null || openDuration.isZero() || openDuration.isNegative()) {
+            throw new IllegalArgumentException("openDuration must be positive");
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallDuration.toNanos();
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+        this.outcomes = new byte[windowSize];
+    }
+
+    /**
+     * Set the decision of checks rejected while the breaker is open, when there is no stale cached decision. Defaults
+     * to {@link OpenDecision#DENY}.
+     *
+     * @param openDecision The decision of rejected checks
+     */
+    public void setOpenDecision(OpenDecision openDecision) {
+        this.openDecision = openDecision;
+    }
+
+    /**
+     * Returns the decision of checks rejected while the breaker is open.
+     *
+     * @return the open decision
+     */
+    public OpenDecision getOpenDecision() {
+        return openDecision;
+    }
+
+    /**
+     * Send a check through the breaker, recording its outcome and duration.
+     *
+     * @param check Sends the check, only invoked if the breaker lets it through
+     * @param <T> The type of the response
+     * @return the future returned by {@code check}, or a future failed with a {@link CircuitOpenException} if the
+     * breaker rejected the check
+     */
+    public <T> CompletableFuture<T> call(Supplier<CompletableFuture<T>> check) {
+        if (!tryAcquire()) {
+            rejectedCount.increment();
+            return CompletableFuture.failedFuture(new CircuitOpenException());
+        }
+        long start = nanoClock.getAsLong();
+        CompletableFuture<T> response;
+        try {
+            response = check.get();
+        } catch (RuntimeException cause) {
+            response = CompletableFuture.failedFuture(cause);
+        }
+        response.whenComplete((value, error) -> record(error, nanoClock.getAsLong() - start));
+        return response;
+    }
+
+    private boolean tryAcquire() {
+        synchronized (lock) {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.OPEN) {
+                if (nanoClock.getAsLong() - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+            }
+            if (probing) {
+                return false;
+            }
+            probing = true;
+            return true;
+        }
+    }
+
+    private void record(Throwable error, long durationNanos) {
+        var cause = rootCause(error);
+        synchronized (lock) {
+            if (state != State.CLOSED) {
+                if (state == State.HALF_OPEN && probing) {
+                    probing = false;
+                    if (isIgnored(cause)) {
+                        return;
+                    }
+                    if (isFailure(cause) || durationNanos >= slowCallNanos) {
+                        open();
+                    } else {
+                        close();
+                    }
+                }
+                return;
+            }
+            if (isIgnored(cause)) {
+                return;
+            }
+            byte outcome = 0;
+            if (isFailure(cause)) {
+                outcome |= FAILED;
+            }
+            if (durationNanos >= slowCallNanos) {
+                outcome |= SLOW;
+            }
+            add(outcome);
+            if (recorded >= minimumCalls
+                    && (failureCount >= failureRateThreshold * recorded
+                            || slowCount >= slowCallRateThreshold * recorded)) {
+                open();
+            }
+        }
+    }
+
+    private void add(byte outcome) {
+        if (recorded == windowSize) {
+            byte evicted = outcomes[next];
+            if ((evicted & FAILED) != 0) {
+                failureCount--;
+            }
+            if ((evicted & SLOW) != 0) {
+                slowCount--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = outcome;
+        next = (next + 1) % windowSize;
+        if ((outcome & FAILED) != 0) {
+            failureCount++;
+        }
+        if ((outcome & SLOW) != 0) {
+            slowCount++;
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recorded = 0;
+        next = 0;
+        failureCount = 0;
+        slowCount = 0;
+    }
+
+    private static boolean isIgnored(Throwable cause) {
+        return cause instanceof CancellationException
+                || cause instanceof InterruptedException
+                || cause instanceof ConcurrencyLimitExceededException;
+    }
+
+    /**
+     * Whether the error shows that OpenFGA could not answer, rather than that the check itself was wrong: a
+     * {@code 429} or {@code 5xx} response, an I/O error, a timeout, or a check rejected by an open breaker. These are
+     * the failures the breaker counts, and the only ones a stale decision may be served for.
+     *
+     * @param error the error a check failed with, possibly wrapped
+     * @return whether OpenFGA was unavailable
+     */
+    static boolean isUnavailable(Throwable error) {
+        var cause = rootCause(error);
+        return cause instanceof CircuitOpenException || isFailure(cause);
+    }
+
+    private static boolean isFailure(Throwable cause) {
+        if (cause instanceof FgaError fgaError) {
+            int status = fgaError.getStatusCode();
+            return status == 429 || status >= 500;
+        }
+        return cause instanceof IOException || cause instanceof TimeoutException;
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        if (error == null) {
+            return null;
+        }
+        var cause = error;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Returns the current state of the breaker. An open breaker whose {@code openDuration} has passed is reported as
+     * open until a check is sent.
+     *
+     * @return the state
+     */
+    public State getState() {
+        synchronized (lock) {
+            return state;
+        }
+    }
+
+    /**
+     * Returns the share of failed checks among the recorded ones, or {@code 0} if none were recorded since the breaker
+     * last closed.
+     *
+     * @return the failure rate, between 0 and 1
+     */
+    public double getFailureRate() {
+        synchronized (lock) {
+            return recorded == 0 ? 0 : (double) failureCount / recorded;
+        }
+    }
+
+    /**
+     * Returns the share of slow checks among the recorded ones, or {@code 0} if none were recorded since the breaker
+     * last closed.
+     *
+     * @return the slow call rate, between 0 and 1
+     */
+    public double getSlowCallRate() {
+        synchronized (lock) {
+            return recorded == 0 ? 0 : (double) slowCount / recorded;
+        }
+    }
+
+    /**
+     * Returns the number of checks rejected because the breaker was open.
+     *
+     * @return the number of rejected checks
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
@@ -0,0 +1,106 @@
+package dev.openfga;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent FGA checks, so that only one request per {@link CheckKey} is in flight at a time and
+ * every caller receives its result.<br/>
+ *
+ * The in-flight requests are tracked in a {@link ConcurrentHashMap}, so lookups are lock-free and registrations only
+ * contend with other registrations that hash to the same bin. A key is removed as soon as its request completes, so
+ * decisions are never shared with checks that start after the server answered. A check only joins a request sent in
+ * the same {@linkplain CheckCache#generation() cache generation} or a later one, so that checks started after an
+ * invalidation do not receive a decision evaluated before the change that caused it.
+ */
+public class CheckCoalescer {
+
+    private final ConcurrentHashMap<CheckKey, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * Perform a check, or join an identical check that is already in flight.
+     *
+     * @param key The key of the check
+     * @param check Sends the check to the FGA server, only invoked if no identical check is in flight
+     * @return a future completed with the decision of the shared check. Cancelling it does not affect other callers.
+     */
+    public CompletableFuture<Boolean> coalesce(CheckKey key, Supplier<CompletableFuture<Boolean>> check) {
+        return coalesce(key, 0, check);
+    }
+
+    /**
+     * Perform a check, or join an identical check that is already in flight and was sent in the same cache generation
+     * or a later one. A check sent in an earlier generation is left to complete for its own callers, but no longer
+     * joined.
+     *
+     * @param key The key of the check
+     * @param generation The {@linkplain CheckCache#generation() cache generation} captured before the check
+     * @param check Sends the check to the FGA server, only invoked if no identical check can be joined
+     * @return a future completed with the decision of the shared check. Cancelling it does not affect other callers.
+     */
+    public CompletableFuture<Boolean> coalesce(
+            CheckKey key, long generation, Supplier<CompletableFuture<Boolean>> check) {
+        var existing = inFlight.get(key);
+        while (existing == null || existing.generation < generation) {
+            var started = new InFlight(generation, new CompletableFuture<>());
+            boolean registered = existing == null
+                    ? inFlight.putIfAbsent(key, started) == null
+                    : inFlight.replace(key, existing, started);
+            if (registered) {
+                send(key, started, check);
+                return started.promise.copy();
+            }
+            existing = inFlight.get(key);
+        }
+        coalescedCount.increment();
+        return existing.promise.copy();
+    }
+
+    private void send(CheckKey key, InFlight started, Supplier<CompletableFuture<Boolean>> check) {
+        var promise = started.promise;
+        try {
+            check.get().whenComplete((allowed, error) -> {
+                inFlight.remove(key, started);
+                if (error != null) {
+                    promise.completeExceptionally(error);
+                } else {
+                    promise.complete(allowed);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, started);
+            promise.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Returns the number of distinct checks currently in flight.
+     *
+     * @return the number of in-flight checks
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Returns the number of checks that joined an identical in-flight check instead of sending their own request.
+     *
+     * @return the number of coalesced checks
+     */
+    public long coalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    private static final class InFlight {
+        private final long generation;
+        private final CompletableFuture<Boolean> promise;
+
+        private InFlight(long generation, CompletableFuture<Boolean> promise) {
+            this.generation = generation;
+            this.promise = promise;
+        }
+    }
+}
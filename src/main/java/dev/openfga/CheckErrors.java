@@ -0,0 +1,30 @@
+package dev.openfga;
+
+import dev.openfga.sdk.api.model.CheckError;
+import dev.openfga.sdk.errors.FgaApiInternalError;
+import dev.openfga.sdk.errors.FgaApiValidationError;
+import dev.openfga.sdk.errors.FgaError;
+
+/**
+ * Maps the error of a single check in a batch check response to the {@link FgaError} the same check would have failed
+ * with on its own, so that batched checks fail like single ones.
+ */
+final class CheckErrors {
+
+    private CheckErrors() {}
+
+    /**
+     * Map the error of a check in a batch: an input error to a {@code 400} {@link FgaApiValidationError}, anything else
+     * to a {@code 500} {@link FgaApiInternalError}. The message of the error is kept.
+     *
+     * @param error The error of the check, as returned by the FGA server
+     * @return the matching FGA error
+     */
+    static FgaError toFgaError(CheckError error) {
+        var message = error.getMessage() != null ? error.getMessage() : "Check in batch failed";
+        if (error.getInputError() != null) {
+            return new FgaApiValidationError(message, 400, null, null);
+        }
+        return new FgaApiInternalError(message, 500, null, null);
+    }
+}
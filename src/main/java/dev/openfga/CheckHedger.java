@@ -0,0 +1,257 @@
+package dev.openfga;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Sends a second, identical check when the first one has not been answered within a delay, and completes the caller's
+ * future with whichever answers first, cancelling the other. Checks are read-only, so a duplicate is safe, and a slow
+ * FGA server replica then only delays a check by the hedge delay instead of its own latency.<br/>
+ *
+ * The delay is fixed, or follows a percentile of the latencies of the last {@value #SAMPLE_SIZE} checks, never going
+ * below the fixed delay. A hedge budget caps the extra load: each check earns {@code budget} of a hedge, and a hedge is
+ * only sent when a whole one was earned, so at most that share of checks is sent twice. A failed check is not hedged,
+ * but when a hedge is in flight, the caller gets the first successful answer.<br/>
+ *
+ * Cancelling a future of the {@link dev.openfga.sdk.api.client.OpenFgaClient} does not abort its HTTP exchange, so the
+ * losing request is only abandoned, not aborted.<br/>
+ *
+ * Hedges are sent from the hedger's thread. A {@linkplain #setTaskDecorator(TaskDecorator) task decorator} can carry
+ * the context of the caller, such as its current observation, over to that thread, so that a hedge is traced as part
+ * of the same request as the check it duplicates.
+ */
+public class CheckHedger implements AutoCloseable {
+
+    static final int SAMPLE_SIZE = 1000;
+
+    private static final int SAMPLES_PER_UPDATE = 100;
+    private static final long HEDGE_CREDIT = 1000;
+    private static final long MAXIMUM_CREDIT = 10 * HEDGE_CREDIT;
+
+    private final long minimumDelayNanos;
+    private final double percentile;
+    private final long creditPerCheck;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private TaskDecorator taskDecorator;
+
+    private final Object lock = new Object();
+    private final long[] latencies = new long[SAMPLE_SIZE];
+    private int sampled;
+    private int nextSample;
+    private int samplesSinceUpdate;
+    private volatile long delayNanos;
+
+    private final AtomicLong credit = new AtomicLong();
+    private final LongAdder hedgeCount = new LongAdder();
+    private final LongAdder hedgeWinCount = new LongAdder();
+
+    /**
+     * Create a new check hedger.
+     *
+     * @param delay How long to wait for an answer before sending a hedge, or the minimum delay when following a
+     * percentile. Must be positive.
+     * @param percentile The percentile of recent latencies to wait for before sending a hedge, such as {@code 0.95},
+     * or {@code 0} to always wait for {@code delay}. Must be at least 0 and less than 1.
+     * @param budget The maximum share of checks that are hedged, greater than 0 and at most 1
+     */
+    public CheckHedger(Duration delay, double percentile, double budget) {
+        this(delay, percentile, budget, runnable -> {
+            var thread = new Thread(runnable, "openfga-check-hedger");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Create a new check hedger that sends hedges from a thread created by the given factory.
+     *
+     * @param delay How long to wait for an answer before sending a hedge, or the minimum delay when following a
+     * percentile. Must be positive.
+     * @param percentile The percentile of recent latencies to wait for before sending a hedge, such as {@code 0.95},
+     * or {@code 0} to always wait for {@code delay}. Must be at least 0 and less than 1.
+     * @param budget The maximum share of checks that are hedged, greater than 0 and at most 1
+     * @param threadFactory The factory of the thread that sends hedges when their delay has passed
+     */
+    public CheckHedger(Duration delay, double percentile, double budget, ThreadFactory threadFactory) {
+        if (delay == null || delay.isZero() || delay.isNegative()) {
+            throw new IllegalArgumentException("delay must be positive");
+        }
+        if (!(percentile >= 0 && percentile < 1)) {
+            throw new IllegalArgumentException("percentile must be at least 0 and less than 1");
+        }
+        if (!(budget > 0 && budget <= 1)) {
+            throw new IllegalArgumentException("budget must be greater than 0 and at most 1");
+        }
+        this.minimumDelayNanos = delay.toNanos();
+        this.delayNanos = minimumDelayNanos;
+        this.percentile = percentile;
+        this.creditPerCheck = Math.round(budget * HEDGE_CREDIT);
+        this.scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Set the {@link TaskDecorator} applied to sending a hedge, which is called on the thread of the caller and can
+     * capture its context, such as a {@code ContextPropagatingTaskDecorator}.
+     *
+     * @param taskDecorator The decorator, or {@code null} to send hedges without the context of the caller
+     */
+    public void setTaskDecorator(TaskDecorator taskDecorator) {
+        this.taskDecorator = taskDecorator;
+    }
+
+    /**
+     * Send a check, and a hedge if it is not answered within the hedge delay and the budget allows it.
+     *
+     * @param check Sends the check, invoked once for the check and once more for the hedge
+     * @param <T> The type of the response
+     * @return a future completed with the first successful answer, or the failure of the last one. Cancelling it
+     * cancels the check and its hedge.
+     */
+    public <T> CompletableFuture<T> hedge(Supplier<CompletableFuture<T>> check) {
+        credit.getAndUpdate(current -> Math.min(MAXIMUM_CREDIT, current + creditPerCheck));
+        var race = new Race<T>();
+        var primary = attempt(race, check, false);
+        if (primary.isDone()) {
+            return primary;
+        }
+        Runnable sendHedge = () -> sendHedge(race, check);
+        var decorator = taskDecorator;
+        if (decorator != null) {
+            sendHedge = decorator.decorate(sendHedge);
+        }
+        ScheduledFuture<?> timer;
+        try {
+            timer = scheduler.schedule(sendHedge, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException closed) {
+            return primary;
+        }
+        race.result.whenComplete((value, error) -> {
+            timer.cancel(false);
+            primary.cancel(false);
+            var hedge = race.hedge;
+            if (hedge != null) {
+                hedge.cancel(false);
+            }
+        });
+        return race.result;
+    }
+
+    private <T> void sendHedge(Race<T> race, Supplier<CompletableFuture<T>> check) {
+        if (race.result.isDone() || !tryConsumeCredit()) {
+            return;
+        }
+        race.pending.incrementAndGet();
+        hedgeCount.increment();
+        var hedge = attempt(race, check, true);
+        race.hedge = hedge;
+        if (race.result.isDone()) {
+            hedge.cancel(false);
+        }
+    }
+
+    private <T> CompletableFuture<T> attempt(Race<T> race, Supplier<CompletableFuture<T>> check, boolean isHedge) {
+        long start = System.nanoTime();
+        CompletableFuture<T> response;
+        try {
+            response = check.get();
+        } catch (RuntimeException cause) {
+            response = CompletableFuture.failedFuture(cause);
+        }
+        response.whenComplete((value, error) -> {
+            if (error == null) {
+                record(System.nanoTime() - start);
+                if (race.result.complete(value) && isHedge) {
+                    hedgeWinCount.increment();
+                }
+            } else if (race.pending.decrementAndGet() == 0) {
+                race.result.completeExceptionally(error);
+            }
+        });
+        return response;
+    }
+
+    private boolean tryConsumeCredit() {
+        long current;
+        do {
+            current = credit.get();
+            if (current < HEDGE_CREDIT) {
+                return false;
+            }
+        } while (!credit.compareAndSet(current, current - HEDGE_CREDIT));
+        return true;
+    }
+
+    private void record(long latencyNanos) {
+        if (percentile == 0) {
+            return;
+        }
+        long[] snapshot = null;
+        synchronized (lock) {
+            latencies[nextSample] = latencyNanos;
+            nextSample = (nextSample + 1) % SAMPLE_SIZE;
+            sampled = Math.min(sampled + 1, SAMPLE_SIZE);
+            if (++samplesSinceUpdate >= SAMPLES_PER_UPDATE) {
+                samplesSinceUpdate = 0;
+                snapshot = Arrays.copyOf(latencies, sampled);
+            }
+        }
+        if (snapshot != null) {
+            Arrays.sort(snapshot);
+            long latency = snapshot[(int) Math.min(snapshot.length - 1, (long) (percentile * snapshot.length))];
+            delayNanos = Math.max(minimumDelayNanos, latency);
+        }
+    }
+
+    /**
+     * Returns how long a check currently waits for an answer before a hedge is sent.
+     *
+     * @return the hedge delay
+     */
+    public Duration getDelay() {
+        return Duration.ofNanos(delayNanos);
+    }
+
+    /**
+     * Returns the number of hedges sent.
+     *
+     * @return the number of hedges
+     */
+    public long getHedgeCount() {
+        return hedgeCount.sum();
+    }
+
+    /**
+     * Returns the number of hedges that were answered before the check they duplicated.
+     *
+     * @return the number of winning hedges
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.sum();
+    }
+
+    /**
+     * Stop sending hedges. Checks already sent are still answered.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private static final class Race<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private volatile CompletableFuture<T> hedge;
+    }
+}
@@ -0,0 +1,40 @@
+package dev.openfga;
+
+import dev.openfga.sdk.api.client.model.ClientTupleKey;
+import java.util.List;
+
+/**
+ * A single check performed as part of a batch, see {@link OpenFga#checkAll(List)} and
+ * {@link OpenFga#batchCheck(java.util.Collection)}.
+ *
+ * @param objectType The object type of the check
+ * @param objectId The ID of the object to check
+ * @param relation The required relation between the user and the object
+ * @param userType The type of the user
+ * @param userId The ID of the user
+ * @param contextualTuples The contextual tuples to evaluate as part of the check, may be {@code null}
+ * @param context The context object used to evaluate conditions in the authorization model, may be {@code null}
+ */
+public record CheckItem(
+        String objectType,
+        String objectId,
+        String relation,
+        String userType,
+        String userId,
+        List<ClientTupleKey> contextualTuples,
+        Object context) {
+
+    /**
+     * Create a check without contextual tuples or context.
+     *
+     * @param objectType The object type of the check
+     * @param objectId The ID of the object to check
+     * @param relation The required relation between the user and the object
+     * @param userType The type of the user
+     * @param userId The ID of the user
+     * @return the check
+     */
+    public static CheckItem of(String objectType, String objectId, String relation, String userType, String userId) {
+        return new CheckItem(objectType, objectId, relation, userType, userId, null, null);
+    }
+}
@@ -0,0 +1,89 @@
+package dev.openfga;
+
+import dev.openfga.sdk.api.client.model.ClientCheckRequest;
+import dev.openfga.sdk.api.client.model.ClientTupleKey;
+import dev.openfga.sdk.api.model.TupleKey;
+import java.util.List;
+
+/**
+ * Identifies a single FGA check decision. Two checks with equal keys are guaranteed to be evaluated identically by the
+ * FGA server, so a key can be used to cache or share decisions.
+ *
+ * @param storeId The ID of the store the check is evaluated against, may be {@code null}
+ * @param authorizationModelId The ID of the authorization model the check is evaluated against, may be {@code null}
+ * @param user The user of the check, for example {@code user:anne}
+ * @param relation The relation of the check
+ * @param object The object of the check, for example {@code document:roadmap}
+ * @param contextualTuples The contextual tuples evaluated as part of the check, never {@code null}
+ * @param context The context object used to evaluate conditions, may be {@code null}
+ */
+public record CheckKey(
+        String storeId,
+        String authorizationModelId,
+        String user,
+        String relation,
+        String object,
+        List<TupleKey> contextualTuples,
+        Object context) {
+
+    /**
+     * Create a key for the given check request.
+     *
+     * @param storeId The ID of the store the check is evaluated against, may be {@code null}
+     * @param authorizationModelId The ID of the authorization model the check is evaluated against, may be {@code null}
+     * @param request The check request
+     * @return the key identifying the check decision
+     */
+    public static CheckKey of(String storeId, String authorizationModelId, ClientCheckRequest request) {
+        return of(
+                storeId,
+                authorizationModelId,
+                request.getUser(),
+                request.getRelation(),
+                request.getObject(),
+                request.getContextualTuples(),
+                request.getContext());
+    }
+
+    /**
+     * Create a key for a check of the given user, relation and object.
+     *
+     * @param storeId The ID of the store the check is evaluated against, may be {@code null}
+     * @param authorizationModelId The ID of the authorization model the check is evaluated against, may be {@code null}
+     * @param user The user of the check, for example {@code user:anne}
+     * @param relation The relation of the check
+     * @param object The object of the check, for example {@code document:roadmap}
+     * @param contextualTuples The contextual tuples evaluated as part of the check, may be {@code null}
+     * @param context The context object used to evaluate conditions, may be {@code null}
+     * @return the key identifying the check decision
+     */
+    public static CheckKey of(
+            String storeId,
+            String authorizationModelId,
+            String user,
+            String relation,
+            String object,
+            List<ClientTupleKey> contextualTuples,
+            Object context) {
+        return new CheckKey(
+                storeId,
+                authorizationModelId,
+                user,
+                relation,
+                object,
+                contextualTuples == null
+                        ? List.of()
+                        : contextualTuples.stream().map(ClientTupleKey::asTupleKey).toList(),
+                context);
+    }
+
+    /**
+     * Returns the type of the object of the check, for example {@code document} for {@code document:roadmap}.
+     *
+     * @return the object type
+     */
+    public String objectType() {
+        int separator = object.indexOf(':');
+        return separator < 0 ? object : object.substring(0, separator);
+    }
+}
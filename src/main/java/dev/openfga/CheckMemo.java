@@ -0,0 +1,73 @@
+package dev.openfga;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Remembers the check decisions made while handling a single web request, so that repeated checks within the request
+ * do not cause additional round trips. Unlike the {@link CheckCache}, a memo never outlives its request, so it cannot
+ * serve decisions that are stale by more than the duration of the request.<br/>
+ *
+ * For servlet applications the memo is stored as a request attribute, see {@link #current()}. For reactive
+ * applications it is stored in the Reactor context under {@link #CONTEXT_KEY}, see {@link CheckMemoWebFilter}.
+ */
+public final class CheckMemo {
+
+    /**
+     * The key under which the memo of the current request is stored, both as a servlet request attribute and in the
+     * Reactor context.
+     */
+    public static final String CONTEXT_KEY = CheckMemo.class.getName();
+
+    private final ConcurrentHashMap<CheckKey, Boolean> decisions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the memo of the servlet request bound to the current thread, creating it if necessary.
+     *
+     * @return the memo of the current request, or {@code null} if no request is bound to the current thread
+     */
+    public static CheckMemo current() {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        var memo = (CheckMemo) attributes.getAttribute(CONTEXT_KEY, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new CheckMemo();
+            attributes.setAttribute(CONTEXT_KEY, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+
+    /**
+     * Look up a decision made earlier in the request.
+     *
+     * @param key The key of the check
+     * @return the remembered decision, or {@code null} if the check was not performed yet
+     */
+    public Boolean get(CheckKey key) {
+        return decisions.get(key);
+    }
+
+    /**
+     * Remember a decision for the rest of the request.
+     *
+     * @param key The key of the check
+     * @param allowed The decision returned for the check
+     */
+    public void put(CheckKey key, boolean allowed) {
+        decisions.put(key, allowed);
+    }
+
+    /**
+     * Forget the decisions matching a predicate, for example because the request changed the tuples they were
+     * evaluated from.
+     *
+     * @param predicate Tests the key and the decision of every remembered check
+     */
+    public void invalidateIf(BiPredicate<CheckKey, Boolean> predicate) {
+        decisions.entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue()));
+    }
+}
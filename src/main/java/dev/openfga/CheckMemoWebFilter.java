@@ -0,0 +1,18 @@
+package dev.openfga;
+
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link WebFilter} that binds a fresh {@link CheckMemo} to the Reactor context of every request, so that reactive
+ * checks made while handling the request can share their decisions.
+ */
+public class CheckMemoWebFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return chain.filter(exchange).contextWrite(context -> context.put(CheckMemo.CONTEXT_KEY, new CheckMemo()));
+    }
+}
@@ -0,0 +1,20 @@
+package dev.openfga;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a {@link CheckCircuitBreaker} rejects a check because it is open, so the check was not sent to the FGA
+ * server.
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = -3196521764880349812L;
+
+    /**
+     * Create a new exception.
+     */
+    public CircuitOpenException() {
+        super("The circuit breaker is open, the check was not sent to the FGA server");
+    }
+}
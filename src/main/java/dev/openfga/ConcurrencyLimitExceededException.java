@@ -0,0 +1,22 @@
+package dev.openfga;
+
+import java.io.Serial;
+
+/**
+ * Thrown when an {@link OpenFgaConcurrencyLimiter} sheds a request because too many requests were in flight, and the
+ * request could not wait for a slot, or waited too long. The request was not sent to the FGA server.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 4417021843129570583L;
+
+    /**
+     * Create a new exception.
+     *
+     * @param operation The operation of the shed request, such as {@link OpenFgaCall#CHECK}
+     */
+    public ConcurrencyLimitExceededException(String operation) {
+        super("Too many concurrent requests to the FGA server, the " + operation + " request was not sent");
+    }
+}
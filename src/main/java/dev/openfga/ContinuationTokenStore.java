@@ -0,0 +1,22 @@
+package dev.openfga;
+
+/**
+ * Persists the continuation token of the ReadChanges feed consumed by a {@link ReadChangesWatcher}, so that a restarted
+ * watcher resumes where it stopped instead of starting at the head of the feed.
+ */
+public interface ContinuationTokenStore {
+
+    /**
+     * Load the last saved continuation token.
+     *
+     * @return the continuation token, or {@code null} to start at the head of the feed
+     */
+    String load();
+
+    /**
+     * Save a continuation token after the changes before it were processed.
+     *
+     * @param continuationToken The continuation token to save
+     */
+    void save(String continuationToken);
+}
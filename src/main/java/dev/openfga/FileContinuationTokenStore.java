@@ -0,0 +1,52 @@
+package dev.openfga;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * A {@link ContinuationTokenStore} that keeps the continuation token in a file. The file is replaced atomically, so a
+ * crash while saving leaves either the previous or the new token behind.
+ */
+public class FileContinuationTokenStore implements ContinuationTokenStore {
+
+    private final Path file;
+
+    /**
+     * Create a new file continuation token store.
+     *
+     * @param file The file to keep the continuation token in. Its parent directory is created if necessary.
+     */
+    public FileContinuationTokenStore(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public String load() {
+        try {
+            if (!Files.exists(file)) {
+                return null;
+            }
+            var continuationToken = Files.readString(file, StandardCharsets.UTF_8).strip();
+            return continuationToken.isEmpty() ? null : continuationToken;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read continuation token from " + file, e);
+        }
+    }
+
+    @Override
+    public void save(String continuationToken) {
+        try {
+            var directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            var temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            Files.writeString(temporaryFile, continuationToken, StandardCharsets.UTF_8);
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write continuation token to " + file, e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package dev.openfga;
+
+/**
+ * A {@link ContinuationTokenStore} that keeps the continuation token in memory only, so a restarted application starts
+ * at the head of the ReadChanges feed.
+ */
+public class InMemoryContinuationTokenStore implements ContinuationTokenStore {
+
+    private volatile String continuationToken;
+
+    @Override
+    public String load() {
+        return continuationToken;
+    }
+
+    @Override
+    public void save(String continuationToken) {
+        this.continuationToken = continuationToken;
+    }
+}
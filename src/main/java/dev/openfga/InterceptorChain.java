@@ -0,0 +1,43 @@
+package dev.openfga;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Sends a request through a list of {@link OpenFgaInterceptor}s.
+ */
+public final class InterceptorChain {
+
+    private InterceptorChain() {}
+
+    /**
+     * Send a request through the interceptors, the first one being the outermost.
+     *
+     * @param interceptors The interceptors to send the request through, may be empty
+     * @param call Describes the request
+     * @param request Sends the request
+     * @param <T> The type of the response
+     * @return a future completed with the response. A failure thrown by an interceptor or the request completes it
+     * exceptionally.
+     */
+    public static <T> CompletableFuture<T> send(
+            List<OpenFgaInterceptor> interceptors, OpenFgaCall call, Supplier<CompletableFuture<T>> request) {
+        var next = request;
+        for (int i = interceptors.size() - 1; i >= 0; i--) {
+            var interceptor = interceptors.get(i);
+            var inner = next;
+            next = () -> intercept(interceptor, call, inner);
+        }
+        return next.get();
+    }
+
+    private static <T> CompletableFuture<T> intercept(
+            OpenFgaInterceptor interceptor, OpenFgaCall call, Supplier<CompletableFuture<T>> next) {
+        try {
+            return interceptor.intercept(call, next);
+        } catch (RuntimeException cause) {
+            return CompletableFuture.failedFuture(cause);
+        }
+    }
+}
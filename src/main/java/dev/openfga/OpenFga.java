@@ -1,11 +1,30 @@
 package dev.openfga;
 
 import dev.openfga.sdk.api.client.OpenFgaClient;
+import dev.openfga.sdk.api.client.model.ClientBatchCheckItem;
+import dev.openfga.sdk.api.client.model.ClientBatchCheckRequest;
 import dev.openfga.sdk.api.client.model.ClientCheckRequest;
+import dev.openfga.sdk.api.client.model.ClientListObjectsRequest;
 import dev.openfga.sdk.api.client.model.ClientTupleKey;
-import dev.openfga.sdk.errors.FgaInvalidParameterException;
+import dev.openfga.sdk.api.configuration.ClientBatchCheckOptions;
+import dev.openfga.sdk.api.model.StreamedListObjectsResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 /**
@@ -22,8 +41,27 @@ import org.springframework.security.core.context.SecurityContextHolder;
  */
 public class OpenFga {
 
+    private static final Logger logger = LoggerFactory.getLogger(OpenFga.class);
+
+    static final int STREAM_BUFFER_SIZE = 256;
+
+    private static final Duration STREAM_MAX_WAIT = Duration.ofSeconds(30);
+
     private final OpenFgaClient fgaClient;
     private final OpenFgaExceptionHandler exceptionHandler;
+    private CheckCache checkCache;
+    private CheckCoalescer checkCoalescer;
+    private CheckBatcher checkBatcher;
+    private CheckCircuitBreaker circuitBreaker;
+    private CheckHedger checkHedger;
+    private boolean requestMemoization = true;
+    private int maxBatchSize = 50;
+    private int maxParallelRequests = 10;
+    private int listObjectsThreshold = 100;
+    private int listObjectsMaxResults = 1000;
+    private Duration listObjectsDeadline = Duration.ofSeconds(3);
+    private List<OpenFgaInterceptor> interceptors = List.of();
+    private List<OpenFgaInterceptor> checkInterceptors = List.of();
 
     /**
      * Create a new OpenFGA instance.
@@ -36,6 +74,144 @@ public class OpenFga {
         this.exceptionHandler = exceptionHandler;
     }
 
+    /**
+     * Set the {@link CheckCache} used to answer repeated checks without a network round trip. Decisions are cached
+     * per store, authorization model, user, relation, object, contextual tuples and context.
+     *
+     * @param checkCache The {@link CheckCache} to use, or {@code null} to always call the FGA server
+     */
+    public void setCheckCache(CheckCache checkCache) {
+        this.checkCache = checkCache;
+    }
+
+    /**
+     * Set the {@link CheckCoalescer} used to share a single request between identical checks that are in flight at
+     * the same time.
+     *
+     * @param checkCoalescer The {@link CheckCoalescer} to use, or {@code null} to send every check on its own
+     */
+    public void setCheckCoalescer(CheckCoalescer checkCoalescer) {
+        this.checkCoalescer = checkCoalescer;
+    }
+
+    /**
+     * Set the {@link CheckBatcher} used to combine checks from concurrent callers into batch check requests. If the
+     * batcher has a {@linkplain CheckBatcher#setConcurrencyLimiter(OpenFgaConcurrencyLimiter) concurrency limiter},
+     * which must be set beforehand, the checks submitted to it skip that limiter among the interceptors, as it limits
+     * the requests the batcher sends instead.
+     *
+     * @param checkBatcher The {@link CheckBatcher} to use, or {@code null} to send every check on its own
+     */
+    public void setCheckBatcher(CheckBatcher checkBatcher) {
+        this.checkBatcher = checkBatcher;
+        this.checkInterceptors = checkInterceptors(interceptors, checkBatcher);
+    }
+
+    /**
+     * Set the {@link CheckCircuitBreaker} that stops checks from being sent while the FGA server is failing or slow.
+     * Rejected checks are answered with a stale cached decision if there is one, or the breaker's open decision.
+     *
+     * @param circuitBreaker The {@link CheckCircuitBreaker} to use, or {@code null} to always send checks
+     */
+    public void setCircuitBreaker(CheckCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Set the {@link CheckHedger} used to send a duplicate of a check that is not answered within the hedge delay.
+     * Every request, including the duplicate, is sent through the interceptors.
+     *
+     * @param checkHedger The {@link CheckHedger} to use, or {@code null} to never send duplicate checks
+     */
+    public void setCheckHedger(CheckHedger checkHedger) {
+        this.checkHedger = checkHedger;
+    }
+
+    /**
+     * Set whether check decisions are remembered for the rest of the web request they were made in, see
+     * {@link CheckMemo}. Defaults to {@code true}.
+     *
+     * @param requestMemoization Whether to remember decisions per request
+     */
+    public void setRequestMemoization(boolean requestMemoization) {
+        this.requestMemoization = requestMemoization;
+    }
+
+    /**
+     * Set the maximum number of checks sent in a single batch check request. Larger batches are split into chunks of
+     * this size. Defaults to 50.
+     *
+     * @param maxBatchSize The maximum number of checks per request, must be positive
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Set the maximum number of batch check requests in flight at the same time for a single batch. Defaults to 10.
+     *
+     * @param maxParallelRequests The maximum number of parallel requests, must be positive
+     */
+    public void setMaxParallelRequests(int maxParallelRequests) {
+        this.maxParallelRequests = maxParallelRequests;
+    }
+
+    /**
+     * Set the collection size from which {@link #filter(Collection, Function, String, String, String, String)} lists
+     * the objects the user has the relation to, instead of checking every element. Defaults to 100.
+     *
+     * @param listObjectsThreshold The minimum collection size to use list objects for, must be positive
+     */
+    public void setListObjectsThreshold(int listObjectsThreshold) {
+        this.listObjectsThreshold = listObjectsThreshold;
+    }
+
+    /**
+     * Set the maximum number of objects the FGA server returns from list objects, its
+     * {@code OPENFGA_LIST_OBJECTS_MAX_RESULTS}. A response holding that many objects may be truncated, so
+     * {@link #filter(Collection, Function, String, String, String, String)} checks the elements missing from it.
+     * Defaults to 1000, the server's default.
+     *
+     * @param listObjectsMaxResults The maximum number of objects per response, must be positive
+     */
+    public void setListObjectsMaxResults(int listObjectsMaxResults) {
+        this.listObjectsMaxResults = listObjectsMaxResults;
+    }
+
+    /**
+     * Set the time after which the FGA server stops listing objects and returns those found so far, its
+     * {@code OPENFGA_LIST_OBJECTS_DEADLINE}. A response that took that long may be truncated, so
+     * {@link #filter(Collection, Function, String, String, String, String)} checks the elements missing from it.
+     * Defaults to 3 seconds, the server's default.
+     *
+     * @param listObjectsDeadline The list objects deadline of the server, must be positive
+     */
+    public void setListObjectsDeadline(Duration listObjectsDeadline) {
+        this.listObjectsDeadline = listObjectsDeadline;
+    }
+
+    /**
+     * Set the {@link OpenFgaInterceptor}s that requests to the FGA server are sent through, for example to record
+     * metrics. The first interceptor is the outermost.
+     *
+     * @param interceptors The interceptors to use, may be empty
+     */
+    public void setInterceptors(List<OpenFgaInterceptor> interceptors) {
+        this.interceptors = List.copyOf(interceptors);
+        this.checkInterceptors = checkInterceptors(this.interceptors, checkBatcher);
+    }
+
+    private static List<OpenFgaInterceptor> checkInterceptors(
+            List<OpenFgaInterceptor> interceptors, CheckBatcher checkBatcher) {
+        var limiter = checkBatcher != null ? checkBatcher.getConcurrencyLimiter() : null;
+        if (limiter == null) {
+            return interceptors;
+        }
+        return interceptors.stream()
+                .filter(interceptor -> interceptor != limiter)
+                .toList();
+    }
+
     /**
      * Perform an FGA check. Returns {@code true} if the user has the specified relationship with the object, {@code false}
      * otherwise. The user ID will be obtained from the authentication name in the {@link org.springframework.security.core.context.SecurityContext}
@@ -49,12 +225,7 @@ public class OpenFga {
      * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/Check">FGA Check API</a>
      */
     public boolean check(String objectType, String objectId, String relation, String userType) {
-        var authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null) {
-            throw new IllegalStateException(
-                    "No user provided, and no authentication could be found in the security context");
-        }
-        return check(objectType, objectId, relation, userType, authentication.getName());
+        return check(objectType, objectId, relation, userType, currentUserId());
     }
 
     /**
@@ -98,12 +269,7 @@ public class OpenFga {
             String userType,
             List<ClientTupleKey> contextualTuples,
             Object context) {
-        var authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null) {
-            throw new IllegalStateException(
-                    "No user provided, and no authentication could be found in the security context");
-        }
-        return check(objectType, objectId, relation, userType, authentication.getName(), contextualTuples, context);
+        return check(objectType, objectId, relation, userType, currentUserId(), contextualTuples, context);
     }
 
     /**
@@ -131,20 +297,742 @@ public class OpenFga {
             String userId,
             List<ClientTupleKey> contextualTuples,
             Object context) {
+        var decision = evaluate(
+                typedId(userType, userId),
+                relation,
+                typedId(objectType, objectId),
+                contextualTuples,
+                context,
+                currentMemo());
+        return await(decision, "Error performing FGA check");
+    }
+
+    /**
+     * Perform an FGA check without blocking the calling thread, see {@link #check(String, String, String, String)}.
+     * The user ID is obtained from the {@link org.springframework.security.core.context.SecurityContext} of the calling
+     * thread before this method returns, so the future may be completed on any thread.
+     *
+     * @param objectType The object type of the check
+     * @param objectId The ID of the object to check
+     * @param relation The required relation between the user and the object
+     * @param userType The type of the user
+     * @return a future completed with true if the user has the required relation to the object, false otherwise, or
+     * completed exceptionally with an {@link OpenFgaException} if the check failed
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/Check">FGA Check API</a>
+     */
+    public CompletableFuture<Boolean> checkAsync(String objectType, String objectId, String relation, String userType) {
+        return checkAsync(objectType, objectId, relation, userType, currentUserId());
+    }
+
+    /**
+     * Perform an FGA check without blocking the calling thread, see
+     * {@link #check(String, String, String, String, String)}.
+     *
+     * @param objectType The object type of the check
+     * @param objectId The ID of the object to check
+     * @param relation The required relation between the user and the object
+     * @param userType The type of the user
+     * @param userId The ID of the user
+     * @return a future completed with true if the user has the required relation to the object, false otherwise, or
+     * completed exceptionally with an {@link OpenFgaException} if the check failed
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/Check">FGA Check API</a>
+     */
+    public CompletableFuture<Boolean> checkAsync(
+            String objectType, String objectId, String relation, String userType, String userId) {
+        return checkAsync(objectType, objectId, relation, userType, userId, null, null);
+    }
+
+    /**
+     * Perform an FGA check without blocking the calling thread, supplying contextual tuples and/or a context object
+     * for the evaluation, see {@link #check(String, String, String, String, List, Object)}. The user ID is obtained
+     * from the {@link org.springframework.security.core.context.SecurityContext} of the calling thread before this
+     * method returns, so the future may be completed on any thread.
+     *
+     * @param objectType The object type of the check
+     * @param objectId The ID of the object to check
+     * @param relation The required relation between the user and the object
+     * @param userType The type of the user
+     * @param contextualTuples The contextual tuples to evaluate as part of the check, may be {@code null}
+     * @param context The context object used to evaluate conditions in the authorization model, may be {@code null}
+     * @return a future completed with true if the user has the required relation to the object, false otherwise, or
+     * completed exceptionally with an {@link OpenFgaException} if the check failed
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/Check">FGA Check API</a>
+     */
+    public CompletableFuture<Boolean> checkAsync(
+            String objectType,
+            String objectId,
+            String relation,
+            String userType,
+            List<ClientTupleKey> contextualTuples,
+            Object context) {
+        return checkAsync(objectType, objectId, relation, userType, currentUserId(), contextualTuples, context);
+    }
+
+    /**
+     * Perform an FGA check without blocking the calling thread, supplying contextual tuples and/or a context object
+     * for the evaluation, see {@link #check(String, String, String, String, String, List, Object)}.
+     *
+     * @param objectType The object type of the check
+     * @param objectId The ID of the object to check
+     * @param relation The required relation between the user and the object
+     * @param userType The type of the user
+     * @param userId The ID of the user
+     * @param contextualTuples The contextual tuples to evaluate as part of the check, may be {@code null}
+     * @param context The context object used to evaluate conditions in the authorization model, may be {@code null}
+     * @return a future completed with true if the user has the required relation to the object, false otherwise, or
+     * completed exceptionally with an {@link OpenFgaException} if the check failed
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/Check">FGA Check API</a>
+     */
+    public CompletableFuture<Boolean> checkAsync(
+            String objectType,
+            String objectId,
+            String relation,
+            String userType,
+            String userId,
+            List<ClientTupleKey> contextualTuples,
+            Object context) {
+        return checkAsync(objectType, objectId, relation, userType, userId, contextualTuples, context, currentMemo());
+    }
+
+    CompletableFuture<Boolean> checkAsync(
+            String objectType,
+            String objectId,
+            String relation,
+            String userType,
+            String userId,
+            List<ClientTupleKey> contextualTuples,
+            Object context,
+            CheckMemo memo) {
+        var decision = evaluate(
+                typedId(userType, userId),
+                relation,
+                typedId(objectType, objectId),
+                contextualTuples,
+                context,
+                requestMemoization ? memo : null);
+        return mapFailure(decision, "Error performing FGA check");
+    }
+
+    /**
+     * Perform many FGA checks for the currently authenticated user with as few requests as possible. The user ID will
+     * be obtained from the authentication name in the {@link org.springframework.security.core.context.SecurityContext}.
+     *
+     * @param objectType The object type of the checks
+     * @param objectIds The IDs of the objects to check
+     * @param relation The required relation between the user and each object
+     * @param userType The type of the user
+     * @return a {@link BitSet} in which bit {@code i} is set if the user has the required relation to
+     * {@code objectIds.get(i)}
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/BatchCheck">FGA Batch Check API</a>
+     */
+    public BitSet checkAll(String objectType, List<String> objectIds, String relation, String userType) {
+        var userId = currentUserId();
+        var items = new ArrayList<CheckItem>(objectIds.size());
+        for (var objectId : objectIds) {
+            items.add(CheckItem.of(objectType, objectId, relation, userType, userId));
+        }
+        return checkAll(items);
+    }
+
+    /**
+     * Perform many FGA checks with as few requests as possible. The checks are sent to the FGA server's batch check
+     * endpoint in chunks of at most {@link #setMaxBatchSize(int) maxBatchSize} checks, with at most
+     * {@link #setMaxParallelRequests(int) maxParallelRequests} chunks in flight at the same time. Decisions already
+     * held by the {@link CheckCache} are not sent again.
+     *
+     * @param items The checks to perform
+     * @return a {@link BitSet} in which bit {@code i} is set if the check {@code items.get(i)} is allowed
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/BatchCheck">FGA Batch Check API</a>
+     */
+    public BitSet checkAll(List<CheckItem> items) {
+        return await(evaluateAll(items), "Error performing FGA batch check");
+    }
+
+    /**
+     * Perform many FGA checks for the currently authenticated user without blocking the calling thread, see
+     * {@link #checkAll(String, List, String, String)}. The user ID is obtained from the
+     * {@link org.springframework.security.core.context.SecurityContext} of the calling thread before this method
+     * returns.
+     *
+     * @param objectType The object type of the checks
+     * @param objectIds The IDs of the objects to check
+     * @param relation The required relation between the user and each object
+     * @param userType The type of the user
+     * @return a future completed with a {@link BitSet} in which bit {@code i} is set if the user has the required
+     * relation to {@code objectIds.get(i)}, or completed exceptionally with an {@link OpenFgaException}
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/BatchCheck">FGA Batch Check API</a>
+     */
+    public CompletableFuture<BitSet> checkAllAsync(
+            String objectType, List<String> objectIds, String relation, String userType) {
+        var userId = currentUserId();
+        var items = new ArrayList<CheckItem>(objectIds.size());
+        for (var objectId : objectIds) {
+            items.add(CheckItem.of(objectType, objectId, relation, userType, userId));
+        }
+        return checkAllAsync(items);
+    }
+
+    /**
+     * Perform many FGA checks without blocking the calling thread, see {@link #checkAll(List)}.
+     *
+     * @param items The checks to perform
+     * @return a future completed with a {@link BitSet} in which bit {@code i} is set if the check
+     * {@code items.get(i)} is allowed, or completed exceptionally with an {@link OpenFgaException}
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/BatchCheck">FGA Batch Check API</a>
+     */
+    public CompletableFuture<BitSet> checkAllAsync(List<CheckItem> items) {
+        return mapFailure(evaluateAll(items), "Error performing FGA batch check");
+    }
+
+    private CompletableFuture<BitSet> evaluateAll(List<CheckItem> items) {
+        var allowed = new BitSet(items.size());
+        var keys = checkCache != null ? new CheckKey[items.size()] : null;
+        var checks = new ArrayList<ClientBatchCheckItem>(items.size());
+        String userType = null;
+        String userId = null;
+        String user = null;
+        for (int i = 0; i < items.size(); i++) {
+            var item = items.get(i);
+            // the items of a batch usually share the same user instances, so its identifier is only built once
+            if (user == null || item.userType() != userType || item.userId() != userId) {
+                userType = item.userType();
+                userId = item.userId();
+                user = typedId(userType, userId);
+            }
+            var object = typedId(item.objectType(), item.objectId());
+            if (keys != null) {
+                keys[i] = CheckKey.of(
+                        fgaClient.getStoreId(),
+                        fgaClient.getAuthorizationModelId(),
+                        user,
+                        item.relation(),
+                        object,
+                        item.contextualTuples(),
+                        item.context());
+                Boolean cached = checkCache.get(keys[i]);
+                if (cached != null) {
+                    if (checkCache.tryStartRefresh(keys[i])) {
+                        refresh(keys[i], item.contextualTuples());
+                    }
+                    for (var interceptor : interceptors) {
+                        var call = new OpenFgaCall(OpenFgaCall.CHECK, item.objectType(), item.relation(), object);
+                        interceptor.onCacheHit(call, cached);
+                    }
+                    allowed.set(i, cached);
+                    continue;
+                }
+            }
+            var check = new ClientBatchCheckItem()
+                    .user(user)
+                    .relation(item.relation())
+                    ._object(object)
+                    .correlationId(Integer.toString(i));
+            if (item.contextualTuples() != null) {
+                check.contextualTuples(item.contextualTuples());
+            }
+            if (item.context() != null) {
+                check.context(item.context());
+            }
+            checks.add(check);
+        }
+        if (checks.isEmpty()) {
+            return CompletableFuture.completedFuture(allowed);
+        }
+        var options = new ClientBatchCheckOptions().maxBatchSize(maxBatchSize).maxParallelRequests(maxParallelRequests);
+        var request = new ClientBatchCheckRequest().checks(checks);
+        long generation = cacheGeneration();
+        return send(OpenFgaCall.BATCH_CHECK, items, () -> fgaClient.batchCheck(request, options))
+                .thenApply(response -> {
+                    for (var result : response.getResult()) {
+                        if (result.getError() != null) {
+                            throw new CompletionException(CheckErrors.toFgaError(result.getError()));
+                        }
+                        int index = Integer.parseInt(result.getCorrelationId());
+                        allowed.set(index, result.isAllowed());
+                        if (keys != null) {
+                            checkCache.put(keys[index], result.isAllowed(), generation);
+                        }
+                    }
+                    return allowed;
+                });
+    }
+
+    /**
+     * Perform many FGA checks with as few requests as possible, see {@link #checkAll(List)}.
+     *
+     * @param items The checks to perform
+     * @return the decision of every check, in the iteration order of {@code items}
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/BatchCheck">FGA Batch Check API</a>
+     */
+    public Map<CheckItem, Boolean> batchCheck(Collection<CheckItem> items) {
+        var list = List.copyOf(items);
+        return toDecisions(list, checkAll(list));
+    }
+
+    /**
+     * Perform many FGA checks without blocking the calling thread, see {@link #batchCheck(Collection)}.
+     *
+     * @param items The checks to perform
+     * @return a future completed with the decision of every check, in the iteration order of {@code items}, or
+     * completed exceptionally with an {@link OpenFgaException}
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/BatchCheck">FGA Batch Check API</a>
+     */
+    public CompletableFuture<Map<CheckItem, Boolean>> batchCheckAsync(Collection<CheckItem> items) {
+        var list = List.copyOf(items);
+        return checkAllAsync(list).thenApply(allowed -> toDecisions(list, allowed));
+    }
+
+    private static Map<CheckItem, Boolean> toDecisions(List<CheckItem> list, BitSet allowed) {
+        var decisions = new LinkedHashMap<CheckItem, Boolean>(list.size() * 2);
+        for (int i = 0; i < list.size(); i++) {
+            decisions.put(list.get(i), allowed.get(i));
+        }
+        return decisions;
+    }
+
+    /**
+     * Keep only the elements of a collection the currently authenticated user has a relation to, see
+     * {@link #filter(Collection, Function, String, String, String, String)}. The user ID will be obtained from the
+     * authentication name in the {@link org.springframework.security.core.context.SecurityContext}.
+     *
+     * @param items The elements to filter
+     * @param idExtractor Extracts the object ID of an element
+     * @param objectType The object type of the elements
+     * @param relation The required relation between the user and each element
+     * @param userType The type of the user
+     * @param <T> The type of the elements
+     * @return the elements the user has the required relation to, in their original order
+     */
+    public <T> List<T> filter(
+            Collection<T> items,
+            Function<? super T, String> idExtractor,
+            String objectType,
+            String relation,
+            String userType) {
+        return filter(items, idExtractor, objectType, relation, userType, currentUserId());
+    }
+
+    /**
+     * Keep only the elements of a collection a user has a relation to. The whole collection is authorized at once:
+     * collections smaller than the {@link #setListObjectsThreshold(int) list objects threshold} with a batch check,
+     * larger ones by listing the objects of the type the user has the relation to.<br/>
+     *
+     * The server caps list objects at {@link #setListObjectsMaxResults(int) max results} objects and stops listing at
+     * its {@link #setListObjectsDeadline(Duration) deadline}, so a response that reached either limit may be
+     * truncated. The elements missing from such a response are then checked with a batch check, so that none is
+     * dropped.
+     *
+     * @param items The elements to filter
+     * @param idExtractor Extracts the object ID of an element
+     * @param objectType The object type of the elements
+     * @param relation The required relation between the user and each element
+     * @param userType The type of the user
+     * @param userId The ID of the user
+     * @param <T> The type of the elements
+     * @return the elements the user has the required relation to, in their original order
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/BatchCheck">FGA Batch Check API</a>
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/ListObjects">FGA List Objects API</a>
+     */
+    public <T> List<T> filter(
+            Collection<T> items,
+            Function<? super T, String> idExtractor,
+            String objectType,
+            String relation,
+            String userType,
+            String userId) {
+        var list = new ArrayList<T>(items);
+        var objectIds = new ArrayList<String>(list.size());
+        for (var item : list) {
+            objectIds.add(idExtractor.apply(item));
+        }
+        var allowed = new BitSet(list.size());
+        var unknown = new BitSet(list.size());
+        if (list.size() >= listObjectsThreshold) {
+            var request = new ClientListObjectsRequest()
+                    .user(typedId(userType, userId))
+                    .relation(relation)
+                    .type(objectType);
+            long start = System.nanoTime();
+            var response = await(
+                    send(OpenFgaCall.LIST_OBJECTS, objectType, relation, () -> fgaClient.listObjects(request)),
+                    "Error performing FGA list objects");
+            boolean truncated = response.getObjects().size() >= listObjectsMaxResults
+                    || System.nanoTime() - start >= listObjectsDeadline.toNanos();
+            var objects = new HashSet<>(response.getObjects());
+            var prefix = objectType + ':';
+            for (int i = 0; i < list.size(); i++) {
+                if (objects.contains(prefix + objectIds.get(i))) {
+                    allowed.set(i);
+                } else if (truncated) {
+                    unknown.set(i);
+                }
+            }
+        } else {
+            unknown.set(0, list.size());
+        }
+        if (!unknown.isEmpty()) {
+            var indexes = unknown.stream().toArray();
+            var checks = new ArrayList<CheckItem>(indexes.length);
+            for (int index : indexes) {
+                checks.add(CheckItem.of(objectType, objectIds.get(index), relation, userType, userId));
+            }
+            var checked = checkAll(checks);
+            for (int i = checked.nextSetBit(0); i >= 0; i = checked.nextSetBit(i + 1)) {
+                allowed.set(indexes[i]);
+            }
+        }
+        var permitted = new ArrayList<T>(allowed.cardinality());
+        for (int i = allowed.nextSetBit(0); i >= 0; i = allowed.nextSetBit(i + 1)) {
+            permitted.add(list.get(i));
+        }
+        return permitted;
+    }
+
+    /**
+     * List the objects of a type the currently authenticated user has a relation to, as a stream, see
+     * {@link #streamObjects(String, String, String, String)}. The user ID will be obtained from the authentication name
+     * in the {@link org.springframework.security.core.context.SecurityContext}.
+     *
+     * @param objectType The type of the objects to list
+     * @param relation The required relation between the user and the objects
+     * @param userType The type of the user
+     * @return a stream of the objects, such as {@code document:1}, that must be closed once no longer used
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/StreamedListObjects">FGA Streamed List Objects API</a>
+     */
+    public Stream<String> streamObjects(String objectType, String relation, String userType) {
+        return streamObjects(objectType, relation, userType, currentUserId());
+    }
+
+    /**
+     * List the objects of a type a user has a relation to, as a stream. The objects are read from the server's streamed
+     * list objects endpoint as they arrive, so the first object is available before the last one was sent, and at
+     * most a few hundred objects are held in memory at any time. Closing the stream cancels the request. A stream that
+     * is neither read nor closed for 30 seconds is cancelled as abandoned, and then fails when it is read.
+     *
+     * @param objectType The type of the objects to list
+     * @param relation The required relation between the user and the objects
+     * @param userType The type of the user
+     * @param userId The ID of the user
+     * @return a stream of the objects, such as {@code document:1}, that must be closed once no longer used
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/StreamedListObjects">FGA Streamed List Objects API</a>
+     */
+    public Stream<String> streamObjects(String objectType, String relation, String userType, String userId) {
+        var objects = new StreamedObjects(STREAM_BUFFER_SIZE, STREAM_MAX_WAIT, this::streamFailure);
+        objects.start(streamObjects(objectType, relation, userType, userId, objects));
+        return objects.stream();
+    }
+
+    CompletableFuture<Void> streamObjects(
+            String objectType,
+            String relation,
+            String userType,
+            String userId,
+            Consumer<StreamedListObjectsResponse> consumer) {
+        var request = new ClientListObjectsRequest()
+                .user(typedId(userType, userId))
+                .relation(relation)
+                .type(objectType);
+        return send(
+                OpenFgaCall.STREAMED_LIST_OBJECTS,
+                objectType,
+                relation,
+                () -> fgaClient.streamedListObjects(request, consumer));
+    }
+
+    OpenFgaException streamFailure(Throwable error) {
+        return exceptionHandler.handle(unwrap(error), "Error performing FGA streamed list objects");
+    }
+
+    private static String currentUserId() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new IllegalStateException(
+                    "No user provided, and no authentication could be found in the security context");
+        }
+        return authentication.getName();
+    }
+
+    private CheckMemo currentMemo() {
+        return requestMemoization ? CheckMemo.current() : null;
+    }
+
+    // Runs at least twice per check: unlike String.format, concatenation does not parse a pattern and allocates the
+    // result exactly sized.
+    private static String typedId(String type, String id) {
+        return type + ':' + id;
+    }
+
+    static ClientCheckRequest checkRequest(
+            String objectType,
+            String objectId,
+            String relation,
+            String userType,
+            String userId,
+            List<ClientTupleKey> contextualTuples,
+            Object context) {
+        return checkRequest(
+                typedId(userType, userId), relation, typedId(objectType, objectId), contextualTuples, context);
+    }
+
+    private static ClientCheckRequest checkRequest(CheckKey key, List<ClientTupleKey> contextualTuples) {
+        return checkRequest(key.user(), key.relation(), key.object(), contextualTuples, key.context());
+    }
+
+    private static ClientCheckRequest checkRequest(
+            String user, String relation, String object, List<ClientTupleKey> contextualTuples, Object context) {
         var body = new ClientCheckRequest()
-                .user(String.format("%s:%s", userType, userId))
+                .user(user)
                 .relation(relation)
-                ._object(String.format("%s:%s", objectType, objectId));
+                ._object(object);
         if (contextualTuples != null) {
             body.contextualTuples(contextualTuples);
         }
         if (context != null) {
             body.context(context);
         }
+        return body;
+    }
+
+    /**
+     * Evaluates a check from its parts. With a memo, a cache or a coalescer, the check is identified by its
+     * {@link CheckKey}, and the SDK request is only built once the check has to be sent, so that decisions answered
+     * from the memo or the cache allocate nothing but the key.
+     */
+    private CompletableFuture<Boolean> evaluate(
+            String user,
+            String relation,
+            String object,
+            List<ClientTupleKey> contextualTuples,
+            Object context,
+            CheckMemo memo) {
+        if (memo == null && checkCache == null && checkCoalescer == null) {
+            var decision = sendCheck(checkRequest(user, relation, object, contextualTuples, context));
+            return circuitBreaker == null ? decision : decision.exceptionallyCompose(error -> fallback(null, error));
+        }
+        var key = CheckKey.of(
+                fgaClient.getStoreId(),
+                fgaClient.getAuthorizationModelId(),
+                user,
+                relation,
+                object,
+                contextualTuples,
+                context);
+        if (memo != null) {
+            Boolean memoized = memo.get(key);
+            if (memoized != null) {
+                cacheHit(key, memoized);
+                return CompletableFuture.completedFuture(memoized);
+            }
+        }
+        if (checkCache != null) {
+            Boolean cached = checkCache.get(key);
+            if (cached != null) {
+                if (checkCache.tryStartRefresh(key)) {
+                    refresh(key, contextualTuples);
+                }
+                if (memo != null) {
+                    memo.put(key, cached);
+                }
+                cacheHit(key, cached);
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
+        var checkKey = key;
+        long generation = cacheGeneration();
+        var decision = remoteCheck(checkKey, generation, contextualTuples).thenApply(allowed -> {
+            if (checkCache != null) {
+                checkCache.put(checkKey, allowed, generation);
+            }
+            if (memo != null) {
+                memo.put(checkKey, allowed);
+            }
+            return allowed;
+        });
+        if (checkCache == null && circuitBreaker == null) {
+            return decision;
+        }
+        var result = decision.exceptionallyCompose(error -> fallback(checkKey, error));
+        return checkCache != null ? staleOnTimeout(checkKey, result) : result;
+    }
+
+    private CompletableFuture<Boolean> staleOnTimeout(CheckKey key, CompletableFuture<Boolean> decision) {
+        var staleTimeout = checkCache.getStaleTimeout();
+        if (staleTimeout == null || decision.isDone()) {
+            return decision;
+        }
+        Boolean stale = checkCache.getStale(key);
+        if (stale == null) {
+            return decision;
+        }
+        // only the returned future is completed, the check itself keeps running and caches its decision
+        return decision.completeOnTimeout(stale, staleTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private CompletableFuture<Boolean> fallback(CheckKey key, Throwable error) {
+        if (checkCache != null && CheckCircuitBreaker.isUnavailable(error)) {
+            Boolean stale = checkCache.getStale(key);
+            if (stale != null) {
+                return CompletableFuture.completedFuture(stale);
+            }
+        }
+        if (circuitBreaker != null && unwrap(error) instanceof CircuitOpenException) {
+            var openDecision = circuitBreaker.getOpenDecision();
+            if (openDecision != CheckCircuitBreaker.OpenDecision.ERROR) {
+                return CompletableFuture.completedFuture(openDecision == CheckCircuitBreaker.OpenDecision.ALLOW);
+            }
+        }
+        return CompletableFuture.failedFuture(error);
+    }
+
+    private void refresh(CheckKey key, List<ClientTupleKey> contextualTuples) {
+        long generation = checkCache.generation();
+        remoteCheck(key, generation, contextualTuples).whenComplete((allowed, error) -> {
+            if (error == null) {
+                if (!checkCache.put(key, allowed, generation)) {
+                    checkCache.abortRefresh(key);
+                }
+            } else {
+                checkCache.abortRefresh(key);
+                logger.debug("Failed to refresh cached FGA check decision of {}", key, error);
+            }
+        });
+    }
+
+    private CompletableFuture<Boolean> remoteCheck(
+            CheckKey key, long generation, List<ClientTupleKey> contextualTuples) {
+        if (checkCoalescer != null) {
+            return checkCoalescer.coalesce(key, generation, () -> sendCheck(checkRequest(key, contextualTuples)));
+        }
+        return sendCheck(checkRequest(key, contextualTuples));
+    }
+
+    /**
+     * Returns the generation of the cache before a check is sent, so that its decision is not cached, nor shared with
+     * later checks, once the cache was invalidated. See {@link CheckCache#put(CheckKey, boolean, long)}.
+     */
+    private long cacheGeneration() {
+        return checkCache != null ? checkCache.generation() : 0;
+    }
+
+    private CompletableFuture<Boolean> sendCheck(ClientCheckRequest body) {
+        if (circuitBreaker != null) {
+            return circuitBreaker.call(() -> hedgeCheck(body));
+        }
+        return hedgeCheck(body);
+    }
+
+    private CompletableFuture<Boolean> hedgeCheck(ClientCheckRequest body) {
+        return checkHedger != null ? checkHedger.hedge(() -> interceptCheck(body)) : interceptCheck(body);
+    }
+
+    private CompletableFuture<Boolean> interceptCheck(ClientCheckRequest body) {
+        if (checkInterceptors.isEmpty()) {
+            return submitCheck(body);
+        }
+        return InterceptorChain.send(checkInterceptors, checkCall(body), () -> submitCheck(body));
+    }
+
+    private void cacheHit(CheckKey key, boolean allowed) {
+        if (interceptors.isEmpty()) {
+            return;
+        }
+        var call = new OpenFgaCall(OpenFgaCall.CHECK, OpenFgaCall.typeOf(key.object()), key.relation(), key.object());
+        for (var interceptor : interceptors) {
+            interceptor.onCacheHit(call, allowed);
+        }
+    }
+
+    private static OpenFgaCall checkCall(ClientCheckRequest body) {
+        return new OpenFgaCall(
+                OpenFgaCall.CHECK, OpenFgaCall.typeOf(body.getObject()), body.getRelation(), body.getObject());
+    }
+
+    private CompletableFuture<Boolean> submitCheck(ClientCheckRequest body) {
+        if (checkBatcher != null) {
+            return checkBatcher.submit(body);
+        }
+        return send(() -> fgaClient.check(body)).thenApply(response -> Boolean.TRUE.equals(response.getAllowed()));
+    }
+
+    private <T> T await(CompletableFuture<T> future, String message) {
+        try {
+            return future.get();
+        } catch (InterruptedException cause) {
+            throw exceptionHandler.handle(cause, message);
+        } catch (ExecutionException cause) {
+            throw exceptionHandler.handle(unwrap(cause), message);
+        }
+    }
+
+    private <T> CompletableFuture<T> mapFailure(CompletableFuture<T> future, String message) {
+        var result = new CompletableFuture<T>();
+        future.whenComplete((value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(exceptionHandler.handle(unwrap(error), message));
+            } else {
+                result.complete(value);
+            }
+        });
+        return result;
+    }
+
+    private <T> CompletableFuture<T> send(String operation, String objectType, String relation, FgaCall<T> request) {
+        if (interceptors.isEmpty()) {
+            return send(request);
+        }
+        var call = new OpenFgaCall(operation, objectType, relation, null);
+        return InterceptorChain.send(interceptors, call, () -> send(request));
+    }
+
+    private <T> CompletableFuture<T> send(String operation, List<CheckItem> items, FgaCall<T> request) {
+        if (interceptors.isEmpty()) {
+            return send(request);
+        }
+        String objectType = items.get(0).objectType();
+        String relation = items.get(0).relation();
+        for (var item : items) {
+            if (objectType != null && !objectType.equals(item.objectType())) {
+                objectType = null;
+            }
+            if (relation != null && !relation.equals(item.relation())) {
+                relation = null;
+            }
+        }
+        return send(operation, objectType, relation, request);
+    }
+
+    private static <T> CompletableFuture<T> send(FgaCall<T> call) {
         try {
-            return Boolean.TRUE.equals(fgaClient.check(body).get().getAllowed());
-        } catch (InterruptedException | FgaInvalidParameterException | ExecutionException cause) {
-            throw exceptionHandler.handle(cause, "Error performing FGA check");
+            return call.send();
+        } catch (Exception cause) {
+            return CompletableFuture.failedFuture(cause);
         }
     }
+
+    private static Throwable unwrap(Throwable error) {
+        var cause = error;
+        while ((cause instanceof ExecutionException || cause instanceof CompletionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    @FunctionalInterface
+    private interface FgaCall<T> {
+        CompletableFuture<T> send() throws Exception;
+    }
 }
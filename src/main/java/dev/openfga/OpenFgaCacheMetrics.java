@@ -0,0 +1,74 @@
+package dev.openfga;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binds the statistics of a {@link CheckCache}, and of the {@link ReadChangesWatcher} keeping it consistent if there is
+ * one, to a Micrometer registry:
+ * <ul>
+ * <li>{@code openfga.cache.gets}, a counter of lookups tagged with the {@code result}, {@code hit} or
+ *   {@code miss}.</li>
+ * <li>{@code openfga.cache.evictions}, a counter of decisions removed because they expired or the cache was
+ *   full.</li>
+ * <li>{@code openfga.cache.size}, a gauge of the decisions held.</li>
+ * <li>{@code openfga.changes.lag}, a time gauge of the age of the newest change processed by the watcher's last
+ *   poll.</li>
+ * <li>{@code openfga.changes.processed} and {@code openfga.changes.invalidations}, counters of the changes processed
+ *   and the decisions they removed.</li>
+ * </ul>
+ */
+public class OpenFgaCacheMetrics implements MeterBinder {
+
+    private final CheckCache checkCache;
+    private final ReadChangesWatcher changeWatcher;
+
+    /**
+     * Create new cache metrics.
+     *
+     * @param checkCache The cache to bind the statistics of
+     * @param changeWatcher The watcher keeping the cache consistent, or {@code null} if there is none
+     */
+    public OpenFgaCacheMetrics(CheckCache checkCache, ReadChangesWatcher changeWatcher) {
+        this.checkCache = checkCache;
+        this.changeWatcher = changeWatcher;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("openfga.cache.gets", checkCache, cache -> cache.stats().hitCount())
+                .description("The number of check cache lookups")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("openfga.cache.gets", checkCache, cache -> cache.stats().missCount())
+                .description("The number of check cache lookups")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("openfga.cache.evictions", checkCache, cache -> cache.stats().evictionCount())
+                .description("The number of check decisions removed because they expired or the cache was full")
+                .register(registry);
+        Gauge.builder("openfga.cache.size", checkCache, CheckCache::size)
+                .description("The number of check decisions held by the cache")
+                .register(registry);
+        if (changeWatcher == null) {
+            return;
+        }
+        TimeGauge.builder(
+                        "openfga.changes.lag",
+                        changeWatcher,
+                        TimeUnit.MILLISECONDS,
+                        watcher -> watcher.getLag().toMillis())
+                .description("The age of the newest change processed by the last poll of the ReadChanges feed")
+                .register(registry);
+        FunctionCounter.builder("openfga.changes.processed", changeWatcher, ReadChangesWatcher::getChangeCount)
+                .description("The number of changes read from the ReadChanges feed")
+                .register(registry);
+        FunctionCounter.builder("openfga.changes.invalidations", changeWatcher, ReadChangesWatcher::getEvictionCount)
+                .description("The number of check decisions removed because of changes read from the feed")
+                .register(registry);
+    }
+}
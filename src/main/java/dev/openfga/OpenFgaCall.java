@@ -0,0 +1,61 @@
+package dev.openfga;
+
+/**
+ * Describes a request sent to the FGA server, as seen by an {@link OpenFgaInterceptor}.
+ *
+ * @param operation The operation, one of the constants of this class, such as {@link #CHECK}
+ * @param objectType The object type the request is about, or {@code null} if it is about several or no object types
+ * @param relation The relation the request is about, or {@code null} if it is about several or no relations
+ * @param object The object the request is about, such as {@code document:roadmap}, or {@code null} if it is about
+ * several or no objects
+ */
+public record OpenFgaCall(String operation, String objectType, String relation, String object) {
+
+    /**
+     * A single check, also when it is sent as part of a batch by the {@link CheckBatcher}.
+     */
+    public static final String CHECK = "check";
+
+    /**
+     * A batch check.
+     */
+    public static final String BATCH_CHECK = "batch-check";
+
+    /**
+     * A list objects request.
+     */
+    public static final String LIST_OBJECTS = "list-objects";
+
+    /**
+     * A streamed list objects request.
+     */
+    public static final String STREAMED_LIST_OBJECTS = "streamed-list-objects";
+
+    /**
+     * A write of tuples.
+     */
+    public static final String WRITE = "write";
+
+    /**
+     * A read of tuples.
+     */
+    public static final String READ = "read";
+
+    /**
+     * A read of the latest authorization model.
+     */
+    public static final String READ_AUTHORIZATION_MODEL = "read-authorization-model";
+
+    /**
+     * A write of an authorization model.
+     */
+    public static final String WRITE_AUTHORIZATION_MODEL = "write-authorization-model";
+
+    static String typeOf(String object) {
+        if (object == null) {
+            return null;
+        }
+        int separator = object.indexOf(':');
+        return separator < 0 ? object : object.substring(0, separator);
+    }
+}
@@ -0,0 +1,50 @@
+package dev.openfga;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Locale;
+
+/**
+ * Binds the statistics of a {@link CheckCircuitBreaker} to a Micrometer registry:
+ * <ul>
+ * <li>{@code openfga.circuit.state}, a gauge per {@code state} tag, {@code 1} for the current state of the breaker and
+ *   {@code 0} for the others.</li>
+ * <li>{@code openfga.circuit.failure.rate} and {@code openfga.circuit.slow.rate}, gauges of the share of failed and
+ *   slow checks among the recorded ones.</li>
+ * <li>{@code openfga.circuit.rejected}, a counter of checks rejected because the breaker was open.</li>
+ * </ul>
+ */
+public class OpenFgaCircuitBreakerMetrics implements MeterBinder {
+
+    private final CheckCircuitBreaker circuitBreaker;
+
+    /**
+     * Create new circuit breaker metrics.
+     *
+     * @param circuitBreaker The circuit breaker to bind the statistics of
+     */
+    public OpenFgaCircuitBreakerMetrics(CheckCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (var state : CheckCircuitBreaker.State.values()) {
+            Gauge.builder("openfga.circuit.state", circuitBreaker, breaker -> breaker.getState() == state ? 1 : 0)
+                    .description("Whether the circuit breaker around checks is in the state")
+                    .tag("state", state.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+        Gauge.builder("openfga.circuit.failure.rate", circuitBreaker, CheckCircuitBreaker::getFailureRate)
+                .description("The share of failed checks among the checks recorded by the circuit breaker")
+                .register(registry);
+        Gauge.builder("openfga.circuit.slow.rate", circuitBreaker, CheckCircuitBreaker::getSlowCallRate)
+                .description("The share of slow checks among the checks recorded by the circuit breaker")
+                .register(registry);
+        FunctionCounter.builder("openfga.circuit.rejected", circuitBreaker, CheckCircuitBreaker::getRejectedCount)
+                .description("The number of checks rejected because the circuit breaker was open")
+                .register(registry);
+    }
+}
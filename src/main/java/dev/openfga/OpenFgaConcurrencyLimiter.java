@@ -0,0 +1,187 @@
+package dev.openfga;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.core.Ordered;
+
+/**
+ * An {@link OpenFgaInterceptor} that bounds the number of concurrent requests to the FGA server with two
+ * {@link AdaptiveConcurrencyLimit}s: one for checks, batch checks and list objects requests, which callers wait for,
+ * and one for bulk operations such as writes, streamed list objects requests and the reads and writes of the
+ * {@code OpenFgaInitializer}, so that bulk traffic cannot crowd out checks.<br/>
+ *
+ * Only the latency of single checks is compared with the latency threshold of their limit. The other requests span
+ * several round trips, such as a batch check sent in chunks, or last as long as their consumer reads, such as a
+ * streamed list, so their duration says nothing about how the server copes. They still lower the limit when they
+ * fail.<br/>
+ *
+ * A request over its limit waits for a slot for at most {@code maxWait}, and fails with a
+ * {@link ConcurrencyLimitExceededException} when the wait is over or the queue of its limit is full. Waiting does not
+ * block a thread, and cancelling a waiting request gives up its slot as soon as it gets one.<br/>
+ *
+ * The limiter is ordered after, so inside, the other interceptors of this library, so that metrics and observations
+ * include the time a request waited for a slot. A {@link CheckBatcher} given the limiter sends each batch through it,
+ * so that a batch takes a single slot.
+ */
+public class OpenFgaConcurrencyLimiter implements OpenFgaInterceptor, Ordered, AutoCloseable {
+
+    /**
+     * The order of the limiter, see {@link #getOrder()}.
+     */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 1000;
+
+    private final AdaptiveConcurrencyLimit checkLimit;
+    private final AdaptiveConcurrencyLimit bulkLimit;
+    private final long maxWaitNanos;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * Create a new concurrency limiter.
+     *
+     * @param checkLimit The limit of checks, batch checks and list objects requests
+     * @param bulkLimit The limit of writes, streamed list objects requests and other bulk operations
+     * @param maxWait How long a request waits for a slot before it is rejected, must be positive
+     */
+    public OpenFgaConcurrencyLimiter(
+            AdaptiveConcurrencyLimit checkLimit, AdaptiveConcurrencyLimit bulkLimit, Duration maxWait) {
+        this(checkLimit, bulkLimit, maxWait, runnable -> {
+            var thread = new Thread(runnable, "openfga-concurrency-limiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Create a new concurrency limiter that rejects requests that waited too long on a thread created by the given
+     * factory.
+     *
+     * @param checkLimit The limit of checks, batch checks and list objects requests
+     * @param bulkLimit The limit of writes, streamed list objects requests and other bulk operations
+     * @param maxWait How long a request waits for a slot before it is rejected, must be positive
+     * @param threadFactory The factory of the thread that rejects requests that waited too long
+     */
+    public OpenFgaConcurrencyLimiter(
+            AdaptiveConcurrencyLimit checkLimit,
+            AdaptiveConcurrencyLimit bulkLimit,
+            Duration maxWait,
+            ThreadFactory threadFactory) {
+        if (maxWait == null || maxWait.isZero() || maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait must be positive");
+        }
+        this.checkLimit = checkLimit;
+        this.bulkLimit = bulkLimit;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> intercept(OpenFgaCall call, Supplier<CompletableFuture<T>> next) {
+        var limit = isBulk(call) ? bulkLimit : checkLimit;
+        var slot = limit.acquire();
+        if (slot == null) {
+            return CompletableFuture.failedFuture(new ConcurrencyLimitExceededException(call.operation()));
+        }
+        boolean timed = OpenFgaCall.CHECK.equals(call.operation());
+        if (slot.isDone()) {
+            return send(limit, timed, next);
+        }
+        try {
+            var timeout = scheduler.schedule(
+                    () -> {
+                        if (limit.abandon(slot)) {
+                            slot.completeExceptionally(new ConcurrencyLimitExceededException(call.operation()));
+                        }
+                    },
+                    maxWaitNanos,
+                    TimeUnit.NANOSECONDS);
+            slot.whenComplete((ignored, error) -> timeout.cancel(false));
+        } catch (RejectedExecutionException closed) {
+            if (limit.abandon(slot)) {
+                return CompletableFuture.failedFuture(new ConcurrencyLimitExceededException(call.operation()));
+            }
+        }
+        var result = new CompletableFuture<T>();
+        slot.whenComplete((ignored, rejected) -> {
+            if (rejected != null) {
+                result.completeExceptionally(rejected);
+                return;
+            }
+            if (result.isCancelled()) {
+                limit.release(new CancellationException(), System.nanoTime(), 0);
+                return;
+            }
+            var response = send(limit, timed, next);
+            response.whenComplete((value, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    response.cancel(false);
+                }
+            });
+        });
+        return result;
+    }
+
+    private static <T> CompletableFuture<T> send(
+            AdaptiveConcurrencyLimit limit, boolean timed, Supplier<CompletableFuture<T>> next) {
+        long start = System.nanoTime();
+        CompletableFuture<T> response;
+        try {
+            response = next.get();
+        } catch (RuntimeException cause) {
+            response = CompletableFuture.failedFuture(cause);
+        }
+        response.whenComplete((value, error) -> limit.release(error, start, timed ? System.nanoTime() - start : 0));
+        return response;
+    }
+
+    private static boolean isBulk(OpenFgaCall call) {
+        return switch (call.operation()) {
+            case OpenFgaCall.CHECK, OpenFgaCall.BATCH_CHECK, OpenFgaCall.LIST_OBJECTS -> false;
+            default -> true;
+        };
+    }
+
+    /**
+     * Returns the limit of checks, batch checks and list objects requests.
+     *
+     * @return the check limit
+     */
+    public AdaptiveConcurrencyLimit getCheckLimit() {
+        return checkLimit;
+    }
+
+    /**
+     * Returns the limit of writes, streamed list objects requests and other bulk operations.
+     *
+     * @return the bulk limit
+     */
+    public AdaptiveConcurrencyLimit getBulkLimit() {
+        return bulkLimit;
+    }
+
+    /**
+     * Stop rejecting requests that waited too long. Waiting requests keep waiting for a slot.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
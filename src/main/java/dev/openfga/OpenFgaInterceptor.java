@@ -0,0 +1,35 @@
+package dev.openfga;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Intercepts the requests {@link OpenFga} and {@link OpenFgaTupleWriter} send to the FGA server, for example to record
+ * metrics. Checks answered by the {@link CheckCache} or a {@link CheckMemo} are not sent, so they are not intercepted,
+ * but reported to {@link #onCacheHit(OpenFgaCall, boolean)} instead.<br/>
+ *
+ * Interceptors are applied in order, the first one being the outermost. An interceptor should return the future
+ * returned by {@code next}, or a future completed with its outcome, and must not block.
+ */
+public interface OpenFgaInterceptor {
+
+    /**
+     * Intercept a request.
+     *
+     * @param call Describes the request
+     * @param next Sends the request, or passes it to the next interceptor. Never throws, failures complete the
+     * returned future exceptionally.
+     * @param <T> The type of the response
+     * @return a future completed with the response
+     */
+    <T> CompletableFuture<T> intercept(OpenFgaCall call, Supplier<CompletableFuture<T>> next);
+
+    /**
+     * Called when a check is answered by the {@link CheckCache} or a {@link CheckMemo}, without a request. Does nothing
+     * by default.
+     *
+     * @param call Describes the check that would have been sent
+     * @param allowed The cached decision
+     */
+    default void onCacheHit(OpenFgaCall call, boolean allowed) {}
+}
@@ -0,0 +1,128 @@
+package dev.openfga;
+
+import dev.openfga.sdk.errors.FgaError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.core.Ordered;
+
+/**
+ * An {@link OpenFgaInterceptor} that records Micrometer metrics for every request sent to the FGA server:
+ * <ul>
+ * <li>{@code openfga.client.requests}, a timer tagged with the {@code operation}, {@code object.type},
+ *   {@code relation} and {@code outcome} of the request. The outcome of a check is {@code allowed} or {@code denied},
+ *   the outcome of any other request is {@code success}, the outcome of a failed request is {@code error}, and the
+ *   outcome of a request that was cancelled, such as the losing request of a {@link CheckHedger}, is
+ *   {@code cancelled}.</li>
+ * <li>{@code openfga.client.requests.active}, a gauge of the requests in flight.</li>
+ * <li>{@code openfga.client.errors}, a counter of failed requests, not counting cancelled ones, tagged with the
+ *   {@code operation}, {@code object.type}, {@code relation}, the HTTP {@code status} of the {@link FgaError}, or
+ *   {@code none} if the request failed without a response, and the {@code exception}.</li>
+ * </ul>
+ * Tags that do not apply to a request, such as the relation of a write, are {@code none}.<br/>
+ *
+ * Ordered before, so around, the {@link OpenFgaConcurrencyLimiter}, so the recorded time includes waiting for a slot,
+ * and rejected requests are counted as errors.
+ */
+public class OpenFgaMetricsInterceptor implements OpenFgaInterceptor, Ordered {
+
+    /**
+     * The order of the interceptor, see {@link #getOrder()}.
+     */
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 2000;
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry registry;
+    private final double[] percentiles;
+    private final AtomicInteger activeRequests = new AtomicInteger();
+
+    /**
+     * Create a new metrics interceptor.
+     *
+     * @param registry The registry to record the metrics in
+     * @param percentiles The percentiles the request timer publishes, such as {@code 0.99}, may be empty
+     */
+    public OpenFgaMetricsInterceptor(MeterRegistry registry, double... percentiles) {
+        this.registry = registry;
+        this.percentiles = percentiles.clone();
+        Gauge.builder("openfga.client.requests.active", activeRequests, AtomicInteger::get)
+                .description("The number of requests to the FGA server in flight")
+                .register(registry);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> intercept(OpenFgaCall call, Supplier<CompletableFuture<T>> next) {
+        activeRequests.incrementAndGet();
+        var sample = Timer.start(registry);
+        CompletableFuture<T> response;
+        try {
+            response = next.get();
+        } catch (RuntimeException cause) {
+            response = CompletableFuture.failedFuture(cause);
+        }
+        response.whenComplete((value, error) -> {
+            activeRequests.decrementAndGet();
+            var tags = Tags.of("operation", call.operation())
+                    .and("object.type", tagValue(call.objectType()))
+                    .and("relation", tagValue(call.relation()));
+            sample.stop(Timer.builder("openfga.client.requests")
+                    .description("The duration of requests to the FGA server")
+                    .tags(tags)
+                    .tag("outcome", outcome(value, error))
+                    .publishPercentiles(percentiles)
+                    .register(registry));
+            if (error != null && !(error instanceof CancellationException)) {
+                var cause = rootCause(error);
+                Counter.builder("openfga.client.errors")
+                        .description("The number of failed requests to the FGA server")
+                        .tags(tags)
+                        .tag("status", status(cause))
+                        .tag("exception", cause.getClass().getSimpleName())
+                        .register(registry)
+                        .increment();
+            }
+        });
+        return response;
+    }
+
+    private static String outcome(Object value, Throwable error) {
+        if (error instanceof CancellationException) {
+            return "cancelled";
+        }
+        if (error != null) {
+            return "error";
+        }
+        if (value instanceof Boolean allowed) {
+            return allowed ? "allowed" : "denied";
+        }
+        return "success";
+    }
+
+    private static String status(Throwable cause) {
+        return cause instanceof FgaError error ? Integer.toString(error.getStatusCode()) : NONE;
+    }
+
+    private static String tagValue(String value) {
+        return value != null ? value : NONE;
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        var cause = error;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,97 @@
+package dev.openfga;
+
+import dev.openfga.sdk.errors.FgaError;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.springframework.core.Ordered;
+
+/**
+ * An {@link OpenFgaInterceptor} that wraps every request sent to the FGA server, and every check answered by the
+ * {@link CheckCache} or a {@link CheckMemo}, in a Micrometer {@link Observation} named {@code openfga.request}. With a
+ * tracing bridge, each observation becomes a span.<br/>
+ *
+ * The low cardinality keys are the {@code operation}, {@code object.type} and {@code relation} of the request, and
+ * {@code cache.hit}. The high cardinality keys are the {@code object} of the request, and the {@code request.id}
+ * returned by the FGA server when the request failed. Keys that do not apply to a request are {@code none}.<br/>
+ *
+ * The observation is current while the request is sent, so an HTTP client request interceptor can propagate its trace
+ * context to the FGA server. Ordered before, so around, the {@link OpenFgaMetricsInterceptor} and the
+ * {@link OpenFgaConcurrencyLimiter}.
+ */
+public class OpenFgaObservationInterceptor implements OpenFgaInterceptor, Ordered {
+
+    /**
+     * The order of the interceptor, see {@link #getOrder()}.
+     */
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 1000;
+
+    private static final String NAME = "openfga.request";
+    private static final String NONE = "none";
+
+    private final ObservationRegistry registry;
+
+    /**
+     * Create a new observation interceptor.
+     *
+     * @param registry The registry to create observations in
+     */
+    public OpenFgaObservationInterceptor(ObservationRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> intercept(OpenFgaCall call, Supplier<CompletableFuture<T>> next) {
+        var observation = observation(call, false).start();
+        CompletableFuture<T> response;
+        try (var scope = observation.openScope()) {
+            response = next.get();
+        } catch (RuntimeException cause) {
+            response = CompletableFuture.failedFuture(cause);
+        }
+        response.whenComplete((value, error) -> {
+            if (error != null) {
+                var cause = rootCause(error);
+                if (cause instanceof FgaError fgaError && fgaError.getRequestId() != null) {
+                    observation.highCardinalityKeyValue("request.id", fgaError.getRequestId());
+                }
+                observation.error(cause);
+            }
+            observation.stop();
+        });
+        return response;
+    }
+
+    @Override
+    public void onCacheHit(OpenFgaCall call, boolean allowed) {
+        observation(call, true).start().stop();
+    }
+
+    private Observation observation(OpenFgaCall call, boolean cacheHit) {
+        return Observation.createNotStarted(NAME, registry)
+                .contextualName("openfga " + call.operation())
+                .lowCardinalityKeyValue("operation", call.operation())
+                .lowCardinalityKeyValue("object.type", keyValue(call.objectType()))
+                .lowCardinalityKeyValue("relation", keyValue(call.relation()))
+                .lowCardinalityKeyValue("cache.hit", Boolean.toString(cacheHit))
+                .highCardinalityKeyValue("object", keyValue(call.object()));
+    }
+
+    private static String keyValue(String value) {
+        return value != null ? value : NONE;
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        var cause = error;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,60 @@
+package dev.openfga;
+
+import java.util.function.Function;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link ReactiveAuthorizationManager} that grants access if the authenticated user has a relation to the object
+ * being secured, for example an exchange in a WebFlux {@code SecurityWebFilterChain}:
+ * <pre>
+ * {@code http.authorizeExchange(exchanges -> exchanges
+ *         .pathMatchers("/documents/{id}")
+ *         .access(new OpenFgaReactiveAuthorizationManager<>(
+ *                 reactiveFga, "document", context -> (String) context.getVariables().get("id"), "reader", "user")));}
+ * </pre>
+ *
+ * @param <T> The type of the object being secured
+ */
+public class OpenFgaReactiveAuthorizationManager<T> implements ReactiveAuthorizationManager<T> {
+
+    private final ReactiveOpenFga fga;
+    private final String objectType;
+    private final Function<T, String> objectIdResolver;
+    private final String relation;
+    private final String userType;
+
+    /**
+     * Create a new authorization manager.
+     *
+     * @param fga The {@link ReactiveOpenFga} bean to perform the checks with
+     * @param objectType The object type of the check
+     * @param objectIdResolver Resolves the ID of the object to check from the object being secured
+     * @param relation The required relation between the user and the object
+     * @param userType The type of the user, whose ID is the name of the {@link Authentication}
+     */
+    public OpenFgaReactiveAuthorizationManager(
+            ReactiveOpenFga fga,
+            String objectType,
+            Function<T, String> objectIdResolver,
+            String relation,
+            String userType) {
+        this.fga = fga;
+        this.objectType = objectType;
+        this.objectIdResolver = objectIdResolver;
+        this.relation = relation;
+        this.userType = userType;
+    }
+
+    @Override
+    public Mono<AuthorizationDecision> check(Mono<Authentication> authentication, T object) {
+        return authentication
+                .filter(Authentication::isAuthenticated)
+                .flatMap(user ->
+                        fga.check(objectType, objectIdResolver.apply(object), relation, userType, user.getName()))
+                .map(AuthorizationDecision::new)
+                .defaultIfEmpty(new AuthorizationDecision(false));
+    }
+}
@@ -0,0 +1,160 @@
+package dev.openfga;
+
+import dev.openfga.sdk.api.client.OpenFgaClient;
+import dev.openfga.sdk.api.client.model.ClientTupleKey;
+import dev.openfga.sdk.api.client.model.ClientTupleKeyWithoutCondition;
+import dev.openfga.sdk.api.client.model.ClientWriteRequest;
+import dev.openfga.sdk.api.client.model.ClientWriteResponse;
+import dev.openfga.sdk.errors.FgaInvalidParameterException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiPredicate;
+
+/**
+ * A bean that writes and deletes tuples, and keeps the {@link CheckCache} and the {@link CheckMemo} of the current
+ * request consistent with the change.<br/><br/>
+ *
+ * Once a write succeeds, the cached grants and denials for the objects and users of the written and deleted tuples are
+ * removed. Both kinds are removed for either change, since with an exclusion ({@code but not}) or an intersection in
+ * the model, writing a tuple can also revoke access and deleting one can grant it. A tuple whose user is a userset or a
+ * wildcard, such as {@code group:eng#member} or {@code user:*}, may affect any check, so it removes all decisions.
+ * Decisions on other objects that only depend on a changed tuple through a chain of objects, such as the documents of
+ * a folder whose parent folder changed, are kept until they expire. Checks that were already in flight are neither
+ * cached nor joined by later checks when they complete, so they cannot bring back a decision made before the write.
+ * Optionally, the check that a written tuple directly grants is cached as allowed.
+ */
+public class OpenFgaTupleWriter {
+
+    private final OpenFgaClient fgaClient;
+    private final OpenFgaExceptionHandler exceptionHandler;
+    private CheckCache checkCache;
+    private boolean seedCache;
+    private List<OpenFgaInterceptor> interceptors = List.of();
+
+    /**
+     * Create a new tuple writer.
+     *
+     * @param fgaClient The {@link OpenFgaClient} to use
+     * @param exceptionHandler The {@link OpenFgaExceptionHandler} to use
+     */
+    public OpenFgaTupleWriter(OpenFgaClient fgaClient, OpenFgaExceptionHandler exceptionHandler) {
+        this.fgaClient = fgaClient;
+        this.exceptionHandler = exceptionHandler;
+    }
+
+    /**
+     * Set the {@link CheckCache} to keep consistent with the writes.
+     *
+     * @param checkCache The {@link CheckCache} used by the {@link OpenFga} bean, or {@code null} if there is none
+     */
+    public void setCheckCache(CheckCache checkCache) {
+        this.checkCache = checkCache;
+    }
+
+    /**
+     * Set whether the check directly granted by a written tuple without a condition is cached as allowed, so that
+     * it is answered without a round trip right after the write. Only enable it when the model restricts no relation
+     * that is written directly with an exclusion or an intersection, as the written tuple alone does not grant it then,
+     * and the cached grant would be wrong until it expires. Defaults to {@code false}.
+     *
+     * @param seedCache Whether to cache the decisions granted by written tuples
+     */
+    public void setSeedCache(boolean seedCache) {
+        this.seedCache = seedCache;
+    }
+
+    /**
+     * Set the {@link OpenFgaInterceptor}s that write requests are sent through. The first interceptor is the
+     * outermost.
+     *
+     * @param interceptors The interceptors to use, may be empty
+     */
+    public void setInterceptors(List<OpenFgaInterceptor> interceptors) {
+        this.interceptors = List.copyOf(interceptors);
+    }
+
+    /**
+     * Write tuples.
+     *
+     * @param tuples The tuples to write
+     */
+    public void write(List<ClientTupleKey> tuples) {
+        write(new ClientWriteRequest().writes(tuples));
+    }
+
+    /**
+     * Delete tuples.
+     *
+     * @param tuples The tuples to delete
+     */
+    public void delete(List<ClientTupleKeyWithoutCondition> tuples) {
+        write(new ClientWriteRequest().deletes(tuples));
+    }
+
+    /**
+     * Write and delete tuples in a single request.
+     *
+     * @param request The tuples to write and delete
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Tuples/Write">FGA Write API</a>
+     */
+    public void write(ClientWriteRequest request) {
+        var call = new OpenFgaCall(OpenFgaCall.WRITE, null, null, null);
+        try {
+            InterceptorChain.send(interceptors, call, () -> send(request)).get();
+        } catch (InterruptedException | ExecutionException cause) {
+            throw exceptionHandler.handle(cause, "Error writing FGA tuples");
+        }
+        var writes = request.getWrites() != null ? request.getWrites() : List.<ClientTupleKey>of();
+        var deletes = request.getDeletes() != null ? request.getDeletes() : List.<ClientTupleKeyWithoutCondition>of();
+        var changed = new StaleDecisions();
+        for (var tuple : writes) {
+            changed.add(tuple.getUser(), tuple.getObject());
+        }
+        for (var tuple : deletes) {
+            changed.add(tuple.getUser(), tuple.getObject());
+        }
+        BiPredicate<CheckKey, Boolean> stale = (key, allowed) -> changed.affects(key);
+        var memo = CheckMemo.current();
+        if (checkCache != null) {
+            checkCache.invalidateIf(stale);
+        }
+        if (memo != null) {
+            memo.invalidateIf(stale);
+        }
+        if (seedCache) {
+            seed(writes, memo);
+        }
+    }
+
+    private CompletableFuture<ClientWriteResponse> send(ClientWriteRequest request) {
+        try {
+            return fgaClient.write(request);
+        } catch (FgaInvalidParameterException cause) {
+            return CompletableFuture.failedFuture(cause);
+        }
+    }
+
+    private void seed(List<ClientTupleKey> writes, CheckMemo memo) {
+        for (var tuple : writes) {
+            if (tuple.getCondition() != null || StaleDecisions.isUserset(tuple.getUser())) {
+                continue;
+            }
+            var key = CheckKey.of(
+                    fgaClient.getStoreId(),
+                    fgaClient.getAuthorizationModelId(),
+                    tuple.getUser(),
+                    tuple.getRelation(),
+                    tuple.getObject(),
+                    null,
+                    null);
+            if (checkCache != null) {
+                checkCache.put(key, true);
+            }
+            if (memo != null) {
+                memo.put(key, true);
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package dev.openfga;
+
+import dev.openfga.sdk.api.client.model.ClientTupleKey;
+import java.util.List;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * A reactive counterpart of the {@link OpenFga} bean, for use in WebFlux applications. Checks never block the calling
+ * thread, and the user ID is obtained from the {@link ReactiveSecurityContextHolder} instead of the thread-bound
+ * security context.<br/>
+ *
+ * Can be used in {@code @PreAuthorize} or {@code PostAuthorize} together with {@code @EnableReactiveMethodSecurity}
+ * to provide method-level FGA protection for a requested resource.<br/><br/>For example:
+ * <pre>
+ * {@code @PreAuthorize("@reactiveFga.check('document', #id, 'reader', 'user')")
+ * public Mono<Document> getDocument(String id) {
+ *     return repository.findById(id);
+ * }}
+ * </pre>
+ */
+public class ReactiveOpenFga {
+
+    private final OpenFga fga;
+
+    /**
+     * Create a new reactive OpenFGA instance.
+     *
+     * @param fga The {@link OpenFga} bean to perform the checks with
+     */
+    public ReactiveOpenFga(OpenFga fga) {
+        this.fga = fga;
+    }
+
+    /**
+     * Perform an FGA check for the user of the current reactive security context. Emits {@code true} if the user has
+     * the specified relationship with the object, {@code false} otherwise.
+     *
+     * @param objectType The object type of the check
+     * @param objectId The ID of the object to check
+     * @param relation The required relation between the user and the object
+     * @param userType The type of the user
+     * @return a {@link Mono} emitting whether the user has the required relation to the object
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/Check">FGA Check API</a>
+     */
+    public Mono<Boolean> check(String objectType, String objectId, String relation, String userType) {
+        return check(objectType, objectId, relation, userType, null, null);
+    }
+
+    /**
+     * Perform an FGA check. Emits {@code true} if the user has the specified relationship with the object,
+     * {@code false} otherwise.
+     *
+     * @param objectType The object type of the check
+     * @param objectId The ID of the object to check
+     * @param relation The required relation between the user and the object
+     * @param userType The type of the user
+     * @param userId The ID of the user
+     * @return a {@link Mono} emitting whether the user has the required relation to the object
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/Check">FGA Check API</a>
+     */
+    public Mono<Boolean> check(String objectType, String objectId, String relation, String userType, String userId) {
+        return check(objectType, objectId, relation, userType, userId, null, null);
+    }
+
+    /**
+     * Perform an FGA check for the user of the current reactive security context, supplying contextual tuples and/or
+     * a context object for the evaluation, see {@link OpenFga#check(String, String, String, String, List, Object)}.
+     *
+     * @param objectType The object type of the check
+     * @param objectId The ID of the object to check
+     * @param relation The required relation between the user and the object
+     * @param userType The type of the user
+     * @param contextualTuples The contextual tuples to evaluate as part of the check, may be {@code null}
+     * @param context The context object used to evaluate conditions in the authorization model, may be {@code null}
+     * @return a {@link Mono} emitting whether the user has the required relation to the object
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/Check">FGA Check API</a>
+     */
+    public Mono<Boolean> check(
+            String objectType,
+            String objectId,
+            String relation,
+            String userType,
+            List<ClientTupleKey> contextualTuples,
+            Object context) {
+        return currentUserId()
+                .flatMap(userId -> check(objectType, objectId, relation, userType, userId, contextualTuples, context));
+    }
+
+    /**
+     * Perform an FGA check, supplying contextual tuples and/or a context object for the evaluation, see
+     * {@link OpenFga#check(String, String, String, String, String, List, Object)}. Decisions are shared with other
+     * checks of the same request through the {@link CheckMemo} bound by {@link CheckMemoWebFilter}, if any.
+     *
+     * @param objectType The object type of the check
+     * @param objectId The ID of the object to check
+     * @param relation The required relation between the user and the object
+     * @param userType The type of the user
+     * @param userId The ID of the user
+     * @param contextualTuples The contextual tuples to evaluate as part of the check, may be {@code null}
+     * @param context The context object used to evaluate conditions in the authorization model, may be {@code null}
+     * @return a {@link Mono} emitting whether the user has the required relation to the object, or an
+     * {@link OpenFgaException} if the check failed
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/Check">FGA Check API</a>
+     */
+    public Mono<Boolean> check(
+            String objectType,
+            String objectId,
+            String relation,
+            String userType,
+            String userId,
+            List<ClientTupleKey> contextualTuples,
+            Object context) {
+        return Mono.deferContextual(reactorContext -> {
+            CheckMemo memo = reactorContext.getOrDefault(CheckMemo.CONTEXT_KEY, null);
+            return Mono.fromFuture(() -> fga.checkAsync(
+                    objectType, objectId, relation, userType, userId, contextualTuples, context, memo));
+        });
+    }
+
+    /**
+     * List the objects of a type the user of the current reactive security context has a relation to, see
+     * {@link #streamObjects(String, String, String, String)}.
+     *
+     * @param objectType The type of the objects to list
+     * @param relation The required relation between the user and the objects
+     * @param userType The type of the user
+     * @return a {@link Flux} emitting the objects, such as {@code document:1}, as they arrive
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/StreamedListObjects">FGA Streamed List Objects API</a>
+     */
+    public Flux<String> streamObjects(String objectType, String relation, String userType) {
+        return currentUserId().flatMapMany(userId -> streamObjects(objectType, relation, userType, userId));
+    }
+
+    /**
+     * List the objects of a type a user has a relation to. The objects are read from the server's streamed list
+     * objects endpoint and emitted as they arrive, as far as the subscriber requested them: at most a few hundred
+     * objects are buffered, after which the response is no longer read until the subscriber catches up, however long
+     * that takes. The objects are emitted from the thread receiving the response, so no thread waits for them while
+     * the subscription lasts. Cancelling the subscription cancels the request.
+     *
+     * @param objectType The type of the objects to list
+     * @param relation The required relation between the user and the objects
+     * @param userType The type of the user
+     * @param userId The ID of the user
+     * @return a {@link Flux} emitting the objects, such as {@code document:1}, as they arrive, or an
+     * {@link OpenFgaException} if the request failed
+     *
+     * @see <a href="https://openfga.dev/api/service#/Relationship%20Queries/StreamedListObjects">FGA Streamed List Objects API</a>
+     */
+    public Flux<String> streamObjects(String objectType, String relation, String userType, String userId) {
+        return Flux.create(sink -> {
+            var objects = new StreamedObjectsSink(sink, OpenFga.STREAM_BUFFER_SIZE);
+            objects.start(fga.streamObjects(objectType, relation, userType, userId, objects), fga::streamFailure);
+        });
+    }
+
+    private static Mono<String> currentUserId() {
+        return ReactiveSecurityContextHolder.getContext()
+                .mapNotNull(SecurityContext::getAuthentication)
+                .map(Authentication::getName)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException(
+                        "No user provided, and no authentication could be found in the security context")));
+    }
+}
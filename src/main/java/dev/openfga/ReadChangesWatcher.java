@@ -0,0 +1,196 @@
+package dev.openfga;
+
+import dev.openfga.sdk.api.client.OpenFgaClient;
+import dev.openfga.sdk.api.client.model.ClientReadChangesRequest;
+import dev.openfga.sdk.api.configuration.ClientReadChangesOptions;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Tails the ReadChanges feed of the store and removes the {@link CheckCache} decisions that the changes, including
+ * those written by other applications, may have made stale. This keeps revocations prompt even with long cache TTLs.
+ * <br/><br/>
+ *
+ * A written or deleted tuple removes both grants and denials for its object, for its user, and for its object type and
+ * relation, which covers relations computed through the changed object. Both kinds are removed for either change, since
+ * with an exclusion ({@code but not}) or an intersection in the model a written tuple can also revoke access. Checks
+ * in flight while the changes are applied do not cache their decisions, see {@link CheckCache#generation()}. The
+ * continuation token is saved to a {@link ContinuationTokenStore} after every page, so a restarted watcher resumes
+ * where it stopped. Without a saved token, the watcher starts at the head of the feed, from the time of its first poll,
+ * rather than replaying the whole history of the store, as the cache holds no decisions from before it started.
+ */
+public class ReadChangesWatcher implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadChangesWatcher.class);
+
+    private final OpenFgaClient fgaClient;
+    private final CheckCache checkCache;
+    private final ContinuationTokenStore tokenStore;
+    private final Duration pollInterval;
+    private final int pageSize;
+    private final ThreadFactory threadFactory;
+    private final Clock clock;
+
+    private final AtomicLong changeCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicReference<Duration> lag = new AtomicReference<>(Duration.ZERO);
+    private volatile Instant startTime;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Create a new watcher.
+     *
+     * @param fgaClient The {@link OpenFgaClient} to read changes with
+     * @param checkCache The {@link CheckCache} to remove stale decisions from
+     * @param tokenStore The {@link ContinuationTokenStore} to resume from and save progress to
+     * @param pollInterval The time between polls once the feed was read to its end, must be positive
+     * @param pageSize The maximum number of changes read per request, between 1 and 100
+     * @param threadFactory The factory of the thread that polls the feed
+     */
+    public ReadChangesWatcher(
+            OpenFgaClient fgaClient,
+            CheckCache checkCache,
+            ContinuationTokenStore tokenStore,
+            Duration pollInterval,
+            int pageSize,
+            ThreadFactory threadFactory) {
+        this(fgaClient, checkCache, tokenStore, pollInterval, pageSize, threadFactory, Clock.systemUTC());
+    }
+
+    ReadChangesWatcher(
+            OpenFgaClient fgaClient,
+            CheckCache checkCache,
+            ContinuationTokenStore tokenStore,
+            Duration pollInterval,
+            int pageSize,
+            ThreadFactory threadFactory,
+            Clock clock) {
+        if (pollInterval == null || pollInterval.isZero() || pollInterval.isNegative()) {
+            throw new IllegalArgumentException("pollInterval must be positive");
+        }
+        if (pageSize <= 0 || pageSize > 100) {
+            throw new IllegalArgumentException("pageSize must be between 1 and 100");
+        }
+        this.fgaClient = fgaClient;
+        this.checkCache = checkCache;
+        this.tokenStore = tokenStore;
+        this.pollInterval = pollInterval;
+        this.pageSize = pageSize;
+        this.threadFactory = threadFactory;
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+        scheduler.scheduleWithFixedDelay(this::pollSafely, 0, pollInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Returns the age of the newest change processed by the last poll, or {@link Duration#ZERO} if the last poll found
+     * no new changes.
+     *
+     * @return how far the cache lags behind the store
+     */
+    public Duration getLag() {
+        return lag.get();
+    }
+
+    /**
+     * Returns the number of changes processed since the watcher was created.
+     *
+     * @return the number of processed changes
+     */
+    public long getChangeCount() {
+        return changeCount.get();
+    }
+
+    /**
+     * Returns the number of cached decisions removed since the watcher was created.
+     *
+     * @return the number of removed decisions
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warn("Failed to read OpenFGA changes; retrying in {}", pollInterval, e);
+        }
+    }
+
+    // Reads the feed from the saved continuation token, or from the start time without one, to its end, removing stale
+    // decisions page by page.
+    void poll() throws Exception {
+        var continuationToken = tokenStore.load();
+        if (startTime == null) {
+            startTime = clock.instant();
+        }
+        var newestChange = Duration.ZERO;
+        while (true) {
+            var request = new ClientReadChangesRequest();
+            if (continuationToken == null) {
+                request.startTime(startTime.toString());
+            }
+            var options = new ClientReadChangesOptions().pageSize(pageSize).continuationToken(continuationToken);
+            var response = fgaClient.readChanges(request, options).get();
+            var changes = response.getChanges();
+            if (changes != null && !changes.isEmpty()) {
+                var changed = new StaleDecisions();
+                for (var change : changes) {
+                    var tuple = change.getTupleKey();
+                    changed.add(tuple.getUser(), tuple.getObject());
+                    changed.addTypeRelation(tuple.getObject(), tuple.getRelation());
+                    if (change.getTimestamp() != null) {
+                        newestChange = Duration.between(change.getTimestamp().toInstant(), clock.instant());
+                    }
+                }
+                evictionCount.addAndGet(checkCache.invalidateIf((key, allowed) -> changed.affects(key)));
+                changeCount.addAndGet(changes.size());
+            }
+            var nextToken = response.getContinuationToken();
+            boolean advanced =
+                    nextToken != null && !nextToken.isEmpty() && !Objects.equals(nextToken, continuationToken);
+            if (advanced) {
+                tokenStore.save(nextToken);
+                continuationToken = nextToken;
+            }
+            if (!advanced || changes == null || changes.size() < pageSize) {
+                break;
+            }
+        }
+        lag.set(newestChange.isNegative() ? Duration.ZERO : newestChange);
+    }
+}
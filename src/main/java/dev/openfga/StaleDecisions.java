@@ -0,0 +1,49 @@
+package dev.openfga;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Collects the users, objects and relations touched by tuple changes, to find the cached decisions the changes may
+ * have made stale. A userset or wildcard user, such as {@code group:eng#member} or {@code user:*}, may affect any
+ * check, so it makes every decision stale.
+ */
+final class StaleDecisions {
+
+    private final Set<String> users = new HashSet<>();
+    private final Set<String> objects = new HashSet<>();
+    private final Set<String> typeRelations = new HashSet<>();
+    private boolean all;
+
+    static boolean isUserset(String user) {
+        return user.indexOf('#') >= 0 || user.endsWith(":*");
+    }
+
+    void add(String user, String object) {
+        if (isUserset(user)) {
+            all = true;
+        }
+        users.add(user);
+        objects.add(object);
+    }
+
+    void addTypeRelation(String object, String relation) {
+        typeRelations.add(objectType(object) + "#" + relation);
+    }
+
+    boolean isEmpty() {
+        return !all && users.isEmpty() && objects.isEmpty() && typeRelations.isEmpty();
+    }
+
+    boolean affects(CheckKey key) {
+        return all
+                || users.contains(key.user())
+                || objects.contains(key.object())
+                || (!typeRelations.isEmpty() && typeRelations.contains(key.objectType() + "#" + key.relation()));
+    }
+
+    private static String objectType(String object) {
+        int separator = object.indexOf(':');
+        return separator < 0 ? object : object.substring(0, separator);
+    }
+}
@@ -0,0 +1,128 @@
+package dev.openfga;
+
+import dev.openfga.sdk.api.model.StreamedListObjectsResponse;
+import java.time.Duration;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Bridges the objects pushed by a streamed list objects request to a {@link Stream} pulled by the caller. At most
+ * {@code capacity} objects are held at a time: once the buffer is full, the thread receiving the response waits for
+ * the caller to catch up, so memory use does not grow with the number of objects.<br/>
+ *
+ * The thread receiving the response waits at most {@code maxWait} for the caller. A caller that stops reading for
+ * longer without closing the stream is taken to have abandoned it: the request is cancelled, and the stream fails with
+ * a {@link TimeoutException}. Once the stream is closed or abandoned, objects still pushed by the request are rejected
+ * with a {@link CancellationException}, so that the response is no longer read.
+ */
+final class StreamedObjects implements Consumer<StreamedListObjectsResponse> {
+
+    private static final Object END = new Object();
+
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final BlockingQueue<Object> queue;
+    private final Duration maxWait;
+    private final Function<Throwable, RuntimeException> failure;
+    private volatile boolean closed;
+    private volatile CompletableFuture<?> request;
+
+    StreamedObjects(int capacity, Duration maxWait, Function<Throwable, RuntimeException> failure) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxWait = maxWait;
+        this.failure = failure;
+    }
+
+    @Override
+    public void accept(StreamedListObjectsResponse response) {
+        offer(response.getObject());
+        if (closed) {
+            throw new CancellationException("The stream of objects was closed");
+        }
+    }
+
+    void start(CompletableFuture<?> request) {
+        this.request = request;
+        request.whenComplete((result, error) -> offer(error != null ? new Failure(error) : END));
+    }
+
+    Stream<String> stream() {
+        var spliterator = new Spliterators.AbstractSpliterator<String>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private boolean done;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super String> action) {
+                if (done) {
+                    return false;
+                }
+                Object element;
+                try {
+                    element = queue.take();
+                } catch (InterruptedException e) {
+                    done = true;
+                    throw failure.apply(e);
+                }
+                if (element == END) {
+                    done = true;
+                    return false;
+                }
+                if (element instanceof Failure failed) {
+                    done = true;
+                    throw failure.apply(failed.error());
+                }
+                action.accept((String) element);
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    private void offer(Object element) {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        try {
+            // wait for the caller to consume an object, or to close the stream
+            while (!closed) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    abandon();
+                    return;
+                }
+                if (queue.offer(element, Math.min(remaining, POLL_NANOS), TimeUnit.NANOSECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void abandon() {
+        closed = true;
+        queue.clear();
+        queue.offer(new Failure(new TimeoutException("The stream of objects was not read for " + maxWait)));
+        if (request != null) {
+            request.cancel(true);
+        }
+    }
+
+    private void close() {
+        closed = true;
+        if (request != null) {
+            request.cancel(true);
+        }
+        queue.clear();
+    }
+
+    private record Failure(Throwable error) {}
+}
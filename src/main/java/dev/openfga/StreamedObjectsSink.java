@@ -0,0 +1,98 @@
+package dev.openfga;
+
+import dev.openfga.sdk.api.model.StreamedListObjectsResponse;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Operators;
+
+/**
+ * Bridges the objects pushed by a streamed list objects request to a {@link FluxSink}, as far as the subscriber
+ * requested them. At most {@code capacity} objects are emitted ahead of the demand of the subscriber, to be buffered by
+ * the sink: once they are, the thread receiving the response waits for the subscriber to request more, so memory use
+ * does not grow with the number of objects. Unlike {@link StreamedObjects}, no thread waits for the objects, and a
+ * slow subscriber is waited for as long as it stays subscribed.<br/>
+ *
+ * Cancelling the subscription cancels the request, and objects still pushed by it are rejected with a
+ * {@link CancellationException}, so that the response is no longer read.
+ */
+final class StreamedObjectsSink implements Consumer<StreamedListObjectsResponse> {
+
+    private final FluxSink<String> sink;
+    private final Object lock = new Object();
+    private long credit;
+    private boolean cancelled;
+    private CompletableFuture<?> request;
+
+    StreamedObjectsSink(FluxSink<String> sink, int capacity) {
+        this.sink = sink;
+        this.credit = capacity;
+        sink.onRequest(this::request);
+        sink.onDispose(this::cancel);
+    }
+
+    @Override
+    public void accept(StreamedListObjectsResponse response) {
+        synchronized (lock) {
+            // wait for the subscriber to request more objects, or to cancel its subscription
+            while (credit == 0 && !cancelled) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("Interrupted while waiting for the subscriber");
+                }
+            }
+            if (cancelled) {
+                throw new CancellationException("The subscription to the objects was cancelled");
+            }
+            if (credit != Long.MAX_VALUE) {
+                credit--;
+            }
+        }
+        sink.next(response.getObject());
+    }
+
+    void start(CompletableFuture<?> request, Function<Throwable, RuntimeException> failure) {
+        synchronized (lock) {
+            if (cancelled) {
+                request.cancel(true);
+                return;
+            }
+            this.request = request;
+        }
+        request.whenComplete((result, error) -> {
+            synchronized (lock) {
+                if (cancelled) {
+                    return;
+                }
+            }
+            if (error != null) {
+                sink.error(failure.apply(error));
+            } else {
+                sink.complete();
+            }
+        });
+    }
+
+    private void request(long count) {
+        synchronized (lock) {
+            credit = Operators.addCap(credit, count);
+            lock.notifyAll();
+        }
+    }
+
+    private void cancel() {
+        CompletableFuture<?> started;
+        synchronized (lock) {
+            cancelled = true;
+            started = request;
+            lock.notifyAll();
+        }
+        if (started != null) {
+            started.cancel(true);
+        }
+    }
+}
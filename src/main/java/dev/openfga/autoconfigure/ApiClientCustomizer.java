@@ -0,0 +1,17 @@
+package dev.openfga.autoconfigure;
+
+import dev.openfga.sdk.api.client.ApiClient;
+
+/**
+ * Callback interface that can be used to customize the {@link ApiClient} created by the starter, for example to set a
+ * request interceptor.
+ */
+@FunctionalInterface
+public interface ApiClientCustomizer {
+
+    /**
+     * Callback to customize an {@link ApiClient} instance.
+     * @param apiClient API client to customize
+     */
+    void customize(ApiClient apiClient);
+}
@@ -5,13 +5,39 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.openfga.AdaptiveConcurrencyLimit;
+import dev.openfga.CheckBatcher;
+import dev.openfga.CheckCache;
+import dev.openfga.CheckCircuitBreaker;
+import dev.openfga.CheckCoalescer;
+import dev.openfga.CheckHedger;
+import dev.openfga.CheckMemoWebFilter;
+import dev.openfga.ContinuationTokenStore;
+import dev.openfga.FileContinuationTokenStore;
+import dev.openfga.InMemoryContinuationTokenStore;
 import dev.openfga.OpenFga;
+import dev.openfga.OpenFgaCacheMetrics;
+import dev.openfga.OpenFgaCircuitBreakerMetrics;
+import dev.openfga.OpenFgaConcurrencyLimiter;
 import dev.openfga.OpenFgaExceptionHandler;
+import dev.openfga.OpenFgaInterceptor;
+import dev.openfga.OpenFgaMetricsInterceptor;
+import dev.openfga.OpenFgaObservationInterceptor;
+import dev.openfga.OpenFgaTupleWriter;
+import dev.openfga.ReadChangesWatcher;
+import dev.openfga.ReactiveOpenFga;
 import dev.openfga.sdk.api.client.ApiClient;
 import dev.openfga.sdk.api.client.OpenFgaClient;
 import dev.openfga.sdk.api.configuration.*;
 import dev.openfga.sdk.errors.FgaInvalidParameterException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
 import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -19,13 +45,22 @@ import java.util.stream.Collectors;
 import org.openapitools.jackson.nullable.JsonNullableModule;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.context.properties.PropertyMapper;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * Configures an {@code openFgaClient} and {@code openFga} beans based
@@ -35,7 +70,13 @@ import org.springframework.core.io.ResourceLoader;
  * {@link OpenFgaConnectionDetails} bean is present (for example, one
  * contributed by a Testcontainers {@code @ServiceConnection}).
  */
-@AutoConfiguration
+@AutoConfiguration(
+        afterName = {
+            "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+            "org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration",
+            "org.springframework.boot.actuate.autoconfigure.tracing.BraveAutoConfiguration",
+            "org.springframework.boot.actuate.autoconfigure.tracing.OpenTelemetryTracingAutoConfiguration"
+        })
 @ConditionalOnFgaProperties
 @EnableConfigurationProperties(OpenFgaProperties.class)
 public class OpenFgaAutoConfiguration {
@@ -151,11 +192,15 @@ public class OpenFgaAutoConfiguration {
     }
 
     /**
-     * Creates an {@link ApiClient} bean if none exists.
+     * Creates an {@link ApiClient} bean if none exists. With {@code openfga.threading.mode} set to {@code virtual}, the
+     * HTTP client runs on virtual threads whichever {@link HttpClientBuilderCustomizer} is used, since the executor is
+     * set before the customizer is applied, which may still replace it.
      *
      * @param httpClientBuilderProvider provides the {@link HttpClient.Builder} bean
      * @param objectMapperProvider provides the {@link ObjectMapper} bean
      * @param httpClientBuilderCustomizer customizes the {@link HttpClient.Builder}
+     * @param openFgaProperties the configuration properties for OpenFGA
+     * @param apiClientCustomizers provides the {@link ApiClientCustomizer} beans
      * @return the configured {@link ApiClient} bean
      */
     @Bean
@@ -163,19 +208,30 @@ public class OpenFgaAutoConfiguration {
     public ApiClient apiClient(
             ObjectProvider<HttpClient.Builder> httpClientBuilderProvider,
             ObjectProvider<ObjectMapper> objectMapperProvider,
-            HttpClientBuilderCustomizer httpClientBuilderCustomizer) {
+            HttpClientBuilderCustomizer httpClientBuilderCustomizer,
+            OpenFgaProperties openFgaProperties,
+            ObjectProvider<ApiClientCustomizer> apiClientCustomizers) {
 
-        if ((httpClientBuilderProvider.getIfAvailable() == null) && (objectMapperProvider.getIfAvailable() == null)) {
-            return new ApiClient();
+        ApiClient apiClient;
+        if ((httpClientBuilderProvider.getIfAvailable() == null)
+                && (objectMapperProvider.getIfAvailable() == null)
+                && (openFgaProperties.getThreading().getMode() == OpenFgaProperties.ThreadingMode.PLATFORM)) {
+            apiClient = new ApiClient();
+        } else {
+            var httpClientBuilder = httpClientBuilderProvider.getIfAvailable(HttpClient::newBuilder);
+            if (openFgaProperties.getThreading().getMode() == OpenFgaProperties.ThreadingMode.VIRTUAL) {
+                httpClientBuilder.executor(OpenFgaThreads.virtualThreadPerTaskExecutor("openfga-http"));
+            }
+            httpClientBuilderCustomizer.customize(httpClientBuilder);
+            apiClient = new ApiClient(
+                    httpClientBuilder,
+                    objectMapperProvider.getIfAvailable(OpenFgaAutoConfiguration::createDefaultObjectMapper));
         }
-        var httpClientBuilder = httpClientBuilderProvider.getIfAvailable(HttpClient::newBuilder);
-        httpClientBuilderCustomizer.customize(httpClientBuilder);
-        return new ApiClient(
-                httpClientBuilder,
-                objectMapperProvider.getIfAvailable(OpenFgaAutoConfiguration::createDefaultObjectMapper));
+        apiClientCustomizers.orderedStream().forEach(customizer -> customizer.customize(apiClient));
+        return apiClient;
     }
 
-    private static ObjectMapper createDefaultObjectMapper() {
+    static ObjectMapper createDefaultObjectMapper() {
         var mapper = new ObjectMapper();
         mapper.setDefaultPropertyInclusion(JsonInclude.Include.NON_NULL);
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
@@ -227,6 +283,7 @@ public class OpenFgaAutoConfiguration {
      * @param openFgaProperties the configuration properties for OpenFGA
      * @param objectMapperProvider provides the {@link ObjectMapper} bean
      * @param resourceLoader the {@link ResourceLoader} used to resolve the configured locations
+     * @param interceptorsProvider provides the {@link OpenFgaInterceptor} beans
      * @return the {@link OpenFgaInitializer} bean
      */
     @Bean
@@ -236,10 +293,183 @@ public class OpenFgaAutoConfiguration {
             OpenFgaClient openFgaClient,
             OpenFgaProperties openFgaProperties,
             ObjectProvider<ObjectMapper> objectMapperProvider,
-            ResourceLoader resourceLoader) {
+            ResourceLoader resourceLoader,
+            ObjectProvider<OpenFgaInterceptor> interceptorsProvider) {
         var objectMapper = objectMapperProvider.getIfAvailable(OpenFgaAutoConfiguration::createDefaultObjectMapper);
-        return new OpenFgaInitializer(
+        var initializer = new OpenFgaInitializer(
                 openFgaClient, openFgaProperties.getInitialization(), resourceLoader, objectMapper);
+        initializer.setInterceptors(interceptorsProvider.orderedStream().toList());
+        return initializer;
+    }
+
+    /**
+     * Creates a {@link CheckCache} used by the {@link OpenFga} bean to cache check decisions. Only created when
+     * {@code openfga.cache.enabled} is set to {@code true}.
+     *
+     * @param openFgaProperties the configuration properties for OpenFGA
+     * @return the {@link CheckCache} bean
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "openfga.cache", name = "enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public CheckCache openFgaCheckCache(OpenFgaProperties openFgaProperties) {
+        var cache = openFgaProperties.getCache();
+        var checkCache = new CheckCache(cache.getMaximumSize(), cache.getTtl());
+        checkCache.setRefreshAheadFraction(cache.getRefreshAhead());
+        checkCache.setStaleWindows(cache.getStaleWindows());
+        checkCache.setStaleTimeout(cache.getStaleTimeout());
+        return checkCache;
+    }
+
+    /**
+     * Creates a {@link CheckCoalescer} used by the {@link OpenFga} bean to share a single request between identical
+     * concurrent checks. Only created when {@code openfga.coalescing.enabled} is set to {@code true}.
+     *
+     * @return the {@link CheckCoalescer} bean
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "openfga.coalescing", name = "enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public CheckCoalescer openFgaCheckCoalescer() {
+        return new CheckCoalescer();
+    }
+
+    /**
+     * Creates a {@link ReadChangesWatcher} that removes {@link CheckCache} decisions made stale by changes read from
+     * the ReadChanges feed. Only created when {@code openfga.change-watcher.enabled} is set to {@code true}.
+     *
+     * @param openFgaClient the {@link OpenFgaClient} bean
+     * @param checkCache the {@link CheckCache} bean
+     * @param openFgaProperties the configuration properties for OpenFGA
+     * @param tokenStoreProvider provides the optional {@link ContinuationTokenStore} bean
+     * @return the {@link ReadChangesWatcher} bean
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "openfga.change-watcher", name = "enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public ReadChangesWatcher openFgaReadChangesWatcher(
+            OpenFgaClient openFgaClient,
+            CheckCache checkCache,
+            OpenFgaProperties openFgaProperties,
+            ObjectProvider<ContinuationTokenStore> tokenStoreProvider) {
+        var changeWatcher = openFgaProperties.getChangeWatcher();
+        var tokenStore = tokenStoreProvider.getIfAvailable(() -> StringUtils.hasText(changeWatcher.getTokenFile())
+                ? new FileContinuationTokenStore(Path.of(changeWatcher.getTokenFile()))
+                : new InMemoryContinuationTokenStore());
+        return new ReadChangesWatcher(
+                openFgaClient,
+                checkCache,
+                tokenStore,
+                changeWatcher.getPollInterval(),
+                changeWatcher.getPageSize(),
+                OpenFgaThreads.threadFactory(openFgaProperties.getThreading().getMode(), "openfga-change-watcher"));
+    }
+
+    /**
+     * Creates a {@link CheckBatcher} used by the {@link OpenFga} bean to combine checks from concurrent callers into
+     * batch check requests. Only created when {@code openfga.batching.enabled} is set to {@code true}. With an
+     * {@link OpenFgaConcurrencyLimiter} bean, each request the batcher sends takes a single slot of the limiter.
+     *
+     * @param openFgaClient the {@link OpenFgaClient} bean
+     * @param openFgaProperties the configuration properties for OpenFGA
+     * @param concurrencyLimiterProvider provides the optional {@link OpenFgaConcurrencyLimiter} bean
+     * @return the {@link CheckBatcher} bean
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "openfga.batching", name = "enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public CheckBatcher openFgaCheckBatcher(
+            OpenFgaClient openFgaClient,
+            OpenFgaProperties openFgaProperties,
+            ObjectProvider<OpenFgaConcurrencyLimiter> concurrencyLimiterProvider) {
+        var batching = openFgaProperties.getBatching();
+        var checkBatcher = new CheckBatcher(
+                openFgaClient,
+                batching.getMaxBatchSize(),
+                batching.getWindow(),
+                OpenFgaThreads.threadFactory(openFgaProperties.getThreading().getMode(), "openfga-check-batcher"));
+        concurrencyLimiterProvider.ifAvailable(checkBatcher::setConcurrencyLimiter);
+        return checkBatcher;
+    }
+
+    /**
+     * Creates a {@link CheckCircuitBreaker} used by the {@link OpenFga} bean to stop sending checks while OpenFGA is
+     * failing or slow. Only created when {@code openfga.circuit-breaker.enabled} is set to {@code true}.
+     *
+     * @param openFgaProperties the configuration properties for OpenFGA
+     * @return the {@link CheckCircuitBreaker} bean
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "openfga.circuit-breaker", name = "enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public CheckCircuitBreaker openFgaCircuitBreaker(OpenFgaProperties openFgaProperties) {
+        var properties = openFgaProperties.getCircuitBreaker();
+        var circuitBreaker = new CheckCircuitBreaker(
+                properties.getWindowSize(),
+                properties.getMinimumCalls(),
+                properties.getFailureRateThreshold(),
+                properties.getSlowCallDuration(),
+                properties.getSlowCallRateThreshold(),
+                properties.getOpenDuration());
+        circuitBreaker.setOpenDecision(properties.getOpenDecision());
+        return circuitBreaker;
+    }
+
+    /**
+     * Creates a {@link CheckHedger} used by the {@link OpenFga} bean to send a duplicate of checks that are not
+     * answered within a delay. Only created when {@code openfga.hedging.enabled} is set to {@code true}. When the
+     * Micrometer context propagation library is on the classpath, and {@code openfga.tracing.enabled} is not set to
+     * {@code false}, hedges are sent with the context of the caller, so that they join the trace of its check.
+     *
+     * @param openFgaProperties the configuration properties for OpenFGA
+     * @return the {@link CheckHedger} bean
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "openfga.hedging", name = "enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public CheckHedger openFgaCheckHedger(OpenFgaProperties openFgaProperties) {
+        var hedging = openFgaProperties.getHedging();
+        var checkHedger = new CheckHedger(
+                hedging.getDelay(),
+                hedging.getPercentile(),
+                hedging.getBudget(),
+                OpenFgaThreads.threadFactory(openFgaProperties.getThreading().getMode(), "openfga-check-hedger"));
+        if (openFgaProperties.getTracing().isEnabled()
+                && ClassUtils.isPresent("io.micrometer.context.ContextSnapshotFactory", getClass().getClassLoader())) {
+            checkHedger.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        }
+        return checkHedger;
+    }
+
+    /**
+     * Creates an {@link OpenFgaConcurrencyLimiter} that adaptively limits the number of concurrent requests to the FGA
+     * server, with separate limits for checks and bulk operations. It is an {@link OpenFgaInterceptor}, so every bean
+     * sending requests through the interceptors is limited. Only created when {@code openfga.concurrency-limit.enabled}
+     * is set to {@code true}.
+     *
+     * @param openFgaProperties the configuration properties for OpenFGA
+     * @return the {@link OpenFgaConcurrencyLimiter} bean
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "openfga.concurrency-limit", name = "enabled", havingValue = "true")
+    @ConditionalOnMissingBean
+    public OpenFgaConcurrencyLimiter openFgaConcurrencyLimiter(OpenFgaProperties openFgaProperties) {
+        var concurrencyLimit = openFgaProperties.getConcurrencyLimit();
+        return new OpenFgaConcurrencyLimiter(
+                limit(concurrencyLimit, concurrencyLimit.getCheck()),
+                limit(concurrencyLimit, concurrencyLimit.getBulk()),
+                concurrencyLimit.getMaxWait(),
+                OpenFgaThreads.threadFactory(
+                        openFgaProperties.getThreading().getMode(), "openfga-concurrency-limiter"));
+    }
+
+    private static AdaptiveConcurrencyLimit limit(
+            OpenFgaProperties.ConcurrencyLimit concurrencyLimit, OpenFgaProperties.ConcurrencyLimit.Limit limit) {
+        return new AdaptiveConcurrencyLimit(
+                limit.getInitialLimit(),
+                limit.getMaxLimit(),
+                concurrencyLimit.getLatencyThreshold(),
+                concurrencyLimit.getMaxQueueSize());
     }
 
     /**
@@ -247,12 +477,263 @@ public class OpenFgaAutoConfiguration {
      *
      * @param openFgaClient the {@link OpenFgaClient} bean
      * @param openFgaExceptionHandler the {@link  OpenFgaExceptionHandler} bean
+     * @param openFgaProperties the configuration properties for OpenFGA
+     * @param checkCacheProvider provides the optional {@link CheckCache} bean
+     * @param checkCoalescerProvider provides the optional {@link CheckCoalescer} bean
+     * @param checkBatcherProvider provides the optional {@link CheckBatcher} bean
+     * @param circuitBreakerProvider provides the optional {@link CheckCircuitBreaker} bean
+     * @param checkHedgerProvider provides the optional {@link CheckHedger} bean
+     * @param interceptorsProvider provides the {@link OpenFgaInterceptor} beans
      *
      * @return the {@link OpenFga} bean
      */
     @Bean
     @ConditionalOnMissingBean
-    public OpenFga fga(OpenFgaClient openFgaClient, OpenFgaExceptionHandler openFgaExceptionHandler) {
-        return new OpenFga(openFgaClient, openFgaExceptionHandler);
+    public OpenFga fga(
+            OpenFgaClient openFgaClient,
+            OpenFgaExceptionHandler openFgaExceptionHandler,
+            OpenFgaProperties openFgaProperties,
+            ObjectProvider<CheckCache> checkCacheProvider,
+            ObjectProvider<CheckCoalescer> checkCoalescerProvider,
+            ObjectProvider<CheckBatcher> checkBatcherProvider,
+            ObjectProvider<CheckCircuitBreaker> circuitBreakerProvider,
+            ObjectProvider<CheckHedger> checkHedgerProvider,
+            ObjectProvider<OpenFgaInterceptor> interceptorsProvider) {
+        var fga = new OpenFga(openFgaClient, openFgaExceptionHandler);
+        fga.setRequestMemoization(openFgaProperties.getRequestMemoization().isEnabled());
+        fga.setMaxBatchSize(openFgaProperties.getBatchCheck().getMaxBatchSize());
+        fga.setMaxParallelRequests(openFgaProperties.getBatchCheck().getMaxParallelRequests());
+        fga.setListObjectsThreshold(openFgaProperties.getFilter().getListObjectsThreshold());
+        fga.setListObjectsMaxResults(openFgaProperties.getFilter().getListObjectsMaxResults());
+        fga.setListObjectsDeadline(openFgaProperties.getFilter().getListObjectsDeadline());
+        checkCacheProvider.ifAvailable(fga::setCheckCache);
+        checkCoalescerProvider.ifAvailable(fga::setCheckCoalescer);
+        checkBatcherProvider.ifAvailable(fga::setCheckBatcher);
+        circuitBreakerProvider.ifAvailable(fga::setCircuitBreaker);
+        checkHedgerProvider.ifAvailable(fga::setCheckHedger);
+        fga.setInterceptors(interceptorsProvider.orderedStream().toList());
+        return fga;
+    }
+
+    /**
+     * Creates an {@link OpenFgaTupleWriter} bean if no other bean of this type is present.
+     *
+     * @param openFgaClient the {@link OpenFgaClient} bean
+     * @param openFgaExceptionHandler the {@link OpenFgaExceptionHandler} bean
+     * @param openFgaProperties the configuration properties for OpenFGA
+     * @param checkCacheProvider provides the optional {@link CheckCache} bean
+     * @param interceptorsProvider provides the {@link OpenFgaInterceptor} beans
+     * @return the {@link OpenFgaTupleWriter} bean
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public OpenFgaTupleWriter openFgaTupleWriter(
+            OpenFgaClient openFgaClient,
+            OpenFgaExceptionHandler openFgaExceptionHandler,
+            OpenFgaProperties openFgaProperties,
+            ObjectProvider<CheckCache> checkCacheProvider,
+            ObjectProvider<OpenFgaInterceptor> interceptorsProvider) {
+        var tupleWriter = new OpenFgaTupleWriter(openFgaClient, openFgaExceptionHandler);
+        tupleWriter.setSeedCache(openFgaProperties.getCache().isSeedOnWrite());
+        checkCacheProvider.ifAvailable(tupleWriter::setCheckCache);
+        tupleWriter.setInterceptors(interceptorsProvider.orderedStream().toList());
+        return tupleWriter;
+    }
+
+    /**
+     * Records Micrometer metrics of requests to OpenFGA and of the {@link CheckCache} when a {@code MeterRegistry} bean
+     * is present, unless {@code openfga.metrics.enabled} is set to {@code false}.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnBean(type = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "openfga.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class OpenFgaMetricsConfiguration {
+
+        /**
+         * Creates an {@link OpenFgaMetricsInterceptor} bean if no other bean of this type is present.
+         *
+         * @param meterRegistry the {@link MeterRegistry} bean
+         * @param openFgaProperties the configuration properties for OpenFGA
+         * @return the {@link OpenFgaMetricsInterceptor} bean
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        OpenFgaMetricsInterceptor openFgaMetricsInterceptor(
+                MeterRegistry meterRegistry, OpenFgaProperties openFgaProperties) {
+            var percentiles = openFgaProperties.getMetrics().getPercentiles().stream()
+                    .mapToDouble(Double::doubleValue)
+                    .toArray();
+            return new OpenFgaMetricsInterceptor(meterRegistry, percentiles);
+        }
+
+        /**
+         * Creates a {@link MeterBinder} bean binding the statistics of the {@link CheckCache} and the
+         * {@link ReadChangesWatcher}, if they are present.
+         *
+         * @param checkCacheProvider provides the optional {@link CheckCache} bean
+         * @param changeWatcherProvider provides the optional {@link ReadChangesWatcher} bean
+         * @return the {@link MeterBinder} bean
+         */
+        @Bean
+        MeterBinder openFgaCacheMetrics(
+                ObjectProvider<CheckCache> checkCacheProvider,
+                ObjectProvider<ReadChangesWatcher> changeWatcherProvider) {
+            return registry -> checkCacheProvider.ifAvailable(checkCache ->
+                    new OpenFgaCacheMetrics(checkCache, changeWatcherProvider.getIfAvailable()).bindTo(registry));
+        }
+
+        /**
+         * Creates a {@link MeterBinder} bean binding the statistics of the {@link CheckCircuitBreaker}, if it is
+         * present.
+         *
+         * @param circuitBreakerProvider provides the optional {@link CheckCircuitBreaker} bean
+         * @return the {@link MeterBinder} bean
+         */
+        @Bean
+        MeterBinder openFgaCircuitBreakerMetrics(ObjectProvider<CheckCircuitBreaker> circuitBreakerProvider) {
+            return registry -> circuitBreakerProvider.ifAvailable(
+                    circuitBreaker -> new OpenFgaCircuitBreakerMetrics(circuitBreaker).bindTo(registry));
+        }
+    }
+
+    /**
+     * Reports the state of the {@link CheckCircuitBreaker} to the health endpoint when Spring Boot Actuator is on the
+     * classpath and {@code openfga.circuit-breaker.enabled} is set to {@code true}. The health is {@code UP} while the
+     * breaker is closed, {@code UNKNOWN} while it probes OpenFGA, and {@code OUT_OF_SERVICE} while it is open.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.health.HealthIndicator")
+    @ConditionalOnProperty(prefix = "openfga.circuit-breaker", name = "enabled", havingValue = "true")
+    static class OpenFgaCircuitBreakerHealthConfiguration {
+
+        /**
+         * Creates a {@link HealthIndicator} bean reporting the state of the {@link CheckCircuitBreaker}.
+         *
+         * @param circuitBreaker the {@link CheckCircuitBreaker} bean
+         * @return the {@link HealthIndicator} bean
+         */
+        @Bean
+        @ConditionalOnMissingBean(name = "openFgaCircuitBreakerHealthIndicator")
+        HealthIndicator openFgaCircuitBreakerHealthIndicator(CheckCircuitBreaker circuitBreaker) {
+            return () -> {
+                var builder =
+                        switch (circuitBreaker.getState()) {
+                            case CLOSED -> Health.up();
+                            case HALF_OPEN -> Health.unknown();
+                            case OPEN -> Health.outOfService();
+                        };
+                return builder.withDetail("state", circuitBreaker.getState())
+                        .withDetail("failureRate", circuitBreaker.getFailureRate())
+                        .withDetail("slowCallRate", circuitBreaker.getSlowCallRate())
+                        .withDetail("rejectedCount", circuitBreaker.getRejectedCount())
+                        .build();
+            };
+        }
+    }
+
+    /**
+     * Wraps requests to OpenFGA in Micrometer observations when an {@code ObservationRegistry} bean is present, unless
+     * {@code openfga.tracing.enabled} is set to {@code false}.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.observation.ObservationRegistry")
+    @ConditionalOnBean(type = "io.micrometer.observation.ObservationRegistry")
+    @ConditionalOnProperty(prefix = "openfga.tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class OpenFgaObservationConfiguration {
+
+        /**
+         * Creates an {@link OpenFgaObservationInterceptor} bean if no other bean of this type is present.
+         *
+         * @param observationRegistry the {@link ObservationRegistry} bean
+         * @return the {@link OpenFgaObservationInterceptor} bean
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        OpenFgaObservationInterceptor openFgaObservationInterceptor(ObservationRegistry observationRegistry) {
+            return new OpenFgaObservationInterceptor(observationRegistry);
+        }
+    }
+
+    /**
+     * Propagates the trace context of the current span to OpenFGA in the headers of every request, when a
+     * {@code Tracer} and a {@code Propagator} bean are present, unless {@code openfga.tracing.enabled} is set to
+     * {@code false}.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.tracing.Tracer")
+    @ConditionalOnBean(type = {"io.micrometer.tracing.Tracer", "io.micrometer.tracing.propagation.Propagator"})
+    @ConditionalOnProperty(prefix = "openfga.tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class OpenFgaTracingConfiguration {
+
+        /**
+         * Creates an {@link ApiClientCustomizer} that adds the trace context of the current span to the headers of
+         * every request, keeping any request interceptor already set.
+         *
+         * @param tracer the {@link Tracer} bean
+         * @param propagator the {@link Propagator} bean
+         * @return the {@link ApiClientCustomizer} bean
+         */
+        @Bean
+        ApiClientCustomizer openFgaTracingApiClientCustomizer(Tracer tracer, Propagator propagator) {
+            return apiClient -> {
+                var interceptor = apiClient.getRequestInterceptor();
+                apiClient.setRequestInterceptor(builder -> {
+                    if (interceptor != null) {
+                        interceptor.accept(builder);
+                    }
+                    var span = tracer.currentSpan();
+                    if (span != null) {
+                        propagator.inject(span.context(), builder, HttpRequest.Builder::setHeader);
+                    }
+                });
+            };
+        }
+    }
+
+    /**
+     * Creates a {@link ReactiveOpenFga} bean when WebFlux is on the classpath.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = {"reactor.core.publisher.Mono", "org.springframework.web.reactive.DispatcherHandler"})
+    static class ReactiveOpenFgaConfiguration {
+
+        /**
+         * Creates a {@link ReactiveOpenFga} bean if no other bean of this type is present.
+         *
+         * @param fga the {@link OpenFga} bean
+         * @return the {@link ReactiveOpenFga} bean
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        ReactiveOpenFga reactiveFga(OpenFga fga) {
+            return new ReactiveOpenFga(fga);
+        }
+    }
+
+    /**
+     * Binds a {@link dev.openfga.CheckMemo} to every request of a reactive web application, unless
+     * {@code openfga.request-memoization.enabled} is set to {@code false}.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "reactor.core.publisher.Mono")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnProperty(
+            prefix = "openfga.request-memoization",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    static class ReactiveRequestMemoizationConfiguration {
+
+        /**
+         * Creates a {@link CheckMemoWebFilter} if no other bean of this type is present.
+         *
+         * @return the {@link CheckMemoWebFilter} bean
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        CheckMemoWebFilter openFgaCheckMemoWebFilter() {
+            return new CheckMemoWebFilter();
+        }
     }
 }
@@ -2,6 +2,9 @@ package dev.openfga.autoconfigure;
 
 import com.fasterxml.jackson.annotation.JsonSetter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.openfga.InterceptorChain;
+import dev.openfga.OpenFgaCall;
+import dev.openfga.OpenFgaInterceptor;
 import dev.openfga.sdk.api.client.OpenFgaClient;
 import dev.openfga.sdk.api.client.model.ClientReadRequest;
 import dev.openfga.sdk.api.client.model.ClientReadResponse;
@@ -11,9 +14,28 @@ import dev.openfga.sdk.api.client.model.ClientWriteRequest;
 import dev.openfga.sdk.api.configuration.ClientReadOptions;
 import dev.openfga.sdk.api.configuration.ClientWriteOptions;
 import dev.openfga.sdk.api.model.ConsistencyPreference;
+import dev.openfga.sdk.api.model.TupleKey;
 import dev.openfga.sdk.api.model.WriteAuthorizationModelRequest;
+import dev.openfga.sdk.errors.FgaError;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.ApplicationArguments;
@@ -28,17 +50,30 @@ import org.springframework.util.StringUtils;
  * database initialization.
  *
  * <p>The initializer writes the configured model only when the store has none. If tuples are
- * configured, it transactionally ensures them on every startup so interrupted initialization can
- * be retried safely. Any failure is propagated so that the application fails fast.
+ * configured, it ensures them on every startup, in transactional chunks, so interrupted
+ * initialization can be retried safely. Any failure is propagated so that the application fails
+ * fast.
+ *
+ * <p>If a checksum file is configured, a checksum of the store ID, model and tuples is recorded
+ * there after a successful initialization, and later startups skip initialization while it matches.
  */
 public class OpenFgaInitializer implements ApplicationRunner {
 
     private static final Logger logger = LoggerFactory.getLogger(OpenFgaInitializer.class);
 
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+
+    private static final int SCAN_PAGE_SIZE = 100;
+
+    private static final Duration RETRY_DELAY = Duration.ofMillis(100);
+
+    private static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(5);
+
     private final OpenFgaClient fgaClient;
     private final OpenFgaProperties.Initialization initialization;
     private final ResourceLoader resourceLoader;
     private final ObjectMapper objectMapper;
+    private List<OpenFgaInterceptor> interceptors = List.of();
 
     /**
      * Create a new initializer.
@@ -62,19 +97,113 @@ public class OpenFgaInitializer implements ApplicationRunner {
                 .addMixIn(ClientTupleKeyWithoutCondition.class, ClientTupleKeyWithoutConditionMixin.class);
     }
 
+    /**
+     * Set the {@link OpenFgaInterceptor}s that requests to the FGA server are sent through. The first interceptor is
+     * the outermost.
+     *
+     * @param interceptors the interceptors to use, may be empty
+     */
+    public void setInterceptors(List<OpenFgaInterceptor> interceptors) {
+        this.interceptors = List.copyOf(interceptors);
+    }
+
     @Override
     public void run(ApplicationArguments args) throws Exception {
         try {
+            String checksum = checksum();
+            if (checksum != null && checksum.equals(recordedChecksum())) {
+                logger.info(
+                        "OpenFGA store, model and tuples unchanged since the initialization recorded in {}; skipping"
+                                + " initialization",
+                        initialization.getChecksumFile());
+                return;
+            }
             String authorizationModelId = findOrWriteAuthorizationModel();
             writeTuples(authorizationModelId);
+            if (checksum != null) {
+                recordChecksum(checksum);
+            }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw e;
         }
     }
 
+    /**
+     * Computes a checksum of the store ID and the locations and contents of the model and tuples, or returns
+     * {@code null} when no checksum file is configured or a resource does not exist.
+     */
+    private String checksum() throws Exception {
+        if (!StringUtils.hasText(initialization.getChecksumFile())) {
+            return null;
+        }
+        var parts = new ArrayList<String>();
+        parts.add(String.valueOf(fgaClient.getStoreId()));
+        parts.add(initialization.getModelLocation());
+        parts.add(contentChecksum(initialization.getModelLocation()));
+        if (StringUtils.hasText(initialization.getTuplesLocation())) {
+            parts.add(initialization.getTuplesLocation());
+            parts.add(initialization.getTuplesFormat().name());
+            parts.add(contentChecksum(initialization.getTuplesLocation()));
+        }
+        if (parts.contains(null)) {
+            return null;
+        }
+        return sha256(new ByteArrayInputStream(String.join("\n", parts).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String contentChecksum(String location) throws Exception {
+        Resource resource = resourceLoader.getResource(location);
+        if (!resource.exists()) {
+            return null;
+        }
+        try (var input = resource.getInputStream()) {
+            return sha256(input);
+        }
+    }
+
+    private static String sha256(InputStream input) throws Exception {
+        var digest = MessageDigest.getInstance("SHA-256");
+        var buffer = new byte[8192];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private String recordedChecksum() {
+        var path = Path.of(initialization.getChecksumFile());
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            return Files.readString(path).strip();
+        } catch (IOException e) {
+            logger.warn("Could not read OpenFGA initialization checksum from {}", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Records the checksum once initialization succeeded. Failing to record it only means the next startup
+     * initializes again, so it does not fail startup.
+     */
+    private void recordChecksum(String checksum) {
+        var path = Path.of(initialization.getChecksumFile());
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, checksum + "\n");
+        } catch (IOException e) {
+            logger.warn("Could not record OpenFGA initialization checksum in {}", path, e);
+        }
+    }
+
     private String findOrWriteAuthorizationModel() throws Exception {
-        var authorizationModel = fgaClient.readLatestAuthorizationModel().get().getAuthorizationModel();
+        var authorizationModel = send(OpenFgaCall.READ_AUTHORIZATION_MODEL, fgaClient::readLatestAuthorizationModel)
+                .getAuthorizationModel();
         if (authorizationModel != null) {
             logger.info("OpenFGA store already has an authorization model; skipping model initialization");
             return authorizationModel.getId();
@@ -89,8 +218,9 @@ public class OpenFgaInitializer implements ApplicationRunner {
                     "OpenFGA authorization model location does not exist: " + initialization.getModelLocation());
         }
         var request = objectMapper.readValue(resource.getContentAsByteArray(), WriteAuthorizationModelRequest.class);
-        String authorizationModelId =
-                fgaClient.writeAuthorizationModel(request).get().getAuthorizationModelId();
+        String authorizationModelId = send(
+                        OpenFgaCall.WRITE_AUTHORIZATION_MODEL, () -> fgaClient.writeAuthorizationModel(request))
+                .getAuthorizationModelId();
         logger.info(
                 "Wrote OpenFGA authorization model {} from {}",
                 authorizationModelId,
@@ -107,40 +237,260 @@ public class OpenFgaInitializer implements ApplicationRunner {
             throw new IllegalStateException(
                     "OpenFGA initial tuples location does not exist: " + initialization.getTuplesLocation());
         }
-        var requestedTuples = objectMapper.readValue(resource.getContentAsByteArray(), ClientWriteRequest.class);
-        var pendingTuples = pendingTuples(requestedTuples);
-        if (!hasChanges(pendingTuples)) {
+        long start = System.nanoTime();
+        var options = new ClientWriteOptions().authorizationModelId(authorizationModelId);
+        var progress = new Progress();
+        var failures = new ArrayList<ChunkFailure>();
+        OpenFgaProperties.TupleDiffStrategy strategy = null;
+        ExistingTuples existingTuples = null;
+        int compared = 0;
+        int changed = 0;
+        int chunkCount = 0;
+        try (var reader = TupleFileReader.open(
+                resource, initialization.getTuplesLocation(), initialization.getTuplesFormat(), objectMapper)) {
+            ClientWriteRequest requestedTuples;
+            while ((requestedTuples = reader.next(initialization.getBatchSize())) != null) {
+                if (strategy == null) {
+                    strategy = diffStrategy(requestedTuples);
+                    if (strategy == OpenFgaProperties.TupleDiffStrategy.SCAN) {
+                        existingTuples = scanStore();
+                        if (existingTuples == null) {
+                            strategy = OpenFgaProperties.TupleDiffStrategy.PER_TUPLE;
+                        }
+                    }
+                }
+                compared += size(requestedTuples);
+                var pendingTuples = pendingTuples(requestedTuples, existingTuples, progress);
+                if (!hasChanges(pendingTuples)) {
+                    continue;
+                }
+                var chunks = chunks(pendingTuples);
+                failures.addAll(writeChunks(chunks, chunkCount, options));
+                changed += size(pendingTuples);
+                chunkCount += chunks.size();
+            }
+        }
+        logger.info(
+                "Compared {} initial OpenFGA tuples with the store in {} ms using the {} strategy",
+                compared,
+                millisSince(start),
+                strategy != null ? strategy : initialization.getDiffStrategy());
+        if (!failures.isEmpty()) {
+            throw chunksFailed(failures, chunkCount);
+        }
+        if (changed == 0) {
             logger.info("Initial OpenFGA tuples already present; skipping tuple initialization");
             return;
         }
+        logger.info(
+                "Wrote {} initial OpenFGA tuple changes in {} chunks from {} in {} ms",
+                changed,
+                chunkCount,
+                initialization.getTuplesLocation(),
+                millisSince(start));
+    }
+
+    private List<ClientWriteRequest> chunks(ClientWriteRequest pendingTuples) {
+        var writes = pendingTuples.getWrites() != null ? pendingTuples.getWrites() : List.<ClientTupleKey>of();
+        var deletes = pendingTuples.getDeletes() != null
+                ? pendingTuples.getDeletes()
+                : List.<ClientTupleKeyWithoutCondition>of();
+        int total = writes.size() + deletes.size();
+        var chunks = new ArrayList<ClientWriteRequest>();
+        for (int start = 0; start < total; start += initialization.getWriteChunkSize()) {
+            int end = Math.min(total, start + initialization.getWriteChunkSize());
+            var chunk = new ClientWriteRequest();
+            if (start < writes.size()) {
+                chunk.writes(List.copyOf(writes.subList(start, Math.min(end, writes.size()))));
+            }
+            if (end > writes.size()) {
+                chunk.deletes(List.copyOf(deletes.subList(Math.max(0, start - writes.size()), end - writes.size())));
+            }
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * Writes the chunks transactionally, keeping at most {@code write-concurrency} of them in flight. A chunk that
+     * fails is compared with the store again, as it may have been written concurrently or only its response lost, and
+     * whatever is still missing is written again until {@code write-attempts} is reached, after a delay doubling with
+     * each attempt. Only transient failures are retried: rate limiting, server errors, I/O errors and timeouts. Chunks
+     * are numbered from {@code firstIndex}, so they can be told apart across batches.
+     */
+    private List<ChunkFailure> writeChunks(List<ClientWriteRequest> chunks, int firstIndex, ClientWriteOptions options)
+            throws Exception {
+        var toSend = new ArrayDeque<ChunkWrite>();
+        for (int i = 0; i < chunks.size(); i++) {
+            toSend.addLast(new ChunkWrite(firstIndex + i, chunks.get(i), 1, null));
+        }
+        var inFlight = new ArrayDeque<ChunkWrite>();
+        var failures = new ArrayList<ChunkFailure>();
         try {
-            fgaClient
-                    .write(pendingTuples, new ClientWriteOptions().authorizationModelId(authorizationModelId))
-                    .get();
-        } catch (ExecutionException e) {
-            if (hasChanges(pendingTuples(requestedTuples))) {
-                throw e;
+            while (!toSend.isEmpty() || !inFlight.isEmpty()) {
+                while (!toSend.isEmpty() && inFlight.size() < initialization.getWriteConcurrency()) {
+                    var chunk = toSend.removeFirst();
+                    inFlight.addLast(chunk.withResponse(writeChunk(chunk, options)));
+                }
+                var chunk = inFlight.removeFirst();
+                try {
+                    chunk.response().get();
+                } catch (ExecutionException e) {
+                    ClientWriteRequest stillPending;
+                    try {
+                        stillPending = pendingTuples(chunk.tuples(), null, new Progress());
+                    } catch (ExecutionException readFailure) {
+                        e.getCause().addSuppressed(readFailure.getCause());
+                        failures.add(new ChunkFailure(chunk, e.getCause()));
+                        continue;
+                    }
+                    if (!hasChanges(stillPending)) {
+                        continue;
+                    }
+                    if (chunk.attempt() < initialization.getWriteAttempts() && isTransient(e.getCause())) {
+                        logger.warn(
+                                "Writing chunk {} of initial OpenFGA tuples failed; retrying in {} ms",
+                                chunk.index() + 1,
+                                retryDelay(chunk.attempt() + 1).toMillis());
+                        toSend.addFirst(new ChunkWrite(chunk.index(), stillPending, chunk.attempt() + 1, null));
+                    } else {
+                        failures.add(new ChunkFailure(chunk, e.getCause()));
+                    }
+                }
             }
+        } finally {
+            inFlight.forEach(chunk -> chunk.response().cancel(false));
+        }
+        return failures;
+    }
+
+    /**
+     * Writes a chunk, waiting for the retry delay of its attempt first. A chunk cancelled while waiting is not written.
+     */
+    private CompletableFuture<?> writeChunk(ChunkWrite chunk, ClientWriteOptions options) {
+        if (chunk.attempt() == 1) {
+            return sendAsync(OpenFgaCall.WRITE, () -> fgaClient.write(chunk.tuples(), options));
+        }
+        var response = new CompletableFuture<Object>();
+        var delay = retryDelay(chunk.attempt());
+        CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+            if (response.isDone()) {
+                return;
+            }
+            sendAsync(OpenFgaCall.WRITE, () -> fgaClient.write(chunk.tuples(), options))
+                    .whenComplete((written, error) -> {
+                        if (error != null) {
+                            response.completeExceptionally(error);
+                        } else {
+                            response.complete(written);
+                        }
+                    });
+        });
+        return response;
+    }
+
+    private static Duration retryDelay(int attempt) {
+        var delay = RETRY_DELAY.multipliedBy(1L << Math.min(attempt - 2, 16));
+        return delay.compareTo(MAX_RETRY_DELAY) < 0 ? delay : MAX_RETRY_DELAY;
+    }
+
+    /**
+     * Returns whether writing a chunk again may succeed: its failure is rate limiting, a server error, an I/O error or
+     * a timeout, rather than a rejection of the tuples.
+     */
+    private static boolean isTransient(Throwable error) {
+        for (var cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof FgaError fgaError) {
+                int status = fgaError.getStatusCode();
+                return status == 429 || status >= 500;
+            }
+            if (cause instanceof IOException || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ExecutionException chunksFailed(List<ChunkFailure> failures, int chunkCount) {
+        var message = new StringBuilder("Failed to write ")
+                .append(failures.size())
+                .append(" of ")
+                .append(chunkCount)
+                .append(" chunks of initial OpenFGA tuples from ")
+                .append(initialization.getTuplesLocation())
+                .append(':');
+        failures.sort(Comparator.comparingInt(failure -> failure.chunk().index()));
+        for (var failure : failures) {
+            message.append("\n  chunk ")
+                    .append(failure.chunk().index() + 1)
+                    .append(" (")
+                    .append(size(failure.chunk().tuples()))
+                    .append(" tuple changes, ")
+                    .append(failure.chunk().attempt())
+                    .append(" attempts): ")
+                    .append(failure.cause());
+        }
+        var exception = new ExecutionException(message.toString(), failures.get(0).cause());
+        for (var failure : failures.subList(1, failures.size())) {
+            exception.addSuppressed(failure.cause());
         }
-        logger.info("Wrote initial OpenFGA tuples from {}", initialization.getTuplesLocation());
+        return exception;
     }
 
-    private ClientWriteRequest pendingTuples(ClientWriteRequest requestedTuples) throws Exception {
+    /**
+     * Picks the diff strategy from the first batch of tuples. A full first batch counts as reaching the scan threshold,
+     * since the file holds at least that many tuples.
+     */
+    private OpenFgaProperties.TupleDiffStrategy diffStrategy(ClientWriteRequest firstBatch) {
+        var strategy = initialization.getDiffStrategy();
+        if (strategy != OpenFgaProperties.TupleDiffStrategy.AUTO) {
+            return strategy;
+        }
+        return size(firstBatch) >= Math.min(initialization.getScanThreshold(), initialization.getBatchSize())
+                ? OpenFgaProperties.TupleDiffStrategy.SCAN
+                : OpenFgaProperties.TupleDiffStrategy.PER_TUPLE;
+    }
+
+    /**
+     * Compares tuples with the tuples of the store if it was scanned, or else reads each of them.
+     */
+    private ClientWriteRequest pendingTuples(
+            ClientWriteRequest requestedTuples, ExistingTuples existingTuples, Progress progress) throws Exception {
+        var writes = requestedTuples.getWrites() != null ? requestedTuples.getWrites() : List.<ClientTupleKey>of();
+        var deletes = requestedTuples.getDeletes() != null
+                ? requestedTuples.getDeletes()
+                : List.<ClientTupleKeyWithoutCondition>of();
+        boolean[] existingWrites;
+        boolean[] existingDeletes;
+        if (existingTuples != null) {
+            existingWrites = new boolean[writes.size()];
+            for (int i = 0; i < writes.size(); i++) {
+                existingWrites[i] = existingTuples.contains(writes.get(i).asTupleKey());
+            }
+            existingDeletes = new boolean[deletes.size()];
+            for (int i = 0; i < deletes.size(); i++) {
+                existingDeletes[i] = existingTuples.containsIgnoringCondition(deletes.get(i));
+            }
+        } else {
+            existingWrites = tuplesExist(writes, this::tupleExists, progress);
+            existingDeletes = tuplesExist(deletes, this::anyTupleExists, progress);
+        }
+
         var pendingTuples = new ClientWriteRequest();
         if (requestedTuples.getWrites() != null) {
             var pendingWrites = new ArrayList<ClientTupleKey>();
-            for (var tuple : requestedTuples.getWrites()) {
-                if (!tupleExists(tuple)) {
-                    pendingWrites.add(tuple);
+            for (int i = 0; i < writes.size(); i++) {
+                if (!existingWrites[i]) {
+                    pendingWrites.add(writes.get(i));
                 }
             }
             pendingTuples.writes(pendingWrites);
         }
         if (requestedTuples.getDeletes() != null) {
             var pendingDeletes = new ArrayList<ClientTupleKeyWithoutCondition>();
-            for (var tuple : requestedTuples.getDeletes()) {
-                if (tupleExists(tuple)) {
-                    pendingDeletes.add(tuple);
+            for (int i = 0; i < deletes.size(); i++) {
+                if (existingDeletes[i]) {
+                    pendingDeletes.add(deletes.get(i));
                 }
             }
             pendingTuples.deletes(pendingDeletes);
@@ -148,22 +498,109 @@ public class OpenFgaInitializer implements ApplicationRunner {
         return pendingTuples;
     }
 
-    private boolean tupleExists(ClientTupleKey tuple) throws Exception {
-        return readTuple(tuple).getTuples().stream()
-                .anyMatch(existingTuple -> tuple.asTupleKey().equals(existingTuple.getKey()));
+    /**
+     * Reads every tuple of the store, a page of {@value #SCAN_PAGE_SIZE} tuples at a time, into a hashed set. With the
+     * {@link OpenFgaProperties.TupleDiffStrategy#AUTO} strategy, gives up and returns {@code null} once the store holds
+     * more than the scan limit, so that the initial tuples are read one at a time instead.
+     */
+    private ExistingTuples scanStore() throws Exception {
+        int limit = initialization.getDiffStrategy() == OpenFgaProperties.TupleDiffStrategy.AUTO
+                ? initialization.getScanLimit()
+                : Integer.MAX_VALUE;
+        var existingTuples = new ExistingTuples();
+        long lastReport = System.nanoTime();
+        String continuationToken = null;
+        do {
+            var options = new ClientReadOptions()
+                    .pageSize(SCAN_PAGE_SIZE)
+                    .continuationToken(continuationToken)
+                    .consistency(ConsistencyPreference.HIGHER_CONSISTENCY);
+            var page = send(OpenFgaCall.READ, () -> fgaClient.read(new ClientReadRequest(), options));
+            for (var tuple : page.getTuples()) {
+                existingTuples.add(tuple.getKey());
+            }
+            if (existingTuples.size() > limit) {
+                logger.info(
+                        "OpenFGA store holds more than {} tuples; reading each initial tuple from it instead", limit);
+                return null;
+            }
+            continuationToken = page.getContinuationToken();
+            long now = System.nanoTime();
+            if (now - lastReport >= PROGRESS_INTERVAL.toNanos()) {
+                lastReport = now;
+                logger.info("Read {} tuples of the OpenFGA store", existingTuples.size());
+            }
+        } while (StringUtils.hasText(continuationToken));
+        return existingTuples;
+    }
+
+    /**
+     * Reads whether each tuple exists, keeping at most {@code concurrency} reads in flight. Results are collected in
+     * order on the calling thread, and the reads still in flight are cancelled if one fails.
+     */
+    private <K> boolean[] tuplesExist(
+            List<K> tuples, Function<K, CompletableFuture<Boolean>> tupleExists, Progress progress) throws Exception {
+        var exists = new boolean[tuples.size()];
+        var inFlight = new ArrayDeque<CompletableFuture<Boolean>>();
+        int collected = 0;
+        try {
+            for (var tuple : tuples) {
+                if (inFlight.size() >= initialization.getConcurrency()) {
+                    exists[collected++] = inFlight.removeFirst().get();
+                    progress.advance();
+                }
+                inFlight.addLast(tupleExists.apply(tuple));
+            }
+            while (!inFlight.isEmpty()) {
+                exists[collected++] = inFlight.removeFirst().get();
+                progress.advance();
+            }
+        } finally {
+            inFlight.forEach(read -> read.cancel(false));
+        }
+        return exists;
+    }
+
+    private CompletableFuture<Boolean> tupleExists(ClientTupleKey tuple) {
+        return readTuple(tuple).thenApply(response -> response.getTuples().stream()
+                .anyMatch(existingTuple -> tuple.asTupleKey().equals(existingTuple.getKey())));
     }
 
-    private boolean tupleExists(ClientTupleKeyWithoutCondition tuple) throws Exception {
-        return !readTuple(tuple).getTuples().isEmpty();
+    private CompletableFuture<Boolean> anyTupleExists(ClientTupleKeyWithoutCondition tuple) {
+        return readTuple(tuple).thenApply(response -> !response.getTuples().isEmpty());
     }
 
-    private ClientReadResponse readTuple(ClientTupleKeyWithoutCondition tuple) throws Exception {
+    private CompletableFuture<ClientReadResponse> readTuple(ClientTupleKeyWithoutCondition tuple) {
         var request = new ClientReadRequest()
                 .user(tuple.getUser())
                 .relation(tuple.getRelation())
                 ._object(tuple.getObject());
         var options = new ClientReadOptions().consistency(ConsistencyPreference.HIGHER_CONSISTENCY);
-        return fgaClient.read(request, options).get();
+        return sendAsync(OpenFgaCall.READ, () -> fgaClient.read(request, options));
+    }
+
+    private <T> T send(String operation, FgaRequest<T> request) throws Exception {
+        return sendAsync(operation, request).get();
+    }
+
+    private <T> CompletableFuture<T> sendAsync(String operation, FgaRequest<T> request) {
+        var call = new OpenFgaCall(operation, null, null, null);
+        return InterceptorChain.send(interceptors, call, () -> {
+            try {
+                return request.send();
+            } catch (Exception cause) {
+                return CompletableFuture.failedFuture(cause);
+            }
+        });
+    }
+
+    private static long millisSince(long start) {
+        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+    }
+
+    private static int size(ClientWriteRequest request) {
+        return (request.getWrites() != null ? request.getWrites().size() : 0)
+                + (request.getDeletes() != null ? request.getDeletes().size() : 0);
     }
 
     private static boolean hasChanges(ClientWriteRequest request) {
@@ -171,6 +608,125 @@ public class OpenFgaInitializer implements ApplicationRunner {
                 || (request.getDeletes() != null && !request.getDeletes().isEmpty());
     }
 
+    private interface FgaRequest<T> {
+        CompletableFuture<T> send() throws Exception;
+    }
+
+    private record ChunkWrite(int index, ClientWriteRequest tuples, int attempt, CompletableFuture<?> response) {
+        private ChunkWrite withResponse(CompletableFuture<?> response) {
+            return new ChunkWrite(index, tuples, attempt, response);
+        }
+    }
+
+    private record ChunkFailure(ChunkWrite chunk, Throwable cause) {}
+
+    /**
+     * The tuples of a store, for the {@link OpenFgaProperties.TupleDiffStrategy#SCAN} strategy, held compactly in an
+     * open-addressing table: a 64-bit hash of the user, relation and object of each tuple, which deletes are compared
+     * with, next to the hash code of its condition, which writes are compared with as well. The table takes at most
+     * 32 bytes per tuple, and two tuples sharing a 64-bit hash, even in a store of millions, is unlikely enough to
+     * ignore.
+     */
+    private static final class ExistingTuples {
+        private long[] keys = new long[1024];
+        private int[] conditions = new int[1024];
+        private int size;
+
+        private void add(TupleKey key) {
+            if ((size + 1) * 4L > keys.length * 3L) {
+                grow();
+            }
+            long hash = hash(key.getObject(), key.getRelation(), key.getUser());
+            int slot = slot(keys, hash);
+            if (keys[slot] == 0) {
+                keys[slot] = hash;
+                size++;
+            }
+            conditions[slot] = Objects.hashCode(key.getCondition());
+        }
+
+        private boolean contains(TupleKey key) {
+            int slot = slot(keys, hash(key.getObject(), key.getRelation(), key.getUser()));
+            return keys[slot] != 0 && conditions[slot] == Objects.hashCode(key.getCondition());
+        }
+
+        private boolean containsIgnoringCondition(ClientTupleKeyWithoutCondition key) {
+            return keys[slot(keys, hash(key.getObject(), key.getRelation(), key.getUser()))] != 0;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private void grow() {
+            var oldKeys = keys;
+            var oldConditions = conditions;
+            keys = new long[oldKeys.length * 2];
+            conditions = new int[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int slot = slot(keys, oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    conditions[slot] = oldConditions[i];
+                }
+            }
+        }
+
+        /**
+         * Returns the slot holding a hash, or the empty slot it belongs in, probing linearly.
+         */
+        private static int slot(long[] keys, long hash) {
+            int mask = keys.length - 1;
+            int slot = (int) hash & mask;
+            while (keys[slot] != 0 && keys[slot] != hash) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        /**
+         * Hashes the parts of a tuple with 64-bit FNV-1a, followed by the MurmurHash3 finalizer so that the low bits
+         * picking the slot are well mixed. Never returns {@code 0}, which marks an empty slot.
+         */
+        private static long hash(String object, String relation, String user) {
+            long hash = hash(hash(hash(0xcbf29ce484222325L, object), relation), user);
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash != 0 ? hash : 1;
+        }
+
+        private static long hash(long hash, String part) {
+            if (part != null) {
+                for (int i = 0; i < part.length(); i++) {
+                    hash = (hash ^ part.charAt(i)) * 0x100000001b3L;
+                }
+            }
+            // a separator that no char equals, so that moving characters between parts changes the hash
+            return (hash ^ 0x10000) * 0x100000001b3L;
+        }
+    }
+
+    /**
+     * Logs how many tuples were read back from the store every ten seconds, so the progress of a large set of initial
+     * tuples is visible.
+     */
+    private static final class Progress {
+        private long lastReport = System.nanoTime();
+        private int compared;
+
+        private void advance() {
+            compared++;
+            long now = System.nanoTime();
+            if (now - lastReport >= PROGRESS_INTERVAL.toNanos()) {
+                lastReport = now;
+                logger.info("Compared {} initial OpenFGA tuples with the store so far", compared);
+            }
+        }
+    }
+
     private abstract static class ClientTupleKeyMixin {
         @JsonSetter("object")
         abstract ClientTupleKey _object(String object);
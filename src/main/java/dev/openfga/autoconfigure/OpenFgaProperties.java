@@ -1,7 +1,11 @@
 package dev.openfga.autoconfigure;
 
+import dev.openfga.CheckCircuitBreaker;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -83,6 +87,71 @@ public class OpenFgaProperties implements InitializingBean {
      */
     private Initialization initialization = new Initialization();
 
+    /**
+     * Configuration for the in-process cache of check decisions.
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * Configuration for sharing a single request between identical concurrent checks.
+     */
+    private Coalescing coalescing = new Coalescing();
+
+    /**
+     * Configuration for removing cached check decisions made stale by changes read from the ReadChanges feed.
+     */
+    private ChangeWatcher changeWatcher = new ChangeWatcher();
+
+    /**
+     * Configuration for batch checks performed by the {@code fga} bean.
+     */
+    private BatchCheck batchCheck = new BatchCheck();
+
+    /**
+     * Configuration for filtering collections with the {@code fga} bean.
+     */
+    private Filter filter = new Filter();
+
+    /**
+     * Configuration for combining checks from concurrent callers into batch check requests.
+     */
+    private Batching batching = new Batching();
+
+    /**
+     * Configuration for the circuit breaker that stops checks from being sent while OpenFGA is failing or slow.
+     */
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * Configuration for sending a duplicate of checks that are not answered within a delay.
+     */
+    private Hedging hedging = new Hedging();
+
+    /**
+     * Configuration for the adaptive limit on the number of concurrent requests to OpenFGA.
+     */
+    private ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
+    /**
+     * Configuration for remembering check decisions for the rest of the web request they were made in.
+     */
+    private RequestMemoization requestMemoization = new RequestMemoization();
+
+    /**
+     * Configuration for the threads used by the HTTP client and the starter's internal executors.
+     */
+    private Threading threading = new Threading();
+
+    /**
+     * Configuration for the Micrometer metrics of requests to OpenFGA.
+     */
+    private Metrics metrics = new Metrics();
+
+    /**
+     * Configuration for the Micrometer observations of requests to OpenFGA and trace context propagation.
+     */
+    private Tracing tracing = new Tracing();
+
     /**
      * Gets the URL to the OpenFGA instance.
      *
@@ -318,6 +387,240 @@ public class OpenFgaProperties implements InitializingBean {
         this.initialization = initialization;
     }
 
+    /**
+     * Gets the check decision cache configuration.
+     *
+     * @return the cache configuration
+     */
+    public Cache getCache() {
+        return cache;
+    }
+
+    /**
+     * Sets the check decision cache configuration.
+     *
+     * @param cache the cache configuration to set
+     */
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Gets the check coalescing configuration.
+     *
+     * @return the coalescing configuration
+     */
+    public Coalescing getCoalescing() {
+        return coalescing;
+    }
+
+    /**
+     * Sets the check coalescing configuration.
+     *
+     * @param coalescing the coalescing configuration to set
+     */
+    public void setCoalescing(Coalescing coalescing) {
+        this.coalescing = coalescing;
+    }
+
+    /**
+     * Gets the change watcher configuration.
+     *
+     * @return the change watcher configuration
+     */
+    public ChangeWatcher getChangeWatcher() {
+        return changeWatcher;
+    }
+
+    /**
+     * Sets the change watcher configuration.
+     *
+     * @param changeWatcher the change watcher configuration to set
+     */
+    public void setChangeWatcher(ChangeWatcher changeWatcher) {
+        this.changeWatcher = changeWatcher;
+    }
+
+    /**
+     * Gets the batch check configuration.
+     *
+     * @return the batch check configuration
+     */
+    public BatchCheck getBatchCheck() {
+        return batchCheck;
+    }
+
+    /**
+     * Sets the batch check configuration.
+     *
+     * @param batchCheck the batch check configuration to set
+     */
+    public void setBatchCheck(BatchCheck batchCheck) {
+        this.batchCheck = batchCheck;
+    }
+
+    /**
+     * Gets the filter configuration.
+     *
+     * @return the filter configuration
+     */
+    public Filter getFilter() {
+        return filter;
+    }
+
+    /**
+     * Sets the filter configuration.
+     *
+     * @param filter the filter configuration to set
+     */
+    public void setFilter(Filter filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Gets the check batching configuration.
+     *
+     * @return the batching configuration
+     */
+    public Batching getBatching() {
+        return batching;
+    }
+
+    /**
+     * Sets the check batching configuration.
+     *
+     * @param batching the batching configuration to set
+     */
+    public void setBatching(Batching batching) {
+        this.batching = batching;
+    }
+
+    /**
+     * Gets the circuit breaker configuration.
+     *
+     * @return the circuit breaker configuration
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Sets the circuit breaker configuration.
+     *
+     * @param circuitBreaker the circuit breaker configuration to set
+     */
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Gets the hedging configuration.
+     *
+     * @return the hedging configuration
+     */
+    public Hedging getHedging() {
+        return hedging;
+    }
+
+    /**
+     * Sets the hedging configuration.
+     *
+     * @param hedging the hedging configuration to set
+     */
+    public void setHedging(Hedging hedging) {
+        this.hedging = hedging;
+    }
+
+    /**
+     * Gets the concurrency limit configuration.
+     *
+     * @return the concurrency limit configuration
+     */
+    public ConcurrencyLimit getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * Sets the concurrency limit configuration.
+     *
+     * @param concurrencyLimit the concurrency limit configuration to set
+     */
+    public void setConcurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    /**
+     * Gets the request memoization configuration.
+     *
+     * @return the request memoization configuration
+     */
+    public RequestMemoization getRequestMemoization() {
+        return requestMemoization;
+    }
+
+    /**
+     * Sets the request memoization configuration.
+     *
+     * @param requestMemoization the request memoization configuration to set
+     */
+    public void setRequestMemoization(RequestMemoization requestMemoization) {
+        this.requestMemoization = requestMemoization;
+    }
+
+    /**
+     * Gets the threading configuration.
+     *
+     * @return the threading configuration
+     */
+    public Threading getThreading() {
+        return threading;
+    }
+
+    /**
+     * Sets the threading configuration.
+     *
+     * @param threading the threading configuration to set
+     */
+    public void setThreading(Threading threading) {
+        this.threading = threading;
+    }
+
+    /**
+     * Gets the metrics configuration.
+     *
+     * @return the metrics configuration
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the metrics configuration.
+     *
+     * @param metrics the metrics configuration to set
+     */
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the tracing configuration.
+     *
+     * @return the tracing configuration
+     */
+    public Tracing getTracing() {
+        return tracing;
+    }
+
+    /**
+     * Sets the tracing configuration.
+     *
+     * @param tracing the tracing configuration to set
+     */
+    public void setTracing(Tracing tracing) {
+        this.tracing = tracing;
+    }
+
     @Override
     public void afterPropertiesSet() {
         validate();
@@ -374,10 +677,178 @@ public class OpenFgaProperties implements InitializingBean {
                     throw new IllegalStateException(
                             "initialization.model-location must be set when initialization.mode is 'EMBEDDED'");
                 }
+                if (initialization.getTuplesFormat() == null) {
+                    throw new IllegalStateException("initialization.tuples-format must not be null");
+                }
+                if (initialization.getBatchSize() <= 0) {
+                    throw new IllegalStateException("initialization.batch-size must be positive");
+                }
+                if (initialization.getConcurrency() <= 0) {
+                    throw new IllegalStateException("initialization.concurrency must be positive");
+                }
+                if (initialization.getDiffStrategy() == null) {
+                    throw new IllegalStateException("initialization.diff-strategy must not be null");
+                }
+                if (initialization.getScanThreshold() <= 0) {
+                    throw new IllegalStateException("initialization.scan-threshold must be positive");
+                }
+                if (initialization.getScanLimit() <= 0) {
+                    throw new IllegalStateException("initialization.scan-limit must be positive");
+                }
+                if (initialization.getWriteChunkSize() <= 0) {
+                    throw new IllegalStateException("initialization.write-chunk-size must be positive");
+                }
+                if (initialization.getWriteConcurrency() <= 0) {
+                    throw new IllegalStateException("initialization.write-concurrency must be positive");
+                }
+                if (initialization.getWriteAttempts() <= 0) {
+                    throw new IllegalStateException("initialization.write-attempts must be positive");
+                }
+            }
+        }
+        if (cache != null && cache.isEnabled()) {
+            if (cache.getMaximumSize() <= 0) {
+                throw new IllegalStateException("cache.maximum-size must be positive");
+            }
+            if (cache.getTtl() == null || cache.getTtl().isZero() || cache.getTtl().isNegative()) {
+                throw new IllegalStateException("cache.ttl must be positive");
+            }
+            if (!(cache.getRefreshAhead() >= 0 && cache.getRefreshAhead() < 1)) {
+                throw new IllegalStateException("cache.refresh-ahead must be at least 0 and less than 1");
+            }
+            if (cache.getStaleWindows().values().stream().anyMatch(window -> window == null || window.isNegative())) {
+                throw new IllegalStateException("cache.stale-windows must not be negative");
+            }
+            var staleTimeout = cache.getStaleTimeout();
+            if (staleTimeout != null && (staleTimeout.isZero() || staleTimeout.isNegative())) {
+                throw new IllegalStateException("cache.stale-timeout must be positive");
+            }
+        }
+        if (changeWatcher != null && changeWatcher.isEnabled()) {
+            if (cache == null || !cache.isEnabled()) {
+                throw new IllegalStateException("change-watcher.enabled requires cache.enabled");
+            }
+            Duration pollInterval = changeWatcher.getPollInterval();
+            if (pollInterval == null || pollInterval.isZero() || pollInterval.isNegative()) {
+                throw new IllegalStateException("change-watcher.poll-interval must be positive");
+            }
+            if (changeWatcher.getPageSize() <= 0 || changeWatcher.getPageSize() > 100) {
+                throw new IllegalStateException("change-watcher.page-size must be between 1 and 100");
+            }
+        }
+        if (batchCheck != null) {
+            if (batchCheck.getMaxBatchSize() <= 0) {
+                throw new IllegalStateException("batch-check.max-batch-size must be positive");
+            }
+            if (batchCheck.getMaxParallelRequests() <= 0) {
+                throw new IllegalStateException("batch-check.max-parallel-requests must be positive");
+            }
+        }
+        if (filter != null) {
+            if (filter.getListObjectsThreshold() <= 0) {
+                throw new IllegalStateException("filter.list-objects-threshold must be positive");
+            }
+            if (filter.getListObjectsMaxResults() <= 0) {
+                throw new IllegalStateException("filter.list-objects-max-results must be positive");
+            }
+            var deadline = filter.getListObjectsDeadline();
+            if (deadline == null || deadline.isZero() || deadline.isNegative()) {
+                throw new IllegalStateException("filter.list-objects-deadline must be positive");
+            }
+        }
+        if (batching != null && batching.isEnabled()) {
+            if (batching.getMaxBatchSize() <= 0) {
+                throw new IllegalStateException("batching.max-batch-size must be positive");
+            }
+            Duration window = batching.getWindow();
+            if (window == null || window.isZero() || window.isNegative()) {
+                throw new IllegalStateException("batching.window must be positive");
+            }
+        }
+        if (circuitBreaker != null && circuitBreaker.isEnabled()) {
+            if (circuitBreaker.getWindowSize() <= 0) {
+                throw new IllegalStateException("circuit-breaker.window-size must be positive");
+            }
+            if (circuitBreaker.getMinimumCalls() <= 0
+                    || circuitBreaker.getMinimumCalls() > circuitBreaker.getWindowSize()) {
+                throw new IllegalStateException("circuit-breaker.minimum-calls must be between 1 and window-size");
+            }
+            if (!(circuitBreaker.getFailureRateThreshold() > 0 && circuitBreaker.getFailureRateThreshold() <= 1)) {
+                throw new IllegalStateException(
+                        "circuit-breaker.failure-rate-threshold must be greater than 0 and at most 1");
+            }
+            if (!(circuitBreaker.getSlowCallRateThreshold() > 0 && circuitBreaker.getSlowCallRateThreshold() <= 1)) {
+                throw new IllegalStateException(
+                        "circuit-breaker.slow-call-rate-threshold must be greater than 0 and at most 1");
+            }
+            Duration slowCallDuration = circuitBreaker.getSlowCallDuration();
+            if (slowCallDuration == null || slowCallDuration.isZero() || slowCallDuration.isNegative()) {
+                throw new IllegalStateException("circuit-breaker.slow-call-duration must be positive");
+            }
+            Duration openDuration = circuitBreaker.getOpenDuration();
+            if (openDuration == null || openDuration.isZero() || openDuration.isNegative()) {
+                throw new IllegalStateException("circuit-breaker.open-duration must be positive");
+            }
+            if (circuitBreaker.getOpenDecision() == null) {
+                throw new IllegalStateException("circuit-breaker.open-decision must not be null");
+            }
+        }
+        if (hedging != null && hedging.isEnabled()) {
+            Duration delay = hedging.getDelay();
+            if (delay == null || delay.isZero() || delay.isNegative()) {
+                throw new IllegalStateException("hedging.delay must be positive");
+            }
+            if (!(hedging.getPercentile() >= 0 && hedging.getPercentile() < 1)) {
+                throw new IllegalStateException("hedging.percentile must be at least 0 and less than 1");
+            }
+            if (!(hedging.getBudget() > 0 && hedging.getBudget() <= 1)) {
+                throw new IllegalStateException("hedging.budget must be greater than 0 and at most 1");
+            }
+        }
+        if (concurrencyLimit != null && concurrencyLimit.isEnabled()) {
+            validateLimit("concurrency-limit.check", concurrencyLimit.getCheck());
+            validateLimit("concurrency-limit.bulk", concurrencyLimit.getBulk());
+            Duration latencyThreshold = concurrencyLimit.getLatencyThreshold();
+            if (latencyThreshold == null || latencyThreshold.isZero() || latencyThreshold.isNegative()) {
+                throw new IllegalStateException("concurrency-limit.latency-threshold must be positive");
+            }
+            Duration maxWait = concurrencyLimit.getMaxWait();
+            if (maxWait == null || maxWait.isZero() || maxWait.isNegative()) {
+                throw new IllegalStateException("concurrency-limit.max-wait must be positive");
+            }
+            if (concurrencyLimit.getMaxQueueSize() < 0) {
+                throw new IllegalStateException("concurrency-limit.max-queue-size must be positive or zero");
+            }
+        }
+        if (threading != null) {
+            if (threading.getMode() == null) {
+                throw new IllegalStateException("threading.mode must not be null");
+            }
+            if (threading.getMode() == ThreadingMode.VIRTUAL && Runtime.version().feature() < 21) {
+                throw new IllegalStateException("threading.mode 'VIRTUAL' requires Java 21 or later");
+            }
+        }
+        if (metrics != null) {
+            for (Double percentile : metrics.getPercentiles()) {
+                if (percentile == null || percentile < 0 || percentile > 1) {
+                    throw new IllegalStateException("metrics.percentiles must be between 0 and 1");
+                }
             }
         }
     }
 
+    private static void validateLimit(String name, ConcurrencyLimit.Limit limit) {
+        if (limit == null) {
+            throw new IllegalStateException(name + " must not be null");
+        }
+        if (limit.getMaxLimit() <= 0) {
+            throw new IllegalStateException(name + ".max-limit must be positive");
+        }
+        if (limit.getInitialLimit() <= 0 || limit.getInitialLimit() > limit.getMaxLimit()) {
+            throw new IllegalStateException(name + ".initial-limit must be between 1 and max-limit");
+        }
+    }
+
     private static boolean hasNoCredentialsConfig(final CredentialsConfiguration credentialsConfig) {
         return credentialsConfig == null
                 || !StringUtils.hasText(credentialsConfig.getApiTokenIssuer())
@@ -418,48 +889,106 @@ public class OpenFgaProperties implements InitializingBean {
         private String tuplesLocation;
 
         /**
-         * Gets the initialization mode.
-         *
-         * @return the initialization mode
+         * The format of the initial tuples file. Defaults to {@link TuplesFormat#AUTO}.
          */
-        public InitializationMode getMode() {
-            return mode;
-        }
+        private TuplesFormat tuplesFormat = TuplesFormat.AUTO;
 
         /**
-         * Sets the initialization mode.
-         *
-         * @param mode the initialization mode to set
+         * The maximum number of initial tuples read from the file, compared with the store and written at a time.
+         * Defaults to 10000.
          */
-        public void setMode(InitializationMode mode) {
-            this.mode = mode;
-        }
+        private int batchSize = 10000;
 
         /**
-         * Gets the authorization model resource location.
-         *
-         * @return the model location
+         * The maximum number of reads in flight while comparing the initial tuples with the store. Defaults to 8.
          */
-        public String getModelLocation() {
-            return modelLocation;
-        }
+        private int concurrency = 8;
 
         /**
-         * Sets the authorization model resource location.
-         *
-         * @param modelLocation the model location to set
+         * How the initial tuples are compared with the store. Defaults to {@link TupleDiffStrategy#AUTO}.
          */
-        public void setModelLocation(String modelLocation) {
-            this.modelLocation = modelLocation;
-        }
+        private TupleDiffStrategy diffStrategy = TupleDiffStrategy.AUTO;
 
         /**
-         * Gets the initial tuples resource location.
-         *
-         * @return the tuples location
+         * The number of initial tuples from which {@link TupleDiffStrategy#AUTO} reads the whole store instead of each
+         * tuple. Defaults to 1000.
          */
-        public String getTuplesLocation() {
-            return tuplesLocation;
+        private int scanThreshold = 1000;
+
+        /**
+         * The number of store tuples above which {@link TupleDiffStrategy#AUTO} stops reading the whole store and reads
+         * each initial tuple instead, bounding the memory and requests a scan of a large store takes. Defaults to
+         * 1000000.
+         */
+        private int scanLimit = 1_000_000;
+
+        /**
+         * The maximum number of tuple changes written in one transactional request. Defaults to 100, the default limit
+         * of the FGA server.
+         */
+        private int writeChunkSize = 100;
+
+        /**
+         * The maximum number of chunks of tuple changes written at the same time. Defaults to 4.
+         */
+        private int writeConcurrency = 4;
+
+        /**
+         * The number of times a chunk of tuple changes is written before its failure is reported. Only transient
+         * failures are retried, with an exponential backoff. Defaults to 3.
+         */
+        private int writeAttempts = 3;
+
+        /**
+         * Optional path of a local file recording a checksum of the store ID, model and tuples after a successful
+         * initialization. Initialization is skipped while the checksum still matches. Disabled by default. Unlike the
+         * model and tuples locations, this is a filesystem path rather than a resource location, since it is written.
+         */
+        private String checksumFile;
+
+        /**
+         * Gets the initialization mode.
+         *
+         * @return the initialization mode
+         */
+        public InitializationMode getMode() {
+            return mode;
+        }
+
+        /**
+         * Sets the initialization mode.
+         *
+         * @param mode the initialization mode to set
+         */
+        public void setMode(InitializationMode mode) {
+            this.mode = mode;
+        }
+
+        /**
+         * Gets the authorization model resource location.
+         *
+         * @return the model location
+         */
+        public String getModelLocation() {
+            return modelLocation;
+        }
+
+        /**
+         * Sets the authorization model resource location.
+         *
+         * @param modelLocation the model location to set
+         */
+        public void setModelLocation(String modelLocation) {
+            this.modelLocation = modelLocation;
+        }
+
+        /**
+         * Gets the initial tuples resource location.
+         *
+         * @return the tuples location
+         */
+        public String getTuplesLocation() {
+            return tuplesLocation;
         }
 
         /**
@@ -470,6 +999,186 @@ public class OpenFgaProperties implements InitializingBean {
         public void setTuplesLocation(String tuplesLocation) {
             this.tuplesLocation = tuplesLocation;
         }
+
+        /**
+         * Gets the format of the initial tuples file.
+         *
+         * @return the tuples format
+         */
+        public TuplesFormat getTuplesFormat() {
+            return tuplesFormat;
+        }
+
+        /**
+         * Sets the format of the initial tuples file.
+         *
+         * @param tuplesFormat the tuples format to set
+         */
+        public void setTuplesFormat(TuplesFormat tuplesFormat) {
+            this.tuplesFormat = tuplesFormat;
+        }
+
+        /**
+         * Gets the maximum number of initial tuples processed at a time.
+         *
+         * @return the batch size
+         */
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        /**
+         * Sets the maximum number of initial tuples processed at a time.
+         *
+         * @param batchSize the batch size to set
+         */
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        /**
+         * Gets the maximum number of reads in flight while comparing the initial tuples with the store.
+         *
+         * @return the concurrency
+         */
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        /**
+         * Sets the maximum number of reads in flight while comparing the initial tuples with the store.
+         *
+         * @param concurrency the concurrency to set
+         */
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        /**
+         * Gets how the initial tuples are compared with the store.
+         *
+         * @return the diff strategy
+         */
+        public TupleDiffStrategy getDiffStrategy() {
+            return diffStrategy;
+        }
+
+        /**
+         * Sets how the initial tuples are compared with the store.
+         *
+         * @param diffStrategy the diff strategy to set
+         */
+        public void setDiffStrategy(TupleDiffStrategy diffStrategy) {
+            this.diffStrategy = diffStrategy;
+        }
+
+        /**
+         * Gets the number of initial tuples from which the whole store is read instead of each tuple.
+         *
+         * @return the scan threshold
+         */
+        public int getScanThreshold() {
+            return scanThreshold;
+        }
+
+        /**
+         * Sets the number of initial tuples from which the whole store is read instead of each tuple.
+         *
+         * @param scanThreshold the scan threshold to set
+         */
+        public void setScanThreshold(int scanThreshold) {
+            this.scanThreshold = scanThreshold;
+        }
+
+        /**
+         * Gets the number of store tuples above which the whole store is no longer read.
+         *
+         * @return the scan limit
+         */
+        public int getScanLimit() {
+            return scanLimit;
+        }
+
+        /**
+         * Sets the number of store tuples above which the whole store is no longer read.
+         *
+         * @param scanLimit the scan limit to set
+         */
+        public void setScanLimit(int scanLimit) {
+            this.scanLimit = scanLimit;
+        }
+
+        /**
+         * Gets the maximum number of tuple changes written in one request.
+         *
+         * @return the write chunk size
+         */
+        public int getWriteChunkSize() {
+            return writeChunkSize;
+        }
+
+        /**
+         * Sets the maximum number of tuple changes written in one request.
+         *
+         * @param writeChunkSize the write chunk size to set
+         */
+        public void setWriteChunkSize(int writeChunkSize) {
+            this.writeChunkSize = writeChunkSize;
+        }
+
+        /**
+         * Gets the maximum number of chunks of tuple changes written at the same time.
+         *
+         * @return the write concurrency
+         */
+        public int getWriteConcurrency() {
+            return writeConcurrency;
+        }
+
+        /**
+         * Sets the maximum number of chunks of tuple changes written at the same time.
+         *
+         * @param writeConcurrency the write concurrency to set
+         */
+        public void setWriteConcurrency(int writeConcurrency) {
+            this.writeConcurrency = writeConcurrency;
+        }
+
+        /**
+         * Gets the number of times a chunk of tuple changes is written before its failure is reported.
+         *
+         * @return the write attempts
+         */
+        public int getWriteAttempts() {
+            return writeAttempts;
+        }
+
+        /**
+         * Sets the number of times a chunk of tuple changes is written before its failure is reported.
+         *
+         * @param writeAttempts the write attempts to set
+         */
+        public void setWriteAttempts(int writeAttempts) {
+            this.writeAttempts = writeAttempts;
+        }
+
+        /**
+         * Gets the path of the file recording the checksum of the last successful initialization.
+         *
+         * @return the checksum file
+         */
+        public String getChecksumFile() {
+            return checksumFile;
+        }
+
+        /**
+         * Sets the path of the file recording the checksum of the last successful initialization.
+         *
+         * @param checksumFile the checksum file to set
+         */
+        public void setChecksumFile(String checksumFile) {
+            this.checksumFile = checksumFile;
+        }
     }
 
     /**
@@ -489,6 +1198,1244 @@ public class OpenFgaProperties implements InitializingBean {
         EMBEDDED
     }
 
+    /**
+     * Formats of the initial tuples file.
+     */
+    public enum TuplesFormat {
+
+        /**
+         * Detect the format from the extension of {@code openfga.initialization.tuples-location}: {@link #NDJSON} for
+         * {@code .ndjson} and {@code .jsonl}, {@link #CSV} for {@code .csv} and {@link #JSON} otherwise.
+         */
+        AUTO,
+
+        /**
+         * A JSON {@code ClientWriteRequest}, an object with {@code writes} and/or {@code deletes} arrays.
+         */
+        JSON,
+
+        /**
+         * Newline-delimited JSON, with a tuple key to write per line.
+         */
+        NDJSON,
+
+        /**
+         * Comma-separated values, with the user, relation and object of a tuple to write per line.
+         */
+        CSV
+    }
+
+    /**
+     * Strategies comparing the initial tuples with the store at startup.
+     */
+    public enum TupleDiffStrategy {
+
+        /**
+         * Use {@link #SCAN} from {@code openfga.initialization.scan-threshold} initial tuples, and {@link #PER_TUPLE}
+         * below, or once the store turns out to hold more than {@code openfga.initialization.scan-limit} tuples.
+         */
+        AUTO,
+
+        /**
+         * Read each initial tuple from the store, which takes a request per tuple.
+         */
+        PER_TUPLE,
+
+        /**
+         * Read the whole store a page at a time, and compare the initial tuples with it in memory, which takes a
+         * request per page of the store.
+         */
+        SCAN
+    }
+
+    /**
+     * Properties controlling the in-process cache of check decisions used by the {@code fga} bean.
+     */
+    public static class Cache {
+
+        /**
+         * Whether to cache check decisions in-process. Defaults to {@code false}.
+         */
+        private boolean enabled;
+
+        /**
+         * The maximum number of check decisions to cache. Defaults to 10000.
+         */
+        private int maximumSize = 10_000;
+
+        /**
+         * How long a check decision is cached after it was returned by OpenFGA. Default unit is seconds. Defaults to
+         * 10 seconds.
+         */
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration ttl = Duration.ofSeconds(10);
+
+        /**
+         * Whether the check directly granted by a tuple written through the {@code openFgaTupleWriter} bean is cached
+         * as allowed. Only enable it when no directly written relation is restricted with an exclusion or an
+         * intersection in the model. Defaults to {@code false}.
+         */
+        private boolean seedOnWrite;
+
+        /**
+         * The fraction of the time to live before expiry in which a check decision that is read is refreshed in the
+         * background, while the cached decision keeps being served. Defaults to {@code 0}, which disables
+         * refresh-ahead.
+         */
+        private double refreshAhead;
+
+        /**
+         * How long an expired check decision may still be served when OpenFGA cannot be reached, by
+         * {@code type#relation} or {@code type}. Default unit is seconds. Defaults to no stale windows.
+         */
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Map<String, Duration> staleWindows = new LinkedHashMap<>();
+
+        /**
+         * How long a check is waited for before an expired decision within its stale window is served instead, while
+         * the check keeps running and caches its decision once answered. Should be shorter than the read timeout.
+         * Default unit is milliseconds. Defaults to none, which serves stale decisions only when the check fails.
+         */
+        @DurationUnit(ChronoUnit.MILLIS)
+        private Duration staleTimeout;
+
+        /**
+         * Gets whether check decisions are cached.
+         *
+         * @return whether the cache is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether check decisions are cached.
+         *
+         * @param enabled whether the cache is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the maximum number of check decisions to cache.
+         *
+         * @return the maximum size
+         */
+        public int getMaximumSize() {
+            return maximumSize;
+        }
+
+        /**
+         * Sets the maximum number of check decisions to cache.
+         *
+         * @param maximumSize the maximum size to set
+         */
+        public void setMaximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        /**
+         * Gets how long a check decision is cached.
+         *
+         * @return the time to live
+         */
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        /**
+         * Sets how long a check decision is cached.
+         *
+         * @param ttl the time to live to set
+         */
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        /**
+         * Gets whether decisions granted by written tuples are cached.
+         *
+         * @return whether to seed the cache on write
+         */
+        public boolean isSeedOnWrite() {
+            return seedOnWrite;
+        }
+
+        /**
+         * Sets whether decisions granted by written tuples are cached.
+         *
+         * @param seedOnWrite whether to seed the cache on write
+         */
+        public void setSeedOnWrite(boolean seedOnWrite) {
+            this.seedOnWrite = seedOnWrite;
+        }
+
+        /**
+         * Gets the fraction of the time to live in which check decisions are refreshed ahead of expiry.
+         *
+         * @return the refresh-ahead fraction
+         */
+        public double getRefreshAhead() {
+            return refreshAhead;
+        }
+
+        /**
+         * Sets the fraction of the time to live in which check decisions are refreshed ahead of expiry.
+         *
+         * @param refreshAhead the refresh-ahead fraction to set
+         */
+        public void setRefreshAhead(double refreshAhead) {
+            this.refreshAhead = refreshAhead;
+        }
+
+        /**
+         * Gets how long expired check decisions may be served when OpenFGA cannot be reached.
+         *
+         * @return the stale windows by {@code type#relation} or {@code type}
+         */
+        public Map<String, Duration> getStaleWindows() {
+            return staleWindows;
+        }
+
+        /**
+         * Sets how long expired check decisions may be served when OpenFGA cannot be reached.
+         *
+         * @param staleWindows the stale windows by {@code type#relation} or {@code type} to set
+         */
+        public void setStaleWindows(Map<String, Duration> staleWindows) {
+            this.staleWindows = staleWindows;
+        }
+
+        /**
+         * Gets how long a check is waited for before a stale decision is served instead.
+         *
+         * @return the stale timeout, or {@code null} if stale decisions are only served when the check fails
+         */
+        public Duration getStaleTimeout() {
+            return staleTimeout;
+        }
+
+        /**
+         * Sets how long a check is waited for before a stale decision is served instead.
+         *
+         * @param staleTimeout the stale timeout to set
+         */
+        public void setStaleTimeout(Duration staleTimeout) {
+            this.staleTimeout = staleTimeout;
+        }
+    }
+
+    /**
+     * Properties controlling whether identical checks that are in flight at the same time share a single request.
+     */
+    public static class Coalescing {
+
+        /**
+         * Whether identical concurrent checks share a single request. Defaults to {@code false}.
+         */
+        private boolean enabled;
+
+        /**
+         * Gets whether identical concurrent checks share a single request.
+         *
+         * @return whether coalescing is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether identical concurrent checks share a single request.
+         *
+         * @param enabled whether coalescing is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * Properties controlling the background watcher that removes cached check decisions made stale by changes read
+     * from the ReadChanges feed of the store.
+     */
+    public static class ChangeWatcher {
+
+        /**
+         * Whether to watch the ReadChanges feed. Requires the cache to be enabled. Defaults to {@code false}.
+         */
+        private boolean enabled;
+
+        /**
+         * The time between polls once the feed was read to its end. Default unit is seconds. Defaults to 5 seconds.
+         */
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration pollInterval = Duration.ofSeconds(5);
+
+        /**
+         * The maximum number of changes read per request, between 1 and 100. Defaults to 100.
+         */
+        private int pageSize = 100;
+
+        /**
+         * The file the continuation token is saved to, so a restarted application resumes where it stopped. If not
+         * set, the token is kept in memory only.
+         */
+        private String tokenFile;
+
+        /**
+         * Gets whether the ReadChanges feed is watched.
+         *
+         * @return whether the change watcher is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the ReadChanges feed is watched.
+         *
+         * @param enabled whether the change watcher is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the time between polls.
+         *
+         * @return the poll interval
+         */
+        public Duration getPollInterval() {
+            return pollInterval;
+        }
+
+        /**
+         * Sets the time between polls.
+         *
+         * @param pollInterval the poll interval to set
+         */
+        public void setPollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+        }
+
+        /**
+         * Gets the maximum number of changes read per request.
+         *
+         * @return the page size
+         */
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        /**
+         * Sets the maximum number of changes read per request.
+         *
+         * @param pageSize the page size to set
+         */
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        /**
+         * Gets the file the continuation token is saved to.
+         *
+         * @return the token file
+         */
+        public String getTokenFile() {
+            return tokenFile;
+        }
+
+        /**
+         * Sets the file the continuation token is saved to.
+         *
+         * @param tokenFile the token file to set
+         */
+        public void setTokenFile(String tokenFile) {
+            this.tokenFile = tokenFile;
+        }
+    }
+
+    /**
+     * Properties controlling how the {@code fga} bean splits many checks into batch check requests.
+     */
+    public static class BatchCheck {
+
+        /**
+         * The maximum number of checks sent in a single batch check request. Defaults to 50.
+         */
+        private int maxBatchSize = 50;
+
+        /**
+         * The maximum number of batch check requests in flight at the same time for a single batch. Defaults to 10.
+         */
+        private int maxParallelRequests = 10;
+
+        /**
+         * Gets the maximum number of checks sent in a single batch check request.
+         *
+         * @return the maximum batch size
+         */
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        /**
+         * Sets the maximum number of checks sent in a single batch check request.
+         *
+         * @param maxBatchSize the maximum batch size to set
+         */
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        /**
+         * Gets the maximum number of batch check requests in flight at the same time.
+         *
+         * @return the maximum number of parallel requests
+         */
+        public int getMaxParallelRequests() {
+            return maxParallelRequests;
+        }
+
+        /**
+         * Sets the maximum number of batch check requests in flight at the same time.
+         *
+         * @param maxParallelRequests the maximum number of parallel requests to set
+         */
+        public void setMaxParallelRequests(int maxParallelRequests) {
+            this.maxParallelRequests = maxParallelRequests;
+        }
+    }
+
+    /**
+     * Properties controlling how the {@code fga} bean filters collections.
+     */
+    public static class Filter {
+
+        /**
+         * The collection size from which the objects the user has the relation to are listed, instead of checking
+         * every element with a batch check. Defaults to 100.
+         */
+        private int listObjectsThreshold = 100;
+
+        /**
+         * The maximum number of objects the server returns from list objects, its
+         * {@code OPENFGA_LIST_OBJECTS_MAX_RESULTS}. The elements missing from a response that holds this many objects
+         * are checked with a batch check. Defaults to 1000.
+         */
+        private int listObjectsMaxResults = 1000;
+
+        /**
+         * The time after which the server stops listing objects and returns those found so far, its
+         * {@code OPENFGA_LIST_OBJECTS_DEADLINE}. The elements missing from a response that took this long are checked
+         * with a batch check. Defaults to 3 seconds.
+         */
+        private Duration listObjectsDeadline = Duration.ofSeconds(3);
+
+        /**
+         * Gets the collection size from which list objects is used.
+         *
+         * @return the list objects threshold
+         */
+        public int getListObjectsThreshold() {
+            return listObjectsThreshold;
+        }
+
+        /**
+         * Sets the collection size from which list objects is used.
+         *
+         * @param listObjectsThreshold the list objects threshold to set
+         */
+        public void setListObjectsThreshold(int listObjectsThreshold) {
+            this.listObjectsThreshold = listObjectsThreshold;
+        }
+
+        /**
+         * Gets the maximum number of objects the server returns from list objects.
+         *
+         * @return the list objects max results
+         */
+        public int getListObjectsMaxResults() {
+            return listObjectsMaxResults;
+        }
+
+        /**
+         * Sets the maximum number of objects the server returns from list objects.
+         *
+         * @param listObjectsMaxResults the list objects max results to set
+         */
+        public void setListObjectsMaxResults(int listObjectsMaxResults) {
+            this.listObjectsMaxResults = listObjectsMaxResults;
+        }
+
+        /**
+         * Gets the time after which the server stops listing objects.
+         *
+         * @return the list objects deadline
+         */
+        public Duration getListObjectsDeadline() {
+            return listObjectsDeadline;
+        }
+
+        /**
+         * Sets the time after which the server stops listing objects.
+         *
+         * @param listObjectsDeadline the list objects deadline to set
+         */
+        public void setListObjectsDeadline(Duration listObjectsDeadline) {
+            this.listObjectsDeadline = listObjectsDeadline;
+        }
+    }
+
+    /**
+     * Properties controlling whether the {@code fga} bean combines checks from concurrent callers into batch check
+     * requests.
+     */
+    public static class Batching {
+
+        /**
+         * Whether checks from concurrent callers are combined into batch check requests. Defaults to {@code false}.
+         */
+        private boolean enabled;
+
+        /**
+         * The maximum number of checks combined into a single batch check request. Defaults to 50.
+         */
+        private int maxBatchSize = 50;
+
+        /**
+         * The maximum time a check waits for other checks to join its batch. Default unit is microseconds. Defaults
+         * to 500 microseconds.
+         */
+        @DurationUnit(ChronoUnit.MICROS)
+        private Duration window = Duration.ofNanos(500_000);
+
+        /**
+         * Gets whether checks from concurrent callers are combined into batch check requests.
+         *
+         * @return whether batching is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether checks from concurrent callers are combined into batch check requests.
+         *
+         * @param enabled whether batching is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the maximum number of checks combined into a single batch check request.
+         *
+         * @return the maximum batch size
+         */
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        /**
+         * Sets the maximum number of checks combined into a single batch check request.
+         *
+         * @param maxBatchSize the maximum batch size to set
+         */
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        /**
+         * Gets the maximum time a check waits for other checks to join its batch.
+         *
+         * @return the batching window
+         */
+        public Duration getWindow() {
+            return window;
+        }
+
+        /**
+         * Sets the maximum time a check waits for other checks to join its batch.
+         *
+         * @param window the batching window to set
+         */
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+    }
+
+    /**
+     * Properties controlling the circuit breaker around the checks of the {@code fga} bean.
+     */
+    public static class CircuitBreaker {
+
+        /**
+         * Whether checks stop being sent while OpenFGA is failing or slow. Defaults to {@code false}.
+         */
+        private boolean enabled;
+
+        /**
+         * The number of most recent checks the failure and slow call rates are computed from. Defaults to 100.
+         */
+        private int windowSize = 100;
+
+        /**
+         * The number of checks to record before the circuit breaker may open. Defaults to 20.
+         */
+        private int minimumCalls = 20;
+
+        /**
+         * The share of failed checks that opens the circuit breaker. Defaults to 0.5.
+         */
+        private double failureRateThreshold = 0.5;
+
+        /**
+         * The duration from which a check is slow. Default unit is milliseconds. Defaults to 2 seconds.
+         */
+        @DurationUnit(ChronoUnit.MILLIS)
+        private Duration slowCallDuration = Duration.ofSeconds(2);
+
+        /**
+         * The share of slow checks that opens the circuit breaker. Defaults to 0.5.
+         */
+        private double slowCallRateThreshold = 0.5;
+
+        /**
+         * How long the circuit breaker stays open before it lets a probe check through. Default unit is seconds.
+         * Defaults to 10 seconds.
+         */
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration openDuration = Duration.ofSeconds(10);
+
+        /**
+         * The decision of checks rejected while the circuit breaker is open, when there is no stale cached decision.
+         * Defaults to {@link CheckCircuitBreaker.OpenDecision#DENY}.
+         */
+        private CheckCircuitBreaker.OpenDecision openDecision = CheckCircuitBreaker.OpenDecision.DENY;
+
+        /**
+         * Gets whether checks stop being sent while OpenFGA is failing or slow.
+         *
+         * @return whether the circuit breaker is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether checks stop being sent while OpenFGA is failing or slow.
+         *
+         * @param enabled whether the circuit breaker is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the number of most recent checks the rates are computed from.
+         *
+         * @return the window size
+         */
+        public int getWindowSize() {
+            return windowSize;
+        }
+
+        /**
+         * Sets the number of most recent checks the rates are computed from.
+         *
+         * @param windowSize the window size to set
+         */
+        public void setWindowSize(int windowSize) {
+            this.windowSize = windowSize;
+        }
+
+        /**
+         * Gets the number of checks to record before the circuit breaker may open.
+         *
+         * @return the minimum number of calls
+         */
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        /**
+         * Sets the number of checks to record before the circuit breaker may open.
+         *
+         * @param minimumCalls the minimum number of calls to set
+         */
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        /**
+         * Gets the share of failed checks that opens the circuit breaker.
+         *
+         * @return the failure rate threshold
+         */
+        public double getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        /**
+         * Sets the share of failed checks that opens the circuit breaker.
+         *
+         * @param failureRateThreshold the failure rate threshold to set
+         */
+        public void setFailureRateThreshold(double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        /**
+         * Gets the duration from which a check is slow.
+         *
+         * @return the slow call duration
+         */
+        public Duration getSlowCallDuration() {
+            return slowCallDuration;
+        }
+
+        /**
+         * Sets the duration from which a check is slow.
+         *
+         * @param slowCallDuration the slow call duration to set
+         */
+        public void setSlowCallDuration(Duration slowCallDuration) {
+            this.slowCallDuration = slowCallDuration;
+        }
+
+        /**
+         * Gets the share of slow checks that opens the circuit breaker.
+         *
+         * @return the slow call rate threshold
+         */
+        public double getSlowCallRateThreshold() {
+            return slowCallRateThreshold;
+        }
+
+        /**
+         * Sets the share of slow checks that opens the circuit breaker.
+         *
+         * @param slowCallRateThreshold the slow call rate threshold to set
+         */
+        public void setSlowCallRateThreshold(double slowCallRateThreshold) {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+        }
+
+        /**
+         * Gets how long the circuit breaker stays open before it lets a probe check through.
+         *
+         * @return the open duration
+         */
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        /**
+         * Sets how long the circuit breaker stays open before it lets a probe check through.
+         *
+         * @param openDuration the open duration to set
+         */
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        /**
+         * Gets the decision of checks rejected while the circuit breaker is open.
+         *
+         * @return the open decision
+         */
+        public CheckCircuitBreaker.OpenDecision getOpenDecision() {
+            return openDecision;
+        }
+
+        /**
+         * Sets the decision of checks rejected while the circuit breaker is open.
+         *
+         * @param openDecision the open decision to set
+         */
+        public void setOpenDecision(CheckCircuitBreaker.OpenDecision openDecision) {
+            this.openDecision = openDecision;
+        }
+    }
+
+    /**
+     * Properties controlling whether the {@code fga} bean sends a duplicate of checks that are not answered within a
+     * delay.
+     */
+    public static class Hedging {
+
+        /**
+         * Whether a duplicate of a check is sent when the check is not answered within the delay. Defaults to
+         * {@code false}.
+         */
+        private boolean enabled;
+
+        /**
+         * How long to wait for an answer before sending a duplicate, or the minimum wait when following a percentile.
+         * Default unit is milliseconds. Defaults to 50 milliseconds.
+         */
+        @DurationUnit(ChronoUnit.MILLIS)
+        private Duration delay = Duration.ofMillis(50);
+
+        /**
+         * The percentile of recent check latencies to wait for before sending a duplicate, or {@code 0} to always wait
+         * for the delay. Defaults to {@code 0}.
+         */
+        private double percentile;
+
+        /**
+         * The maximum share of checks a duplicate is sent for. Defaults to 0.05.
+         */
+        private double budget = 0.05;
+
+        /**
+         * Gets whether a duplicate of a slow check is sent.
+         *
+         * @return whether hedging is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether a duplicate of a slow check is sent.
+         *
+         * @param enabled whether hedging is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets how long to wait for an answer before sending a duplicate.
+         *
+         * @return the hedge delay
+         */
+        public Duration getDelay() {
+            return delay;
+        }
+
+        /**
+         * Sets how long to wait for an answer before sending a duplicate.
+         *
+         * @param delay the hedge delay to set
+         */
+        public void setDelay(Duration delay) {
+            this.delay = delay;
+        }
+
+        /**
+         * Gets the percentile of recent check latencies to wait for before sending a duplicate.
+         *
+         * @return the percentile, or {@code 0} for a fixed delay
+         */
+        public double getPercentile() {
+            return percentile;
+        }
+
+        /**
+         * Sets the percentile of recent check latencies to wait for before sending a duplicate.
+         *
+         * @param percentile the percentile to set, or {@code 0} for a fixed delay
+         */
+        public void setPercentile(double percentile) {
+            this.percentile = percentile;
+        }
+
+        /**
+         * Gets the maximum share of checks a duplicate is sent for.
+         *
+         * @return the hedge budget
+         */
+        public double getBudget() {
+            return budget;
+        }
+
+        /**
+         * Sets the maximum share of checks a duplicate is sent for.
+         *
+         * @param budget the hedge budget to set
+         */
+        public void setBudget(double budget) {
+            this.budget = budget;
+        }
+    }
+
+    /**
+     * Properties controlling the adaptive limit on the number of concurrent requests to OpenFGA, with one limit for
+     * checks and list objects requests and one for writes and other bulk operations.
+     */
+    public static class ConcurrencyLimit {
+
+        /**
+         * Whether the number of concurrent requests to OpenFGA is limited. Defaults to {@code false}.
+         */
+        private boolean enabled;
+
+        /**
+         * The limit of checks, batch checks and list objects requests. Defaults to 20, growing up to 200.
+         */
+        private Limit check = new Limit(20, 200);
+
+        /**
+         * The limit of writes and other bulk operations, such as streamed list objects requests and those of the
+         * initializer. Defaults to 4, growing up to 20.
+         */
+        private Limit bulk = new Limit(4, 20);
+
+        /**
+         * The duration from which a single check is a sign of overload and lowers the check limit. The duration of
+         * other requests is not compared with it. Default unit is milliseconds. Defaults to 1 second.
+         */
+        @DurationUnit(ChronoUnit.MILLIS)
+        private Duration latencyThreshold = Duration.ofSeconds(1);
+
+        /**
+         * How long a request over its limit waits for a slot before it is rejected. Default unit is milliseconds.
+         * Defaults to 100 milliseconds.
+         */
+        @DurationUnit(ChronoUnit.MILLIS)
+        private Duration maxWait = Duration.ofMillis(100);
+
+        /**
+         * The maximum number of requests waiting for a slot per limit, or {@code 0} to reject requests over the limit
+         * immediately. Defaults to 100.
+         */
+        private int maxQueueSize = 100;
+
+        /**
+         * Gets whether the number of concurrent requests is limited.
+         *
+         * @return whether the concurrency limit is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the number of concurrent requests is limited.
+         *
+         * @param enabled whether the concurrency limit is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the limit of checks, batch checks and list objects requests.
+         *
+         * @return the check limit
+         */
+        public Limit getCheck() {
+            return check;
+        }
+
+        /**
+         * Sets the limit of checks, batch checks and list objects requests.
+         *
+         * @param check the check limit to set
+         */
+        public void setCheck(Limit check) {
+            this.check = check;
+        }
+
+        /**
+         * Gets the limit of writes and other bulk operations.
+         *
+         * @return the bulk limit
+         */
+        public Limit getBulk() {
+            return bulk;
+        }
+
+        /**
+         * Sets the limit of writes and other bulk operations.
+         *
+         * @param bulk the bulk limit to set
+         */
+        public void setBulk(Limit bulk) {
+            this.bulk = bulk;
+        }
+
+        /**
+         * Gets the duration from which a single check is a sign of overload.
+         *
+         * @return the latency threshold
+         */
+        public Duration getLatencyThreshold() {
+            return latencyThreshold;
+        }
+
+        /**
+         * Sets the duration from which a single check is a sign of overload.
+         *
+         * @param latencyThreshold the latency threshold to set
+         */
+        public void setLatencyThreshold(Duration latencyThreshold) {
+            this.latencyThreshold = latencyThreshold;
+        }
+
+        /**
+         * Gets how long a request over its limit waits for a slot.
+         *
+         * @return the maximum wait
+         */
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        /**
+         * Sets how long a request over its limit waits for a slot.
+         *
+         * @param maxWait the maximum wait to set
+         */
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        /**
+         * Gets the maximum number of requests waiting for a slot per limit.
+         *
+         * @return the maximum queue size
+         */
+        public int getMaxQueueSize() {
+            return maxQueueSize;
+        }
+
+        /**
+         * Sets the maximum number of requests waiting for a slot per limit.
+         *
+         * @param maxQueueSize the maximum queue size to set
+         */
+        public void setMaxQueueSize(int maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+        }
+
+        /**
+         * Properties of one concurrency limit.
+         */
+        public static class Limit {
+
+            /**
+             * The number of concurrent requests allowed before any request was answered.
+             */
+            private int initialLimit;
+
+            /**
+             * The highest the number of concurrent requests allowed can grow to.
+             */
+            private int maxLimit;
+
+            /**
+             * Create limit properties with no defaults.
+             */
+            public Limit() {}
+
+            Limit(int initialLimit, int maxLimit) {
+                this.initialLimit = initialLimit;
+                this.maxLimit = maxLimit;
+            }
+
+            /**
+             * Gets the number of concurrent requests allowed before any request was answered.
+             *
+             * @return the initial limit
+             */
+            public int getInitialLimit() {
+                return initialLimit;
+            }
+
+            /**
+             * Sets the number of concurrent requests allowed before any request was answered.
+             *
+             * @param initialLimit the initial limit to set
+             */
+            public void setInitialLimit(int initialLimit) {
+                this.initialLimit = initialLimit;
+            }
+
+            /**
+             * Gets the highest the number of concurrent requests allowed can grow to.
+             *
+             * @return the maximum limit
+             */
+            public int getMaxLimit() {
+                return maxLimit;
+            }
+
+            /**
+             * Sets the highest the number of concurrent requests allowed can grow to.
+             *
+             * @param maxLimit the maximum limit to set
+             */
+            public void setMaxLimit(int maxLimit) {
+                this.maxLimit = maxLimit;
+            }
+        }
+    }
+
+    /**
+     * Properties controlling whether check decisions are remembered for the rest of the web request they were made in.
+     */
+    public static class RequestMemoization {
+
+        /**
+         * Whether check decisions are remembered for the rest of the web request they were made in. Defaults to
+         * {@code true}.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Gets whether check decisions are remembered per request.
+         *
+         * @return whether request memoization is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether check decisions are remembered per request.
+         *
+         * @param enabled whether request memoization is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * Properties controlling the threads used by the HTTP client and the starter's internal executors.
+     */
+    public static class Threading {
+
+        /**
+         * The kind of threads to use. Defaults to {@link ThreadingMode#PLATFORM}.
+         */
+        private ThreadingMode mode = ThreadingMode.PLATFORM;
+
+        /**
+         * Gets the kind of threads to use.
+         *
+         * @return the threading mode
+         */
+        public ThreadingMode getMode() {
+            return mode;
+        }
+
+        /**
+         * Sets the kind of threads to use.
+         *
+         * @param mode the threading mode to set
+         */
+        public void setMode(ThreadingMode mode) {
+            this.mode = mode;
+        }
+    }
+
+    /**
+     * The kinds of threads the HTTP client and the starter's internal executors can run on.
+     */
+    public enum ThreadingMode {
+
+        /**
+         * Use platform threads, with the HTTP client's default executor.
+         */
+        PLATFORM,
+
+        /**
+         * Use a new virtual thread per task, for both the HTTP client and the starter's internal executors. Requires
+         * Java 21 or later.
+         */
+        VIRTUAL
+    }
+
+    /**
+     * Properties controlling the Micrometer metrics of requests to OpenFGA. Metrics are only recorded when a
+     * {@code MeterRegistry} bean is present, for example because Spring Boot Actuator is used.
+     */
+    public static class Metrics {
+
+        /**
+         * Whether requests to OpenFGA and the check cache are instrumented. Defaults to {@code true}.
+         */
+        private boolean enabled = true;
+
+        /**
+         * The percentiles the request timer publishes. Defaults to the median, the 95th and the 99th percentile.
+         */
+        private List<Double> percentiles = new ArrayList<>(List.of(0.5, 0.95, 0.99));
+
+        /**
+         * Gets whether requests to OpenFGA are instrumented.
+         *
+         * @return whether metrics are enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether requests to OpenFGA are instrumented.
+         *
+         * @param enabled whether metrics are enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the percentiles the request timer publishes.
+         *
+         * @return the percentiles, between 0 and 1
+         */
+        public List<Double> getPercentiles() {
+            return percentiles;
+        }
+
+        /**
+         * Sets the percentiles the request timer publishes.
+         *
+         * @param percentiles the percentiles to set, between 0 and 1
+         */
+        public void setPercentiles(List<Double> percentiles) {
+            this.percentiles = percentiles;
+        }
+    }
+
+    /**
+     * Properties controlling the Micrometer observations of requests to OpenFGA. Observations are only made when an
+     * {@code ObservationRegistry} bean is present, and the trace context is only propagated when a {@code Tracer} and a
+     * {@code Propagator} bean are present, for example because Micrometer Tracing is used.
+     */
+    public static class Tracing {
+
+        /**
+         * Whether requests to OpenFGA are observed and carry the trace context. Defaults to {@code true}.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Gets whether requests to OpenFGA are observed.
+         *
+         * @return whether tracing is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether requests to OpenFGA are observed.
+         *
+         * @param enabled whether tracing is enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
     /**
      * {@link dev.openfga.sdk.api.client.OpenFgaClient} credentials properties
      */
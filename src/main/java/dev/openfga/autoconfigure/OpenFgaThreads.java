@@ -0,0 +1,62 @@
+package dev.openfga.autoconfigure;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the threads used by the starter according to the configured {@link OpenFgaProperties.ThreadingMode}.
+ * Virtual threads are created reflectively, so that the starter can still be compiled for Java 17.
+ */
+final class OpenFgaThreads {
+
+    private OpenFgaThreads() {}
+
+    /**
+     * Create a factory of daemon threads named {@code name-1}, {@code name-2}, and so on.
+     *
+     * @param mode the kind of threads to create
+     * @param name the prefix of the thread names
+     * @return the thread factory
+     */
+    static ThreadFactory threadFactory(OpenFgaProperties.ThreadingMode mode, String name) {
+        if (mode == OpenFgaProperties.ThreadingMode.VIRTUAL) {
+            return virtualThreadFactory(name);
+        }
+        var count = new AtomicInteger();
+        return runnable -> {
+            var thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Create an executor that starts a new virtual thread for every task.
+     *
+     * @param name the prefix of the thread names
+     * @return the executor
+     */
+    static ExecutorService virtualThreadPerTaskExecutor(String name) {
+        var threadFactory = virtualThreadFactory(name);
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads require Java 21 or later", e);
+        }
+    }
+
+    private static ThreadFactory virtualThreadFactory(String name) {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, name + "-", 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads require Java 21 or later", e);
+        }
+    }
+}
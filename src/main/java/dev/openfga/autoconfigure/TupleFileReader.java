@@ -0,0 +1,235 @@
+package dev.openfga.autoconfigure;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.openfga.sdk.api.client.model.ClientTupleKey;
+import dev.openfga.sdk.api.client.model.ClientTupleKeyWithoutCondition;
+import dev.openfga.sdk.api.client.model.ClientWriteRequest;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Locale;
+import org.springframework.core.io.Resource;
+
+/**
+ * Reads the initial tuples of the {@link OpenFgaInitializer} a batch at a time, so that a large file is never held in
+ * memory as a whole. Reads one of the {@link OpenFgaProperties.TuplesFormat}s:
+ * <ul>
+ *     <li>{@code JSON}: a {@code ClientWriteRequest}, an object with {@code writes} and/or {@code deletes} arrays,
+ *     read with Jackson's streaming parser,</li>
+ *     <li>{@code NDJSON}: a tuple key to write per line, such as
+ *     {@code {"user":"user:123","relation":"reader","object":"document:1"}},</li>
+ *     <li>{@code CSV}: a tuple to write per line, as {@code user,relation,object}. Blank lines, lines starting with
+ *     {@code #} and a leading {@code user,relation,object} header are skipped.</li>
+ * </ul>
+ */
+abstract class TupleFileReader implements Closeable {
+
+    private final String location;
+
+    private TupleFileReader(String location) {
+        this.location = location;
+    }
+
+    /**
+     * Open a tuples file.
+     *
+     * @param resource the file to read
+     * @param location the configured location of the file, used to detect its format and in error messages
+     * @param format the format of the file, or {@link OpenFgaProperties.TuplesFormat#AUTO} to detect it from the
+     * extension of the location
+     * @param objectMapper the {@link ObjectMapper} used to deserialize tuple keys
+     * @return the reader, to be closed once read
+     * @throws IOException if the file cannot be opened
+     */
+    static TupleFileReader open(
+            Resource resource, String location, OpenFgaProperties.TuplesFormat format, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format == OpenFgaProperties.TuplesFormat.AUTO ? detect(location) : format) {
+            case NDJSON -> new NdjsonReader(resource, location, objectMapper);
+            case CSV -> new CsvReader(resource, location);
+            default -> new JsonReader(resource, location, objectMapper);
+        };
+    }
+
+    private static OpenFgaProperties.TuplesFormat detect(String location) {
+        var lowerCaseLocation = location.toLowerCase(Locale.ROOT);
+        if (lowerCaseLocation.endsWith(".ndjson") || lowerCaseLocation.endsWith(".jsonl")) {
+            return OpenFgaProperties.TuplesFormat.NDJSON;
+        }
+        if (lowerCaseLocation.endsWith(".csv")) {
+            return OpenFgaProperties.TuplesFormat.CSV;
+        }
+        return OpenFgaProperties.TuplesFormat.JSON;
+    }
+
+    /**
+     * Read the next batch of tuples.
+     *
+     * @param maxSize the maximum number of tuples, writes and deletes together, to read
+     * @return the tuples to write and delete, or {@code null} once the whole file was read
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    final ClientWriteRequest next(int maxSize) throws IOException {
+        var writes = new ArrayList<ClientTupleKey>();
+        var deletes = new ArrayList<ClientTupleKeyWithoutCondition>();
+        while (writes.size() + deletes.size() < maxSize) {
+            if (!read(writes, deletes)) {
+                break;
+            }
+        }
+        if (writes.isEmpty() && deletes.isEmpty()) {
+            return null;
+        }
+        var batch = new ClientWriteRequest();
+        if (!writes.isEmpty()) {
+            batch.writes(writes);
+        }
+        if (!deletes.isEmpty()) {
+            batch.deletes(deletes);
+        }
+        return batch;
+    }
+
+    /**
+     * Read the next tuple into {@code writes} or {@code deletes}.
+     *
+     * @return {@code false} once the whole file was read
+     */
+    abstract boolean read(ArrayList<ClientTupleKey> writes, ArrayList<ClientTupleKeyWithoutCondition> deletes)
+            throws IOException;
+
+    final IllegalStateException malformed(String reason) {
+        return new IllegalStateException("OpenFGA initial tuples file " + location + " " + reason);
+    }
+
+    private static final class JsonReader extends TupleFileReader {
+        private final ObjectMapper objectMapper;
+        private final JsonParser parser;
+        private String array;
+
+        private JsonReader(Resource resource, String location, ObjectMapper objectMapper) throws IOException {
+            super(location);
+            this.objectMapper = objectMapper;
+            this.parser = objectMapper.createParser(resource.getInputStream());
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.close();
+                throw malformed("must contain a JSON object");
+            }
+        }
+
+        @Override
+        boolean read(ArrayList<ClientTupleKey> writes, ArrayList<ClientTupleKeyWithoutCondition> deletes)
+                throws IOException {
+            while (array == null) {
+                var token = parser.nextToken();
+                if (token == null || token == JsonToken.END_OBJECT) {
+                    return false;
+                }
+                var name = parser.currentName();
+                token = parser.nextToken();
+                if (token == JsonToken.START_ARRAY && ("writes".equals(name) || "deletes".equals(name))) {
+                    array = name;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (parser.nextToken() == JsonToken.END_ARRAY) {
+                array = null;
+                return true;
+            }
+            if ("writes".equals(array)) {
+                writes.add(objectMapper.readValue(parser, ClientTupleKey.class));
+            } else {
+                deletes.add(objectMapper.readValue(parser, ClientTupleKeyWithoutCondition.class));
+            }
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    private static final class NdjsonReader extends TupleFileReader {
+        private final MappingIterator<ClientTupleKey> tuples;
+
+        private NdjsonReader(Resource resource, String location, ObjectMapper objectMapper) throws IOException {
+            super(location);
+            this.tuples = objectMapper.readerFor(ClientTupleKey.class).readValues(resource.getInputStream());
+        }
+
+        @Override
+        boolean read(ArrayList<ClientTupleKey> writes, ArrayList<ClientTupleKeyWithoutCondition> deletes)
+                throws IOException {
+            if (!tuples.hasNextValue()) {
+                return false;
+            }
+            writes.add(tuples.nextValue());
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            tuples.close();
+        }
+    }
+
+    private static final class CsvReader extends TupleFileReader {
+        private final BufferedReader lines;
+        private int lineNumber;
+        private boolean headerChecked;
+
+        private CsvReader(Resource resource, String location) throws IOException {
+            super(location);
+            this.lines = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        boolean read(ArrayList<ClientTupleKey> writes, ArrayList<ClientTupleKeyWithoutCondition> deletes)
+                throws IOException {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                var fields = line.split(",", -1);
+                if (fields.length != 3) {
+                    throw malformed("must have user, relation and object on line " + lineNumber);
+                }
+                if (!headerChecked) {
+                    // the header, if any, is the first line that is neither blank nor a comment
+                    headerChecked = true;
+                    if (isHeader(fields)) {
+                        continue;
+                    }
+                }
+                writes.add(new ClientTupleKey()
+                        .user(fields[0].strip())
+                        .relation(fields[1].strip())
+                        ._object(fields[2].strip()));
+                return true;
+            }
+            return false;
+        }
+
+        private static boolean isHeader(String[] fields) {
+            return fields[0].strip().equalsIgnoreCase("user")
+                    && fields[1].strip().equalsIgnoreCase("relation")
+                    && fields[2].strip().equalsIgnoreCase("object");
+        }
+
+        @Override
+        public void close() throws IOException {
+            lines.close();
+        }
+    }
+}
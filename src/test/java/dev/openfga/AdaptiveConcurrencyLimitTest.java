@@ -0,0 +1,163 @@
+package dev.openfga;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.openfga.sdk.errors.FgaApiInternalError;
+import dev.openfga.sdk.errors.FgaApiValidationError;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveConcurrencyLimit limit(int initialLimit, int maxQueueSize) {
+        return new AdaptiveConcurrencyLimit(initialLimit, 100, Duration.ofSeconds(1), maxQueueSize, clock::get);
+    }
+
+    @Test
+    void queuesRequestsOverTheLimitUntilASlotIsReleased() {
+        // given
+        var limit = limit(1, 1);
+        var first = limit.acquire();
+
+        // when
+        var second = limit.acquire();
+
+        // then
+        assertThat(first.isDone(), is(true));
+        assertThat(second.isDone(), is(false));
+        assertThat(limit.getQueued(), is(1));
+
+        limit.release(null, clock.get(), FAST);
+        assertThat(second.isDone(), is(true));
+        assertThat(limit.getInFlight(), is(1));
+        assertThat(limit.getQueued(), is(0));
+    }
+
+    @Test
+    void rejectsRequestsWhenTheQueueIsFull() {
+        // given
+        var limit = limit(1, 1);
+        limit.acquire();
+        limit.acquire();
+
+        // when
+        var rejected = limit.acquire();
+
+        // then
+        assertThat(rejected, is(nullValue()));
+        assertThat(limit.getRejectedCount(), is(1L));
+    }
+
+    @Test
+    void growsWhileRequestsSucceedUnderLoad() {
+        // given
+        var limit = limit(2, 0);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            limit.acquire();
+            limit.acquire();
+            limit.release(null, clock.get(), FAST);
+            limit.release(null, clock.get(), FAST);
+        }
+
+        // then
+        assertThat(limit.getLimit() > 2, is(true));
+    }
+
+    @Test
+    void backsOffWhenRequestsAreSlowOrOverloaded() {
+        // given
+        var limit = limit(20, 0);
+
+        // when
+        limit.acquire();
+        limit.release(null, clock.get(), SLOW);
+        clock.addAndGet(SLOW);
+        limit.acquire();
+        limit.release(new FgaApiInternalError("unavailable", 503, null, "{}"), clock.get(), FAST);
+
+        // then
+        assertThat(limit.getLimit(), is(16));
+    }
+
+    @Test
+    void backsOffOncePerRoundTrip() {
+        // given
+        var limit = limit(20, 0);
+        long sent = clock.get();
+        for (int i = 0; i < 20; i++) {
+            limit.acquire();
+        }
+        clock.addAndGet(SLOW);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            limit.release(null, sent, SLOW);
+        }
+
+        // then
+        assertThat(limit.getLimit(), is(18));
+    }
+
+    @Test
+    void ignoresLatencyOfUntimedRequests() {
+        // given
+        var limit = limit(20, 0);
+
+        // when
+        limit.acquire();
+        limit.release(null, clock.get(), 0);
+
+        // then
+        assertThat(limit.getLimit(), is(20));
+    }
+
+    @Test
+    void keepsTheLimitOnClientErrorsAndCancellations() {
+        // given
+        var limit = limit(20, 0);
+
+        // when
+        limit.acquire();
+        limit.release(new FgaApiValidationError("invalid", 400, null, "{}"), clock.get(), FAST);
+        limit.acquire();
+        limit.release(new CancellationException(), clock.get(), FAST);
+
+        // then
+        assertThat(limit.getLimit(), is(20));
+    }
+
+    @Test
+    void abandonsOnlyWaitingRequests() {
+        // given
+        var limit = limit(1, 1);
+        var first = limit.acquire();
+        var second = limit.acquire();
+
+        // when / then
+        assertThat(limit.abandon(first), is(false));
+        assertThat(limit.abandon(second), is(true));
+        assertThat(limit.getQueued(), is(0));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        var second = Duration.ofSeconds(1);
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(1, 0, second, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(5, 4, second, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(1, 4, Duration.ZERO, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(1, 4, second, -1));
+    }
+}
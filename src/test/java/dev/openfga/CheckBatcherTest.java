@@ -0,0 +1,205 @@
+package dev.openfga;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.openfga.sdk.api.client.OpenFgaClient;
+import dev.openfga.sdk.api.client.model.ClientBatchCheckRequest;
+import dev.openfga.sdk.api.client.model.ClientBatchCheckResponse;
+import dev.openfga.sdk.api.client.model.ClientBatchCheckSingleResponse;
+import dev.openfga.sdk.api.client.model.ClientCheckRequest;
+import dev.openfga.sdk.api.client.model.ClientCheckResponse;
+import dev.openfga.sdk.api.configuration.ClientBatchCheckOptions;
+import dev.openfga.sdk.api.model.CheckError;
+import dev.openfga.sdk.api.model.InternalErrorCode;
+import dev.openfga.sdk.errors.FgaApiInternalError;
+import dev.openfga.sdk.errors.FgaError;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+@UnitTest
+class CheckBatcherTest {
+
+    @Mock
+    private OpenFgaClient fgaClient;
+
+    private static ClientCheckRequest request(String objectId) {
+        return new ClientCheckRequest()
+                .user("user:anne")
+                .relation("viewer")
+                ._object("document:" + objectId);
+    }
+
+    private static ClientBatchCheckSingleResponse result(String correlationId, boolean allowed) {
+        var result = mock(ClientBatchCheckSingleResponse.class);
+        when(result.getCorrelationId()).thenReturn(correlationId);
+        when(result.isAllowed()).thenReturn(allowed);
+        return result;
+    }
+
+    @Test
+    void sendsFullBatchImmediately() throws Exception {
+        var response = mock(ClientBatchCheckResponse.class);
+        var results = List.of(result("0", true), result("1", false));
+        when(response.getResult()).thenReturn(results);
+        when(fgaClient.batchCheck(any(ClientBatchCheckRequest.class), any(ClientBatchCheckOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        try (var batcher = new CheckBatcher(fgaClient, 2, Duration.ofMinutes(1))) {
+            var first = batcher.submit(request("1"));
+            var second = batcher.submit(request("2"));
+
+            assertThat(first.get(1, TimeUnit.SECONDS), is(true));
+            assertThat(second.get(1, TimeUnit.SECONDS), is(false));
+        }
+
+        var requestCaptor = ArgumentCaptor.forClass(ClientBatchCheckRequest.class);
+        verify(fgaClient).batchCheck(requestCaptor.capture(), any(ClientBatchCheckOptions.class));
+        assertThat(requestCaptor.getValue().getChecks().size(), is(2));
+        assertThat(requestCaptor.getValue().getChecks().get(1).getObject(), is("document:2"));
+    }
+
+    @Test
+    void sendsFullBatchFromBatcherThread() throws Exception {
+        var response = mock(ClientBatchCheckResponse.class);
+        var results = List.of(result("0", true), result("1", true));
+        when(response.getResult()).thenReturn(results);
+        var sender = new AtomicReference<String>();
+        when(fgaClient.batchCheck(any(ClientBatchCheckRequest.class), any(ClientBatchCheckOptions.class)))
+                .thenAnswer(invocation -> {
+                    sender.set(Thread.currentThread().getName());
+                    return CompletableFuture.completedFuture(response);
+                });
+
+        try (var batcher = new CheckBatcher(fgaClient, 2, Duration.ofMinutes(1))) {
+            batcher.submit(request("1"));
+            batcher.submit(request("2")).get(1, TimeUnit.SECONDS);
+        }
+
+        assertThat(sender.get(), is("openfga-check-batcher"));
+    }
+
+    @Test
+    void sendsSingleCheckAfterWindow() throws Exception {
+        var response = mock(ClientCheckResponse.class);
+        when(response.getAllowed()).thenReturn(true);
+        when(fgaClient.check(any(ClientCheckRequest.class))).thenReturn(CompletableFuture.completedFuture(response));
+
+        try (var batcher = new CheckBatcher(fgaClient, 10, Duration.ofMillis(1))) {
+            var decision = batcher.submit(request("1"));
+
+            assertThat(decision.get(1, TimeUnit.SECONDS), is(true));
+        }
+
+        verify(fgaClient, timeout(1000)).check(any(ClientCheckRequest.class));
+        verify(fgaClient, never()).batchCheck(any(ClientBatchCheckRequest.class), any(ClientBatchCheckOptions.class));
+    }
+
+    @Test
+    void sendsCheckOnItsOwnOnceClosed() throws Exception {
+        var response = mock(ClientCheckResponse.class);
+        when(response.getAllowed()).thenReturn(true);
+        when(fgaClient.check(any(ClientCheckRequest.class))).thenReturn(CompletableFuture.completedFuture(response));
+        var batcher = new CheckBatcher(fgaClient, 10, Duration.ofMinutes(1));
+        batcher.close();
+
+        var decision = batcher.submit(request("1"));
+
+        assertThat(decision.get(1, TimeUnit.SECONDS), is(true));
+        verify(fgaClient, never()).batchCheck(any(ClientBatchCheckRequest.class), any(ClientBatchCheckOptions.class));
+    }
+
+    @Test
+    void failsEveryCheckInBatchWhenRequestFails() throws Exception {
+        when(fgaClient.batchCheck(any(ClientBatchCheckRequest.class), any(ClientBatchCheckOptions.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("unavailable")));
+
+        try (var batcher = new CheckBatcher(fgaClient, 2, Duration.ofMinutes(1))) {
+            var first = batcher.submit(request("1"));
+            var second = batcher.submit(request("2"));
+
+            assertThat(
+                    assertThrows(ExecutionException.class, first::get).getCause(),
+                    is(instanceOf(IllegalStateException.class)));
+            assertThat(
+                    assertThrows(ExecutionException.class, second::get).getCause(),
+                    is(instanceOf(IllegalStateException.class)));
+        }
+    }
+
+    @Test
+    void failsCheckWithErrorOfItsResult() throws Exception {
+        var response = mock(ClientBatchCheckResponse.class);
+        var failed = mock(ClientBatchCheckSingleResponse.class);
+        when(failed.getCorrelationId()).thenReturn("1");
+        when(failed.getError()).thenReturn(new CheckError().internalError(InternalErrorCode.DEADLINE_EXCEEDED));
+        var results = List.of(result("0", true), failed);
+        when(response.getResult()).thenReturn(results);
+        when(fgaClient.batchCheck(any(ClientBatchCheckRequest.class), any(ClientBatchCheckOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        try (var batcher = new CheckBatcher(fgaClient, 2, Duration.ofMinutes(1))) {
+            var first = batcher.submit(request("1"));
+            var second = batcher.submit(request("2"));
+
+            assertThat(first.get(1, TimeUnit.SECONDS), is(true));
+            var cause = assertThrows(ExecutionException.class, second::get).getCause();
+            assertThat(cause, is(instanceOf(FgaApiInternalError.class)));
+            assertThat(((FgaError) cause).getStatusCode(), is(500));
+        }
+    }
+
+    @Test
+    void batchTakesOneConcurrencyLimitSlot() throws Exception {
+        // given
+        var response = mock(ClientBatchCheckResponse.class);
+        var results = List.of(result("0", true), result("1", true), result("2", false));
+        when(response.getResult()).thenReturn(results);
+        var pending = new CompletableFuture<ClientBatchCheckResponse>();
+        when(fgaClient.batchCheck(any(ClientBatchCheckRequest.class), any(ClientBatchCheckOptions.class)))
+                .thenReturn(pending);
+        var limit = new AdaptiveConcurrencyLimit(1, 1, Duration.ofSeconds(10), 0);
+
+        try (var limiter = new OpenFgaConcurrencyLimiter(limit, limit, Duration.ofSeconds(10));
+                var batcher = new CheckBatcher(fgaClient, 3, Duration.ofMinutes(1))) {
+            batcher.setConcurrencyLimiter(limiter);
+
+            // when
+            var first = batcher.submit(request("1"));
+            var second = batcher.submit(request("2"));
+            var third = batcher.submit(request("3"));
+
+            // then
+            verify(fgaClient, timeout(1000))
+                    .batchCheck(any(ClientBatchCheckRequest.class), any(ClientBatchCheckOptions.class));
+            assertThat(limit.getInFlight(), is(1));
+            pending.complete(response);
+            assertThat(first.get(1, TimeUnit.SECONDS), is(true));
+            assertThat(second.get(1, TimeUnit.SECONDS), is(true));
+            assertThat(third.get(1, TimeUnit.SECONDS), is(false));
+            assertThat(limit.getInFlight(), is(0));
+            assertThat(limit.getRejectedCount(), is(0L));
+        }
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new CheckBatcher(fgaClient, 0, Duration.ofMillis(1)));
+        assertThrows(IllegalArgumentException.class, () -> new CheckBatcher(fgaClient, 1, Duration.ZERO));
+    }
+}
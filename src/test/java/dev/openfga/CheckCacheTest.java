@@ -0,0 +1,226 @@
+package dev.openfga;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.openfga.sdk.api.client.model.ClientCheckRequest;
+import dev.openfga.sdk.api.client.model.ClientTupleKey;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class CheckCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private static CheckKey key(String objectId) {
+        return CheckKey.of(
+                "store",
+                "model",
+                new ClientCheckRequest()
+                        .user("user:anne")
+                        .relation("viewer")
+                        ._object("document:" + objectId));
+    }
+
+    @Test
+    void returnsCachedDecision() {
+        var cache = new CheckCache(10, Duration.ofSeconds(10), clock::get);
+
+        cache.put(key("1"), true);
+        cache.put(key("2"), false);
+
+        assertThat(cache.get(key("1")), is(true));
+        assertThat(cache.get(key("2")), is(false));
+        assertThat(cache.get(key("3")), is(nullValue()));
+        assertThat(cache.stats(), is(new CheckCache.Stats(2, 1, 0)));
+    }
+
+    @Test
+    void expiresDecisionAfterTtl() {
+        var cache = new CheckCache(10, Duration.ofSeconds(10), clock::get);
+        cache.put(key("1"), true);
+
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertThat(cache.get(key("1")), is(true));
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cache.get(key("1")), is(nullValue()));
+        assertThat(cache.stats().evictionCount(), is(1L));
+        assertThat(cache.size(), is(0L));
+    }
+
+    @Test
+    void claimsRefreshOnceWithinRefreshAheadFraction() {
+        var cache = new CheckCache(10, Duration.ofSeconds(10), clock::get);
+        cache.setRefreshAheadFraction(0.2);
+        cache.put(key("1"), true);
+
+        clock.addAndGet(Duration.ofSeconds(7).toNanos());
+        assertThat(cache.tryStartRefresh(key("1")), is(false));
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cache.get(key("1")), is(true));
+        assertThat(cache.tryStartRefresh(key("1")), is(true));
+        assertThat(cache.tryStartRefresh(key("1")), is(false));
+
+        cache.put(key("1"), false);
+        assertThat(cache.get(key("1")), is(false));
+        assertThat(cache.tryStartRefresh(key("1")), is(false));
+    }
+
+    @Test
+    void claimsRefreshAgainOnceAborted() {
+        var cache = new CheckCache(10, Duration.ofSeconds(10), clock::get);
+        cache.setRefreshAheadFraction(0.2);
+        cache.put(key("1"), true);
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertThat(cache.tryStartRefresh(key("1")), is(true));
+
+        cache.abortRefresh(key("1"));
+
+        assertThat(cache.tryStartRefresh(key("1")), is(true));
+        assertThat(cache.get(key("1")), is(true));
+    }
+
+    @Test
+    void neverClaimsRefreshWithoutRefreshAheadFraction() {
+        var cache = new CheckCache(10, Duration.ofSeconds(10), clock::get);
+        cache.put(key("1"), true);
+
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+
+        assertThat(cache.tryStartRefresh(key("1")), is(false));
+    }
+
+    @Test
+    void servesStaleDecisionWithinStaleWindow() {
+        var cache = new CheckCache(10, Duration.ofSeconds(10), clock::get);
+        cache.setStaleWindows(Map.of("document#viewer", Duration.ofSeconds(30), "folder", Duration.ofMinutes(5)));
+        cache.put(key("1"), true);
+
+        assertThat(cache.getStale(key("1")), is(nullValue()));
+
+        clock.addAndGet(Duration.ofSeconds(20).toNanos());
+        assertThat(cache.get(key("1")), is(nullValue()));
+        assertThat(cache.getStale(key("1")), is(true));
+
+        clock.addAndGet(Duration.ofSeconds(20).toNanos());
+        assertThat(cache.getStale(key("1")), is(nullValue()));
+        assertThat(cache.get(key("1")), is(nullValue()));
+        assertThat(cache.size(), is(0L));
+    }
+
+    @Test
+    void usesStaleWindowOfObjectTypeWithoutRelationWindow() {
+        var cache = new CheckCache(10, Duration.ofSeconds(10), clock::get);
+        cache.setStaleWindows(Map.of("document", Duration.ofSeconds(30), "document#editor", Duration.ZERO));
+        var editor = CheckKey.of(
+                "store",
+                "model",
+                new ClientCheckRequest().user("user:anne").relation("editor")._object("document:1"));
+        cache.put(key("1"), true);
+        cache.put(editor, true);
+
+        clock.addAndGet(Duration.ofSeconds(20).toNanos());
+
+        assertThat(cache.getStale(key("1")), is(true));
+        assertThat(cache.getStale(editor), is(nullValue()));
+    }
+
+    @Test
+    void invalidatesMatchingDecisions() {
+        var cache = new CheckCache(10, Duration.ofSeconds(10), clock::get);
+        cache.put(key("1"), true);
+        cache.put(key("2"), false);
+        cache.put(key("3"), false);
+
+        int removed = cache.invalidateIf((key, allowed) -> !allowed && key.object().equals("document:2"));
+
+        assertThat(removed, is(1));
+        assertThat(cache.get(key("1")), is(true));
+        assertThat(cache.get(key("2")), is(nullValue()));
+        assertThat(cache.get(key("3")), is(false));
+    }
+
+    @Test
+    void dropsDecisionOfCheckSentBeforeInvalidation() {
+        var cache = new CheckCache(10, Duration.ofSeconds(10), clock::get);
+        long generation = cache.generation();
+
+        cache.invalidateIf((key, allowed) -> key.object().equals("document:2"));
+
+        assertThat(cache.put(key("1"), false, generation), is(false));
+        assertThat(cache.get(key("1")), is(nullValue()));
+        assertThat(cache.put(key("1"), true, cache.generation()), is(true));
+        assertThat(cache.get(key("1")), is(true));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedDecisionWhenFull() {
+        var cache = new CheckCache(1, Duration.ofSeconds(10), clock::get);
+
+        cache.put(key("1"), true);
+        cache.put(key("2"), true);
+
+        assertThat(cache.size(), is(1L));
+        assertThat(cache.get(key("1")), is(nullValue()));
+        assertThat(cache.get(key("2")), is(true));
+        assertThat(cache.stats().evictionCount(), is(1L));
+    }
+
+    @Test
+    void distinguishesContextualTuplesAndContext() {
+        var cache = new CheckCache(10, Duration.ofSeconds(10), clock::get);
+        var request = new ClientCheckRequest()
+                .user("user:anne")
+                .relation("viewer")
+                ._object("document:1")
+                .contextualTuples(List.of(
+                        new ClientTupleKey().user("user:anne").relation("member")._object("group:marketing")));
+
+        cache.put(CheckKey.of("store", "model", request), true);
+
+        assertThat(cache.get(CheckKey.of("store", "model", request)), is(true));
+        assertThat(cache.get(key("1")), is(nullValue()));
+        assertThat(cache.get(CheckKey.of("store", "model", request.context("ctx"))), is(nullValue()));
+        assertThat(cache.get(CheckKey.of("store", "other-model", request)), is(nullValue()));
+    }
+
+    @Test
+    void invalidateAllRemovesEveryDecision() {
+        var cache = new CheckCache(10, Duration.ofSeconds(10), clock::get);
+        cache.put(key("1"), true);
+        cache.put(key("2"), false);
+
+        long generation = cache.generation();
+
+        cache.invalidateAll();
+
+        assertThat(cache.size(), is(0L));
+        assertThat(cache.put(key("1"), true, generation), is(false));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new CheckCache(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new CheckCache(1, Duration.ZERO));
+        var cache = new CheckCache(1, Duration.ofSeconds(1));
+        assertThrows(IllegalArgumentException.class, () -> cache.setRefreshAheadFraction(1));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> cache.setStaleWindows(Map.of("document", Duration.ofSeconds(-1))));
+        assertThrows(IllegalArgumentException.class, () -> cache.setStaleTimeout(Duration.ZERO));
+    }
+
+    @Test
+    void computesHitRate() {
+        assertThat(new CheckCache.Stats(3, 1, 0).hitRate(), is(0.75));
+        assertThat(new CheckCache.Stats(0, 0, 0).hitRate(), is(0.0));
+    }
+}
@@ -0,0 +1,179 @@
+package dev.openfga;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.openfga.sdk.errors.FgaApiValidationError;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class CheckCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private CheckCircuitBreaker circuitBreaker() {
+        return new CheckCircuitBreaker(10, 4, 0.5, Duration.ofSeconds(1), 0.5, Duration.ofSeconds(30), clock::get);
+    }
+
+    private static CompletableFuture<Boolean> success() {
+        return CompletableFuture.completedFuture(true);
+    }
+
+    private static CompletableFuture<Boolean> failure() {
+        return CompletableFuture.failedFuture(new ConnectException("unavailable"));
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        var breaker = circuitBreaker();
+
+        breaker.call(CheckCircuitBreakerTest::success);
+        breaker.call(CheckCircuitBreakerTest::failure);
+        breaker.call(CheckCircuitBreakerTest::success);
+        assertThat(breaker.getState(), is(CheckCircuitBreaker.State.CLOSED));
+
+        breaker.call(CheckCircuitBreakerTest::failure);
+
+        assertThat(breaker.getState(), is(CheckCircuitBreaker.State.OPEN));
+        assertThat(breaker.getFailureRate(), is(0.5));
+    }
+
+    @Test
+    void opensWhenSlowCallRateReachesThreshold() {
+        var breaker = circuitBreaker();
+
+        for (int i = 0; i < 4; i++) {
+            var response = new CompletableFuture<Boolean>();
+            breaker.call(() -> response);
+            clock.addAndGet(i % 2 == 0 ? Duration.ofSeconds(2).toNanos() : 0);
+            response.complete(true);
+        }
+
+        assertThat(breaker.getState(), is(CheckCircuitBreaker.State.OPEN));
+        assertThat(breaker.getSlowCallRate(), is(0.5));
+    }
+
+    @Test
+    void ignoresClientErrors() {
+        var breaker = circuitBreaker();
+        var validationError = new FgaApiValidationError("invalid", 400, null, "{}");
+
+        for (int i = 0; i < 10; i++) {
+            breaker.call(() -> CompletableFuture.failedFuture(validationError));
+        }
+
+        assertThat(breaker.getState(), is(CheckCircuitBreaker.State.CLOSED));
+        assertThat(breaker.getFailureRate(), is(0.0));
+    }
+
+    @Test
+    void ignoresLocalRejectionsAndCancellations() {
+        var breaker = circuitBreaker();
+
+        for (int i = 0; i < 10; i++) {
+            breaker.call(() ->
+                    CompletableFuture.failedFuture(new ConcurrencyLimitExceededException(OpenFgaCall.CHECK)));
+            breaker.call(() -> CompletableFuture.failedFuture(new CancellationException()));
+            breaker.call(() -> CompletableFuture.failedFuture(new CompletionException(new InterruptedException())));
+            breaker.call(() -> CompletableFuture.failedFuture(new IllegalStateException("bug")));
+        }
+
+        assertThat(breaker.getState(), is(CheckCircuitBreaker.State.CLOSED));
+        assertThat(breaker.getFailureRate(), is(0.0));
+    }
+
+    @Test
+    void countsTimeoutsAsFailures() {
+        var breaker = circuitBreaker();
+
+        for (int i = 0; i < 4; i++) {
+            breaker.call(() -> CompletableFuture.failedFuture(new CompletionException(new TimeoutException())));
+        }
+
+        assertThat(breaker.getState(), is(CheckCircuitBreaker.State.OPEN));
+    }
+
+    @Test
+    void rejectsChecksWhileOpen() {
+        var breaker = circuitBreaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.call(CheckCircuitBreakerTest::failure);
+        }
+        var sent = new AtomicInteger();
+
+        var rejected = breaker.call(() -> {
+            sent.incrementAndGet();
+            return success();
+        });
+
+        assertThat(sent.get(), is(0));
+        var exception = assertThrows(ExecutionException.class, rejected::get);
+        assertThat(exception.getCause(), instanceOf(CircuitOpenException.class));
+        assertThat(breaker.getRejectedCount(), is(1L));
+    }
+
+    @Test
+    void closesWhenProbeSucceedsAfterOpenDuration() throws Exception {
+        var breaker = circuitBreaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.call(CheckCircuitBreakerTest::failure);
+        }
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        var probe = new CompletableFuture<Boolean>();
+
+        breaker.call(() -> probe);
+        assertThat(breaker.getState(), is(CheckCircuitBreaker.State.HALF_OPEN));
+        assertThrows(ExecutionException.class, () -> breaker.call(CheckCircuitBreakerTest::success).get());
+        probe.complete(true);
+
+        assertThat(breaker.getState(), is(CheckCircuitBreaker.State.CLOSED));
+        assertThat(breaker.call(CheckCircuitBreakerTest::success).get(), is(true));
+    }
+
+    @Test
+    void reopensWhenProbeFails() {
+        var breaker = circuitBreaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.call(CheckCircuitBreakerTest::failure);
+        }
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        breaker.call(CheckCircuitBreakerTest::failure);
+
+        assertThat(breaker.getState(), is(CheckCircuitBreaker.State.OPEN));
+        assertThrows(ExecutionException.class, () -> breaker.call(CheckCircuitBreakerTest::success).get());
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new CheckCircuitBreaker(0, 1, 0.5, Duration.ofSeconds(1), 0.5, Duration.ofSeconds(1)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new CheckCircuitBreaker(10, 11, 0.5, Duration.ofSeconds(1), 0.5, Duration.ofSeconds(1)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new CheckCircuitBreaker(10, 5, 0, Duration.ofSeconds(1), 0.5, Duration.ofSeconds(1)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new CheckCircuitBreaker(10, 5, 0.5, Duration.ZERO, 0.5, Duration.ofSeconds(1)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new CheckCircuitBreaker(10, 5, 0.5, Duration.ofSeconds(1), 1.5, Duration.ofSeconds(1)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new CheckCircuitBreaker(10, 5, 0.5, Duration.ofSeconds(1), 0.5, Duration.ZERO));
+    }
+}
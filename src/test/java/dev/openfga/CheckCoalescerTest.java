@@ -0,0 +1,133 @@
+package dev.openfga;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.openfga.sdk.api.client.model.ClientCheckRequest;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class CheckCoalescerTest {
+
+    private final CheckCoalescer coalescer = new CheckCoalescer();
+
+    private static CheckKey key(String objectId) {
+        return CheckKey.of(
+                null,
+                null,
+                new ClientCheckRequest()
+                        .user("user:anne")
+                        .relation("viewer")
+                        ._object("document:" + objectId));
+    }
+
+    @Test
+    void sharesInFlightCheck() throws Exception {
+        var sent = new AtomicInteger();
+        var response = new CompletableFuture<Boolean>();
+
+        var first = coalescer.coalesce(key("1"), () -> {
+            sent.incrementAndGet();
+            return response;
+        });
+        var second = coalescer.coalesce(key("1"), () -> {
+            sent.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        response.complete(true);
+
+        assertThat(sent.get(), is(1));
+        assertThat(first.get(), is(true));
+        assertThat(second.get(), is(true));
+        assertThat(coalescer.coalescedCount(), is(1L));
+        assertThat(coalescer.inFlightCount(), is(0));
+    }
+
+    @Test
+    void sendsDistinctChecksSeparately() {
+        var sent = new AtomicInteger();
+
+        coalescer.coalesce(key("1"), () -> {
+            sent.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        coalescer.coalesce(key("2"), () -> {
+            sent.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        assertThat(sent.get(), is(2));
+        assertThat(coalescer.inFlightCount(), is(2));
+    }
+
+    @Test
+    void sendsNewCheckOnceThePreviousCompleted() throws Exception {
+        var sent = new AtomicInteger();
+
+        coalescer
+                .coalesce(key("1"), () -> {
+                    sent.incrementAndGet();
+                    return CompletableFuture.completedFuture(true);
+                })
+                .get();
+        var second = coalescer.coalesce(key("1"), () -> {
+            sent.incrementAndGet();
+            return CompletableFuture.completedFuture(false);
+        });
+
+        assertThat(sent.get(), is(2));
+        assertThat(second.get(), is(false));
+    }
+
+    @Test
+    void doesNotJoinCheckSentInEarlierGeneration() throws Exception {
+        var before = new CompletableFuture<Boolean>();
+        var after = new CompletableFuture<Boolean>();
+
+        var first = coalescer.coalesce(key("1"), 0, () -> before);
+        var second = coalescer.coalesce(key("1"), 1, () -> after);
+        var third = coalescer.coalesce(key("1"), 1, CompletableFuture::new);
+        before.complete(true);
+        after.complete(false);
+
+        assertThat(first.get(), is(true));
+        assertThat(second.get(), is(false));
+        assertThat(third.get(), is(false));
+        assertThat(coalescer.coalescedCount(), is(1L));
+        assertThat(coalescer.inFlightCount(), is(0));
+    }
+
+    @Test
+    void propagatesFailureToEveryCaller() {
+        var response = new CompletableFuture<Boolean>();
+        var first = coalescer.coalesce(key("1"), () -> response);
+        var second = coalescer.coalesce(key("1"), () -> response);
+
+        response.completeExceptionally(new IllegalStateException("unavailable"));
+
+        assertThat(
+                assertThrows(ExecutionException.class, first::get).getCause(),
+                is(instanceOf(IllegalStateException.class)));
+        assertThat(
+                assertThrows(ExecutionException.class, second::get).getCause(),
+                is(instanceOf(IllegalStateException.class)));
+        assertThat(coalescer.inFlightCount(), is(0));
+    }
+
+    @Test
+    void cancellingOneCallerDoesNotAffectOthers() throws Exception {
+        var response = new CompletableFuture<Boolean>();
+        var first = coalescer.coalesce(key("1"), () -> response);
+        var second = coalescer.coalesce(key("1"), () -> response);
+
+        first.cancel(true);
+        response.complete(true);
+
+        assertThat(second.get(), is(true));
+    }
+}
@@ -0,0 +1,140 @@
+package dev.openfga;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class CheckHedgerTest {
+
+    private CheckHedger hedger;
+
+    @AfterEach
+    void closeHedger() {
+        if (hedger != null) {
+            hedger.close();
+        }
+    }
+
+    private static CompletableFuture<Boolean> slowCheckAnsweredByHedge() {
+        return Thread.currentThread().getName().equals("openfga-check-hedger")
+                ? CompletableFuture.completedFuture(true)
+                : new CompletableFuture<>();
+    }
+
+    @Test
+    void sendsHedgeWhenCheckIsNotAnsweredInTime() throws Exception {
+        hedger = new CheckHedger(Duration.ofMillis(10), 0, 1);
+        List<CompletableFuture<Boolean>> sent = new CopyOnWriteArrayList<>();
+
+        var decision = hedger.hedge(() -> {
+            var response = new CompletableFuture<Boolean>();
+            if (!sent.isEmpty()) {
+                response.complete(true);
+            }
+            sent.add(response);
+            return response;
+        });
+
+        assertThat(decision.get(5, TimeUnit.SECONDS), is(true));
+        assertThat(sent.size(), is(2));
+        assertThrows(CancellationException.class, () -> sent.get(0).get(5, TimeUnit.SECONDS));
+        assertThat(hedger.getHedgeCount(), is(1L));
+    }
+
+    @Test
+    void sendsNoHedgeWhenCheckIsAnsweredInTime() throws Exception {
+        hedger = new CheckHedger(Duration.ofMillis(10), 0, 1);
+        var sent = new AtomicInteger();
+
+        var decision = hedger.hedge(() -> {
+            sent.incrementAndGet();
+            return CompletableFuture.completedFuture(false);
+        });
+
+        assertThat(decision.get(), is(false));
+        assertThat(sent.get(), is(1));
+        assertThat(hedger.getHedgeCount(), is(0L));
+    }
+
+    @Test
+    void hedgesNoMoreChecksThanTheBudgetAllows() throws Exception {
+        hedger = new CheckHedger(Duration.ofMillis(10), 0, 0.5);
+        var first = hedger.hedge(CheckHedgerTest::slowCheckAnsweredByHedge);
+        var second = hedger.hedge(CheckHedgerTest::slowCheckAnsweredByHedge);
+
+        CompletableFuture.anyOf(first, second).get(5, TimeUnit.SECONDS);
+
+        assertThat(hedger.getHedgeCount(), is(1L));
+        assertThat(first.isDone() && second.isDone(), is(false));
+    }
+
+    @Test
+    void answersWithHedgeWhenCheckFails() throws Exception {
+        hedger = new CheckHedger(Duration.ofMillis(10), 0, 1);
+        var primary = new CompletableFuture<Boolean>();
+        var hedge = new CompletableFuture<Boolean>();
+        var hedgeSent = new CountDownLatch(1);
+        var sent = new AtomicInteger();
+
+        var decision = hedger.hedge(() -> {
+            if (sent.getAndIncrement() == 0) {
+                return primary;
+            }
+            hedgeSent.countDown();
+            return hedge;
+        });
+        assertThat(hedgeSent.await(5, TimeUnit.SECONDS), is(true));
+        primary.completeExceptionally(new IllegalStateException("unavailable"));
+
+        assertThat(decision.isDone(), is(false));
+        hedge.complete(false);
+        assertThat(decision.get(5, TimeUnit.SECONDS), is(false));
+    }
+
+    @Test
+    void sendsHedgeWithContextOfCaller() throws Exception {
+        hedger = new CheckHedger(Duration.ofMillis(10), 0, 1);
+        var context = new ThreadLocal<String>();
+        hedger.setTaskDecorator(runnable -> {
+            var captured = context.get();
+            return () -> {
+                context.set(captured);
+                try {
+                    runnable.run();
+                } finally {
+                    context.remove();
+                }
+            };
+        });
+        List<String> contexts = new CopyOnWriteArrayList<>();
+        context.set("request");
+
+        var decision = hedger.hedge(() -> {
+            contexts.add(context.get());
+            return slowCheckAnsweredByHedge();
+        });
+
+        context.remove();
+        assertThat(decision.get(5, TimeUnit.SECONDS), is(true));
+        assertThat(contexts, is(List.of("request", "request")));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new CheckHedger(Duration.ZERO, 0, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> new CheckHedger(Duration.ofMillis(10), 1, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> new CheckHedger(Duration.ofMillis(10), 0, 0));
+    }
+}
@@ -0,0 +1,37 @@
+package dev.openfga;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@UnitTest
+class CheckMemoWebFilterTest {
+
+    private final CheckMemoWebFilter filter = new CheckMemoWebFilter();
+
+    @Test
+    void bindsFreshMemoToEveryRequest() {
+        var memos = new ArrayList<Object>();
+        WebFilterChain chain = exchange -> Mono.deferContextual(context -> {
+            memos.add(context.get(CheckMemo.CONTEXT_KEY));
+            return Mono.empty();
+        });
+
+        StepVerifier.create(filter.filter(mock(ServerWebExchange.class), chain)).verifyComplete();
+        StepVerifier.create(filter.filter(mock(ServerWebExchange.class), chain)).verifyComplete();
+
+        assertThat(memos.size(), is(2));
+        assertThat(memos.get(0), is(instanceOf(CheckMemo.class)));
+        assertThat(memos.get(0), is(not(sameInstance(memos.get(1)))));
+    }
+}
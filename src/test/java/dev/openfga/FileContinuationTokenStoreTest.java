@@ -0,0 +1,28 @@
+package dev.openfga;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@UnitTest
+class FileContinuationTokenStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void savesAndLoadsContinuationToken() {
+        var file = directory.resolve("state").resolve("openfga-changes.token");
+
+        assertThat(new FileContinuationTokenStore(file).load(), is(nullValue()));
+
+        new FileContinuationTokenStore(file).save("token-1");
+        new FileContinuationTokenStore(file).save("token-2");
+
+        assertThat(new FileContinuationTokenStore(file).load(), is("token-2"));
+    }
+}
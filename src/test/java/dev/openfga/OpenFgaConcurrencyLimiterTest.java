@@ -0,0 +1,161 @@
+package dev.openfga;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class OpenFgaConcurrencyLimiterTest {
+
+    private static final OpenFgaCall CHECK = new OpenFgaCall(OpenFgaCall.CHECK, "document", "reader", "document:1");
+    private static final OpenFgaCall WRITE = new OpenFgaCall(OpenFgaCall.WRITE, null, null, null);
+
+    private OpenFgaConcurrencyLimiter limiter;
+
+    @AfterEach
+    void closeLimiter() {
+        if (limiter != null) {
+            limiter.close();
+        }
+    }
+
+    private static AdaptiveConcurrencyLimit limit(int maxQueueSize) {
+        return new AdaptiveConcurrencyLimit(1, 1, Duration.ofSeconds(10), maxQueueSize);
+    }
+
+    private void sendSlowly(OpenFgaCall call) throws InterruptedException {
+        var response = new CompletableFuture<Boolean>();
+        limiter.intercept(call, () -> response);
+        Thread.sleep(10);
+        response.complete(true);
+    }
+
+    @Test
+    void sendsQueuedRequestOnceASlotIsReleased() throws Exception {
+        // given
+        limiter = new OpenFgaConcurrencyLimiter(limit(1), limit(1), Duration.ofSeconds(10));
+        var first = new CompletableFuture<Boolean>();
+        var sent = new AtomicInteger();
+        limiter.intercept(CHECK, () -> first);
+
+        // when
+        var second = limiter.intercept(CHECK, () -> {
+            sent.incrementAndGet();
+            return CompletableFuture.completedFuture(false);
+        });
+
+        // then
+        assertThat(sent.get(), is(0));
+        first.complete(true);
+        assertThat(second.get(5, TimeUnit.SECONDS), is(false));
+        assertThat(sent.get(), is(1));
+    }
+
+    @Test
+    void rejectsRequestWhenTheQueueIsFull() {
+        // given
+        limiter = new OpenFgaConcurrencyLimiter(limit(0), limit(0), Duration.ofSeconds(10));
+        limiter.intercept(CHECK, CompletableFuture::new);
+
+        // when
+        var rejected = limiter.intercept(CHECK, () -> CompletableFuture.completedFuture(true));
+
+        // then
+        var exception = assertThrows(ExecutionException.class, rejected::get);
+        assertThat(exception.getCause(), instanceOf(ConcurrencyLimitExceededException.class));
+        assertThat(limiter.getCheckLimit().getRejectedCount(), is(1L));
+    }
+
+    @Test
+    void rejectsRequestThatWaitedTooLong() {
+        // given
+        limiter = new OpenFgaConcurrencyLimiter(limit(1), limit(1), Duration.ofMillis(10));
+        limiter.intercept(CHECK, CompletableFuture::new);
+
+        // when
+        var rejected = limiter.intercept(CHECK, () -> CompletableFuture.completedFuture(true));
+
+        // then
+        var exception = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertThat(exception.getCause(), instanceOf(ConcurrencyLimitExceededException.class));
+        assertThat(limiter.getCheckLimit().getQueued(), is(0));
+    }
+
+    @Test
+    void limitsBulkOperationsSeparatelyFromChecks() throws Exception {
+        // given
+        limiter = new OpenFgaConcurrencyLimiter(limit(0), limit(0), Duration.ofSeconds(10));
+        limiter.intercept(WRITE, CompletableFuture::new);
+
+        // when
+        var check = limiter.intercept(CHECK, () -> CompletableFuture.completedFuture(true));
+        var write = limiter.intercept(WRITE, () -> CompletableFuture.completedFuture(null));
+
+        // then
+        assertThat(check.get(), is(true));
+        assertThrows(ExecutionException.class, write::get);
+        assertThat(limiter.getBulkLimit().getInFlight(), is(1));
+    }
+
+    @Test
+    void limitsStreamedListingWithBulkOperations() {
+        // given
+        limiter = new OpenFgaConcurrencyLimiter(limit(0), limit(0), Duration.ofSeconds(10));
+        var streamedList = new OpenFgaCall(OpenFgaCall.STREAMED_LIST_OBJECTS, "document", "reader", null);
+
+        // when
+        limiter.intercept(streamedList, CompletableFuture::new);
+
+        // then
+        assertThat(limiter.getCheckLimit().getInFlight(), is(0));
+        assertThat(limiter.getBulkLimit().getInFlight(), is(1));
+    }
+
+    @Test
+    void comparesLatencyOfSingleChecksOnly() throws Exception {
+        // given
+        var checkLimit = new AdaptiveConcurrencyLimit(10, 10, Duration.ofNanos(1), 0);
+        limiter = new OpenFgaConcurrencyLimiter(checkLimit, limit(0), Duration.ofSeconds(10));
+        var batchCheck = new OpenFgaCall(OpenFgaCall.BATCH_CHECK, "document", "reader", null);
+        var listObjects = new OpenFgaCall(OpenFgaCall.LIST_OBJECTS, "document", "reader", null);
+
+        // when
+        sendSlowly(batchCheck);
+        sendSlowly(listObjects);
+
+        // then
+        assertThat(checkLimit.getLimit(), is(10));
+        sendSlowly(CHECK);
+        assertThat(checkLimit.getLimit(), is(9));
+    }
+
+    @Test
+    void releasesSlotWhenWaitingRequestIsCancelled() {
+        // given
+        limiter = new OpenFgaConcurrencyLimiter(limit(1), limit(1), Duration.ofSeconds(10));
+        var first = new CompletableFuture<Boolean>();
+        var sent = new AtomicInteger();
+        limiter.intercept(CHECK, () -> first);
+        var second = limiter.intercept(CHECK, () -> {
+            sent.incrementAndGet();
+            return new CompletableFuture<Boolean>();
+        });
+
+        // when
+        second.cancel(false);
+        first.complete(true);
+
+        // then
+        assertThat(sent.get(), is(0));
+        assertThat(limiter.getCheckLimit().getInFlight(), is(0));
+    }
+}
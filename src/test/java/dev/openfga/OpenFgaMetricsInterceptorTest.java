@@ -0,0 +1,76 @@
+package dev.openfga;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.when;
+
+import dev.openfga.sdk.api.client.OpenFgaClient;
+import dev.openfga.sdk.api.client.model.ClientCheckRequest;
+import dev.openfga.sdk.api.client.model.ClientCheckResponse;
+import dev.openfga.sdk.errors.FgaApiNotFoundError;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+@UnitTest
+class OpenFgaMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Mock
+    private OpenFgaClient fgaClient;
+
+    @Mock
+    private ClientCheckResponse checkResponse;
+
+    @Test
+    void recordsCheckOutcomeByObjectTypeAndRelation() throws Exception {
+        // given
+        var fga = new OpenFga(fgaClient, new OpenFgaExceptionHandler());
+        fga.setInterceptors(List.of(new OpenFgaMetricsInterceptor(registry, 0.99)));
+        when(checkResponse.getAllowed()).thenReturn(true, false);
+        when(fgaClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(checkResponse));
+
+        // when
+        fga.check("document", "1", "viewer", "user", "anne");
+        fga.check("document", "2", "viewer", "user", "anne");
+
+        // then
+        var allowed = registry.get("openfga.client.requests")
+                .tag("operation", "check")
+                .tag("object.type", "document")
+                .tag("relation", "viewer")
+                .tag("outcome", "allowed")
+                .timer();
+        var denied = registry.get("openfga.client.requests").tag("outcome", "denied").timer();
+        assertThat(allowed.count(), is(1L));
+        assertThat(denied.count(), is(1L));
+        assertThat(registry.get("openfga.client.requests.active").gauge().value(), is(0.0));
+    }
+
+    @Test
+    void countsErrorsByStatus() throws Exception {
+        // given
+        var fga = new OpenFga(fgaClient, new OpenFgaExceptionHandler());
+        fga.setInterceptors(List.of(new OpenFgaMetricsInterceptor(registry)));
+        var notFound = new FgaApiNotFoundError("Store not found.", 404, null, "{}");
+        when(fgaClient.check(any(ClientCheckRequest.class))).thenReturn(CompletableFuture.failedFuture(notFound));
+
+        // when
+        assertThrows(OpenFgaException.class, () -> fga.check("document", "1", "viewer", "user", "anne"));
+
+        // then
+        var errors = registry.get("openfga.client.errors")
+                .tag("operation", "check")
+                .tag("status", "404")
+                .tag("exception", "FgaApiNotFoundError")
+                .counter();
+        assertThat(errors.count(), is(1.0));
+        assertThat(registry.get("openfga.client.requests").tag("outcome", "error").timer().count(), is(1L));
+    }
+}
@@ -0,0 +1,112 @@
+package dev.openfga;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.when;
+
+import dev.openfga.sdk.api.client.OpenFgaClient;
+import dev.openfga.sdk.api.client.model.ClientCheckRequest;
+import dev.openfga.sdk.api.client.model.ClientCheckResponse;
+import dev.openfga.sdk.errors.FgaApiNotFoundError;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+@UnitTest
+class OpenFgaObservationInterceptorTest {
+
+    private final ObservationRegistry registry = ObservationRegistry.create();
+
+    private final List<Observation.Context> stopped = new CopyOnWriteArrayList<>();
+
+    @Mock
+    private OpenFgaClient fgaClient;
+
+    @Mock
+    private ClientCheckResponse checkResponse;
+
+    @BeforeEach
+    void registerHandler() {
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+    }
+
+    @Test
+    void observesCheckWithObjectTypeRelationAndObject() throws Exception {
+        // given
+        var fga = new OpenFga(fgaClient, new OpenFgaExceptionHandler());
+        fga.setInterceptors(List.of(new OpenFgaObservationInterceptor(registry)));
+        when(checkResponse.getAllowed()).thenReturn(true);
+        when(fgaClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(checkResponse));
+
+        // when
+        fga.check("document", "1", "viewer", "user", "anne");
+
+        // then
+        assertThat(stopped, hasSize(1));
+        var context = stopped.get(0);
+        assertThat(context.getName(), is("openfga.request"));
+        assertThat(context.getContextualName(), is("openfga check"));
+        assertThat(context.getLowCardinalityKeyValue("operation").getValue(), is("check"));
+        assertThat(context.getLowCardinalityKeyValue("object.type").getValue(), is("document"));
+        assertThat(context.getLowCardinalityKeyValue("relation").getValue(), is("viewer"));
+        assertThat(context.getLowCardinalityKeyValue("cache.hit").getValue(), is("false"));
+        assertThat(context.getHighCardinalityKeyValue("object").getValue(), is("document:1"));
+    }
+
+    @Test
+    void observesCacheHit() throws Exception {
+        // given
+        var fga = new OpenFga(fgaClient, new OpenFgaExceptionHandler());
+        fga.setCheckCache(new CheckCache(10, Duration.ofMinutes(1)));
+        fga.setInterceptors(List.of(new OpenFgaObservationInterceptor(registry)));
+        when(checkResponse.getAllowed()).thenReturn(true);
+        when(fgaClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(checkResponse));
+
+        // when
+        fga.check("document", "1", "viewer", "user", "anne");
+        fga.check("document", "1", "viewer", "user", "anne");
+
+        // then
+        assertThat(stopped, hasSize(2));
+        assertThat(stopped.get(1).getLowCardinalityKeyValue("cache.hit").getValue(), is("true"));
+    }
+
+    @Test
+    void recordsErrorOfFailedRequest() {
+        // given
+        var fga = new OpenFga(fgaClient, new OpenFgaExceptionHandler());
+        fga.setInterceptors(List.of(new OpenFgaObservationInterceptor(registry)));
+        var notFound = new FgaApiNotFoundError("Store not found.", 404, null, "{}");
+        when(fgaClient.check(any(ClientCheckRequest.class))).thenReturn(CompletableFuture.failedFuture(notFound));
+
+        // when
+        assertThrows(OpenFgaException.class, () -> fga.check("document", "1", "viewer", "user", "anne"));
+
+        // then
+        assertThat(stopped, hasSize(1));
+        assertThat(stopped.get(0).getError(), instanceOf(FgaApiNotFoundError.class));
+    }
+}
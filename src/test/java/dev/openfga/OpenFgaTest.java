@@ -7,14 +7,32 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 import dev.openfga.sdk.api.client.OpenFgaClient;
+import dev.openfga.sdk.api.client.model.ClientBatchCheckItem;
+import dev.openfga.sdk.api.client.model.ClientBatchCheckRequest;
+import dev.openfga.sdk.api.client.model.ClientBatchCheckResponse;
+import dev.openfga.sdk.api.client.model.ClientBatchCheckSingleResponse;
 import dev.openfga.sdk.api.client.model.ClientCheckRequest;
 import dev.openfga.sdk.api.client.model.ClientCheckResponse;
+import dev.openfga.sdk.api.client.model.ClientListObjectsRequest;
+import dev.openfga.sdk.api.client.model.ClientListObjectsResponse;
 import dev.openfga.sdk.api.client.model.ClientTupleKey;
+import dev.openfga.sdk.api.configuration.ClientBatchCheckOptions;
+import dev.openfga.sdk.api.model.CheckError;
+import dev.openfga.sdk.api.model.ErrorCode;
+import dev.openfga.sdk.api.model.StreamedListObjectsResponse;
+import dev.openfga.sdk.errors.FgaApiValidationError;
 import dev.openfga.sdk.errors.FgaInvalidParameterException;
+import java.net.ConnectException;
 import java.security.Principal;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -22,6 +40,8 @@ import org.mockito.Mock;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @UnitTest
 class OpenFgaTest {
@@ -30,15 +50,26 @@ class OpenFgaTest {
     @Mock
     private OpenFgaClient mockClient;
 
-    @Mock
-    private CompletableFuture<ClientCheckResponse> mockCheckResponseFuture;
-
     @Mock
     private ClientCheckResponse mockCheckResponse;
 
     @AfterEach
     void clearSecurityContext() {
         SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private static void bindRequest() {
+        var attributes = new HashMap<String, Object>();
+        RequestAttributes requestAttributes = mock(RequestAttributes.class);
+        lenient()
+                .when(requestAttributes.getAttribute(anyString(), anyInt()))
+                .thenAnswer(invocation -> attributes.get(invocation.<String>getArgument(0)));
+        lenient()
+                .doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(requestAttributes)
+                .setAttribute(anyString(), any(), anyInt());
+        RequestContextHolder.setRequestAttributes(requestAttributes);
     }
 
     @Test
@@ -46,8 +77,8 @@ class OpenFgaTest {
 
         // given
         OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
-        when(mockCheckResponseFuture.get()).thenReturn(mockCheckResponse);
-        when(mockClient.check(any(ClientCheckRequest.class))).thenReturn(mockCheckResponseFuture);
+        when(mockClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockCheckResponse));
 
         // when
         openFga.check("document", "docId", "viewer", "user", "userId");
@@ -71,8 +102,8 @@ class OpenFgaTest {
         SecurityContextHolder.getContext().setAuthentication(auth);
 
         OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
-        when(mockCheckResponseFuture.get()).thenReturn(mockCheckResponse);
-        when(mockClient.check(any(ClientCheckRequest.class))).thenReturn(mockCheckResponseFuture);
+        when(mockClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockCheckResponse));
 
         // when
         openFga.check("document", "docId", "viewer", "user");
@@ -106,8 +137,8 @@ class OpenFgaTest {
 
         // given
         OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
-        when(mockCheckResponseFuture.get()).thenReturn(mockCheckResponse);
-        when(mockClient.check(any(ClientCheckRequest.class))).thenReturn(mockCheckResponseFuture);
+        when(mockClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockCheckResponse));
 
         List<ClientTupleKey> contextualTuples = List.of(
                 new ClientTupleKey().user("user:userId").relation("member")._object("group:marketing"));
@@ -137,8 +168,8 @@ class OpenFgaTest {
         SecurityContextHolder.getContext().setAuthentication(auth);
 
         OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
-        when(mockCheckResponseFuture.get()).thenReturn(mockCheckResponse);
-        when(mockClient.check(any(ClientCheckRequest.class))).thenReturn(mockCheckResponseFuture);
+        when(mockClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockCheckResponse));
 
         List<ClientTupleKey> contextualTuples = List.of(
                 new ClientTupleKey().user("user:userId").relation("member")._object("group:marketing"));
@@ -187,4 +218,554 @@ class OpenFgaTest {
         assertThat(exception.getMessage(), is("Error performing FGA check"));
         assertThat(exception.getCause(), is(instanceOf(FgaInvalidParameterException.class)));
     }
+
+    @Test
+    void checkAsyncCompletesWithoutBlocking() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        var response = new CompletableFuture<ClientCheckResponse>();
+        when(mockCheckResponse.getAllowed()).thenReturn(true);
+        when(mockClient.check(any(ClientCheckRequest.class))).thenReturn(response);
+
+        // when
+        CompletableFuture<Boolean> allowed = openFga.checkAsync("document", "docId", "viewer", "user", "userId");
+
+        // then
+        assertThat(allowed.isDone(), is(false));
+        response.complete(mockCheckResponse);
+        assertThat(allowed.get(), is(true));
+    }
+
+    @Test
+    void checkAsyncCapturesPrincipalOnCallingThread() throws Exception {
+        // given
+        Principal principal = () -> "userId";
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(principal, null));
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        when(mockClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockCheckResponse));
+
+        // when
+        CompletableFuture<Boolean> allowed = openFga.checkAsync("document", "docId", "viewer", "user");
+        SecurityContextHolder.clearContext();
+
+        // then
+        assertThat(allowed.get(), is(false));
+        ArgumentCaptor<ClientCheckRequest> argumentCaptor = ArgumentCaptor.forClass(ClientCheckRequest.class);
+        verify(mockClient).check(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().getUser(), is("user:userId"));
+    }
+
+    @Test
+    void checkAsyncFailsWithOpenFgaException() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        when(mockClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("unavailable")));
+
+        // when
+        CompletableFuture<Boolean> allowed = openFga.checkAsync("document", "docId", "viewer", "user", "userId");
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class, allowed::get);
+        assertThat(exception.getCause(), is(instanceOf(OpenFgaException.class)));
+        assertThat(exception.getCause().getMessage(), is("Error performing FGA check"));
+        assertThat(exception.getCause().getCause(), is(instanceOf(IllegalStateException.class)));
+    }
+
+    @Test
+    void answersRepeatedCheckFromCache() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        CheckCache checkCache = new CheckCache(100, Duration.ofMinutes(1));
+        openFga.setCheckCache(checkCache);
+        when(mockCheckResponse.getAllowed()).thenReturn(true);
+        when(mockClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockCheckResponse));
+
+        // when
+        boolean first = openFga.check("document", "docId", "viewer", "user", "userId");
+        boolean second = openFga.check("document", "docId", "viewer", "user", "userId");
+
+        // then
+        assertThat(first, is(true));
+        assertThat(second, is(true));
+        verify(mockClient, times(1)).check(any(ClientCheckRequest.class));
+        assertThat(checkCache.stats(), is(new CheckCache.Stats(1, 1, 0)));
+    }
+
+    @Test
+    void refreshesHotDecisionAheadOfExpiry() throws Exception {
+        // given
+        var clock = new AtomicLong();
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        CheckCache checkCache = new CheckCache(100, Duration.ofSeconds(10), clock::get);
+        checkCache.setRefreshAheadFraction(0.5);
+        openFga.setCheckCache(checkCache);
+        when(mockCheckResponse.getAllowed()).thenReturn(true, false);
+        when(mockClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockCheckResponse));
+        openFga.check("document", "docId", "viewer", "user", "userId");
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        // when
+        boolean refreshing = openFga.check("document", "docId", "viewer", "user", "userId");
+        boolean refreshed = openFga.check("document", "docId", "viewer", "user", "userId");
+
+        // then
+        assertThat(refreshing, is(true));
+        assertThat(refreshed, is(false));
+        verify(mockClient, times(2)).check(any(ClientCheckRequest.class));
+    }
+
+    @Test
+    void retriesRefreshAfterItFailed() throws Exception {
+        // given
+        var clock = new AtomicLong();
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        CheckCache checkCache = new CheckCache(100, Duration.ofSeconds(10), clock::get);
+        checkCache.setRefreshAheadFraction(0.5);
+        openFga.setCheckCache(checkCache);
+        when(mockCheckResponse.getAllowed()).thenReturn(true, false);
+        when(mockClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockCheckResponse))
+                .thenReturn(CompletableFuture.failedFuture(new ConnectException("unavailable")))
+                .thenReturn(CompletableFuture.completedFuture(mockCheckResponse));
+        openFga.check("document", "docId", "viewer", "user", "userId");
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        // when
+        boolean failedRefresh = openFga.check("document", "docId", "viewer", "user", "userId");
+        boolean retriedRefresh = openFga.check("document", "docId", "viewer", "user", "userId");
+        boolean refreshed = openFga.check("document", "docId", "viewer", "user", "userId");
+
+        // then
+        assertThat(failedRefresh, is(true));
+        assertThat(retriedRefresh, is(true));
+        assertThat(refreshed, is(false));
+        verify(mockClient, times(3)).check(any(ClientCheckRequest.class));
+    }
+
+    @Test
+    void servesStaleDecisionWhenCheckIsSlow() throws Exception {
+        // given
+        var clock = new AtomicLong();
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        CheckCache checkCache = new CheckCache(100, Duration.ofSeconds(10), clock::get);
+        checkCache.setStaleWindows(Map.of("document#viewer", Duration.ofMinutes(1)));
+        checkCache.setStaleTimeout(Duration.ofMillis(10));
+        openFga.setCheckCache(checkCache);
+        var slowResponse = new CompletableFuture<ClientCheckResponse>();
+        when(mockCheckResponse.getAllowed()).thenReturn(true, false);
+        when(mockClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockCheckResponse))
+                .thenReturn(slowResponse);
+        openFga.check("document", "docId", "viewer", "user", "userId");
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // when
+        boolean stale = openFga.check("document", "docId", "viewer", "user", "userId");
+        slowResponse.complete(mockCheckResponse);
+
+        // then
+        assertThat(stale, is(true));
+        assertThat(openFga.check("document", "docId", "viewer", "user", "userId"), is(false));
+        verify(mockClient, times(2)).check(any(ClientCheckRequest.class));
+    }
+
+    @Test
+    void servesStaleDecisionWhenCheckFails() throws Exception {
+        // given
+        var clock = new AtomicLong();
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        CheckCache checkCache = new CheckCache(100, Duration.ofSeconds(10), clock::get);
+        checkCache.setStaleWindows(Map.of("document#viewer", Duration.ofMinutes(1)));
+        openFga.setCheckCache(checkCache);
+        when(mockCheckResponse.getAllowed()).thenReturn(true);
+        when(mockClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockCheckResponse))
+                .thenReturn(CompletableFuture.failedFuture(new ConnectException("unavailable")));
+        openFga.check("document", "docId", "viewer", "user", "userId");
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // when
+        boolean stale = openFga.check("document", "docId", "viewer", "user", "userId");
+
+        // then
+        assertThat(stale, is(true));
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertThrows(OpenFgaException.class, () -> openFga.check("document", "docId", "viewer", "user", "userId"));
+    }
+
+    @Test
+    void doesNotServeStaleDecisionWhenCheckIsRejected() throws Exception {
+        // given
+        var clock = new AtomicLong();
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        CheckCache checkCache = new CheckCache(100, Duration.ofSeconds(10), clock::get);
+        checkCache.setStaleWindows(Map.of("document#viewer", Duration.ofMinutes(1)));
+        openFga.setCheckCache(checkCache);
+        when(mockCheckResponse.getAllowed()).thenReturn(true);
+        when(mockClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockCheckResponse))
+                .thenReturn(CompletableFuture.failedFuture(new FgaApiValidationError("invalid", 400, null, null)));
+        openFga.check("document", "docId", "viewer", "user", "userId");
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // when
+        var exception = assertThrows(
+                OpenFgaException.class, () -> openFga.check("document", "docId", "viewer", "user", "userId"));
+
+        // then
+        assertThat(exception.getFgaError(), instanceOf(FgaApiValidationError.class));
+    }
+
+    @Test
+    void answersWithOpenDecisionWhileCircuitBreakerIsOpen() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        var circuitBreaker = new CheckCircuitBreaker(10, 2, 0.5, Duration.ofSeconds(1), 1, Duration.ofSeconds(30));
+        openFga.setCircuitBreaker(circuitBreaker);
+        when(mockClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new ConnectException("unavailable")));
+        assertThrows(OpenFgaException.class, () -> openFga.check("document", "1", "viewer", "user", "userId"));
+        assertThrows(OpenFgaException.class, () -> openFga.check("document", "2", "viewer", "user", "userId"));
+
+        // when
+        boolean denied = openFga.check("document", "3", "viewer", "user", "userId");
+        circuitBreaker.setOpenDecision(CheckCircuitBreaker.OpenDecision.ALLOW);
+        boolean allowed = openFga.check("document", "3", "viewer", "user", "userId");
+
+        // then
+        assertThat(denied, is(false));
+        assertThat(allowed, is(true));
+        verify(mockClient, times(2)).check(any(ClientCheckRequest.class));
+        circuitBreaker.setOpenDecision(CheckCircuitBreaker.OpenDecision.ERROR);
+        var exception = assertThrows(
+                OpenFgaException.class, () -> openFga.check("document", "3", "viewer", "user", "userId"));
+        assertThat(exception.getCause(), instanceOf(CircuitOpenException.class));
+    }
+
+    @Test
+    void prefersStaleDecisionWhileCircuitBreakerIsOpen() throws Exception {
+        // given
+        var clock = new AtomicLong();
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        CheckCache checkCache = new CheckCache(100, Duration.ofSeconds(10), clock::get);
+        checkCache.setStaleWindows(Map.of("document", Duration.ofMinutes(1)));
+        openFga.setCheckCache(checkCache);
+        openFga.setCircuitBreaker(
+                new CheckCircuitBreaker(10, 1, 0.5, Duration.ofSeconds(1), 1, Duration.ofSeconds(30), clock::get));
+        when(mockCheckResponse.getAllowed()).thenReturn(true);
+        when(mockClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockCheckResponse))
+                .thenReturn(CompletableFuture.failedFuture(new ConnectException("unavailable")));
+        openFga.check("document", "1", "viewer", "user", "userId");
+        assertThrows(OpenFgaException.class, () -> openFga.check("document", "2", "viewer", "user", "userId"));
+        clock.addAndGet(Duration.ofSeconds(20).toNanos());
+
+        // when
+        boolean stale = openFga.check("document", "1", "viewer", "user", "userId");
+
+        // then
+        assertThat(stale, is(true));
+        verify(mockClient, times(2)).check(any(ClientCheckRequest.class));
+    }
+
+    @Test
+    void answersSlowCheckWithHedge() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        try (var checkHedger = new CheckHedger(Duration.ofMillis(10), 0, 1)) {
+            openFga.setCheckHedger(checkHedger);
+            when(mockCheckResponse.getAllowed()).thenReturn(true);
+            when(mockClient.check(any(ClientCheckRequest.class)))
+                    .thenReturn(new CompletableFuture<>(), CompletableFuture.completedFuture(mockCheckResponse));
+
+            // when
+            boolean allowed = openFga.check("document", "docId", "viewer", "user", "userId");
+
+            // then
+            assertThat(allowed, is(true));
+            verify(mockClient, times(2)).check(any(ClientCheckRequest.class));
+        }
+    }
+
+    private static ClientBatchCheckSingleResponse batchCheckResult(String correlationId, boolean allowed) {
+        var result = mock(ClientBatchCheckSingleResponse.class);
+        when(result.getCorrelationId()).thenReturn(correlationId);
+        when(result.isAllowed()).thenReturn(allowed);
+        return result;
+    }
+
+    private void stubBatchCheck(List<ClientBatchCheckSingleResponse> results) throws Exception {
+        var response = mock(ClientBatchCheckResponse.class);
+        when(response.getResult()).thenReturn(results);
+        when(mockClient.batchCheck(any(ClientBatchCheckRequest.class), any(ClientBatchCheckOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+    }
+
+    @Test
+    void checkAllReturnsDecisionsAlignedToInput() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        stubBatchCheck(List.of(batchCheckResult("2", true), batchCheckResult("0", true), batchCheckResult("1", false)));
+
+        // when
+        BitSet allowed = openFga.checkAll(List.of(
+                CheckItem.of("document", "1", "viewer", "user", "userId"),
+                CheckItem.of("document", "2", "viewer", "user", "userId"),
+                CheckItem.of("document", "3", "viewer", "user", "userId")));
+
+        // then
+        assertThat(allowed.get(0), is(true));
+        assertThat(allowed.get(1), is(false));
+        assertThat(allowed.get(2), is(true));
+
+        ArgumentCaptor<ClientBatchCheckRequest> argumentCaptor = ArgumentCaptor.forClass(ClientBatchCheckRequest.class);
+        verify(mockClient).batchCheck(argumentCaptor.capture(), any(ClientBatchCheckOptions.class));
+        List<ClientBatchCheckItem> checks = argumentCaptor.getValue().getChecks();
+        assertThat(checks.size(), is(3));
+        assertThat(checks.get(1).getObject(), is("document:2"));
+        assertThat(checks.get(1).getUser(), is("user:userId"));
+        assertThat(checks.get(1).getCorrelationId(), is("1"));
+    }
+
+    @Test
+    void checkAllFailsWithErrorOfCheckInBatch() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        var failed = mock(ClientBatchCheckSingleResponse.class);
+        when(failed.getError())
+                .thenReturn(new CheckError().inputError(ErrorCode.VALIDATION_ERROR).message("invalid relation"));
+        stubBatchCheck(List.of(failed));
+
+        // when
+        var exception = assertThrows(
+                OpenFgaException.class,
+                () -> openFga.checkAll(List.of(CheckItem.of("document", "1", "viewer", "user", "userId"))));
+
+        // then
+        assertThat(exception.getFgaError(), instanceOf(FgaApiValidationError.class));
+        assertThat(exception.getFgaError().getStatusCode(), is(400));
+    }
+
+    @Test
+    void checkAllUsesPrincipalNameAsUserId() throws Exception {
+        // given
+        Principal principal = () -> "userId";
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(principal, null));
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        stubBatchCheck(List.of(batchCheckResult("0", true), batchCheckResult("1", false)));
+
+        // when
+        BitSet allowed = openFga.checkAll("document", List.of("1", "2"), "viewer", "user");
+
+        // then
+        assertThat(allowed.get(0), is(true));
+        assertThat(allowed.get(1), is(false));
+        ArgumentCaptor<ClientBatchCheckRequest> argumentCaptor = ArgumentCaptor.forClass(ClientBatchCheckRequest.class);
+        verify(mockClient).batchCheck(argumentCaptor.capture(), any(ClientBatchCheckOptions.class));
+        assertThat(argumentCaptor.getValue().getChecks().get(0).getUser(), is("user:userId"));
+    }
+
+    @Test
+    void batchCheckSkipsCachedDecisions() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        openFga.setCheckCache(new CheckCache(100, Duration.ofMinutes(1)));
+        stubBatchCheck(List.of(batchCheckResult("0", true)));
+        var item = CheckItem.of("document", "1", "viewer", "user", "userId");
+
+        // when
+        Map<CheckItem, Boolean> first = openFga.batchCheck(List.of(item));
+        Map<CheckItem, Boolean> second = openFga.batchCheck(List.of(item));
+
+        // then
+        assertThat(first, is(Map.of(item, true)));
+        assertThat(second, is(Map.of(item, true)));
+        verify(mockClient, times(1)).batchCheck(any(ClientBatchCheckRequest.class), any(ClientBatchCheckOptions.class));
+    }
+
+    @Test
+    void failsWhenBatchCheckHasException() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        when(mockClient.batchCheck(any(ClientBatchCheckRequest.class), any(ClientBatchCheckOptions.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("unavailable")));
+
+        // when/then
+        OpenFgaException exception = assertThrows(
+                OpenFgaException.class,
+                () -> openFga.checkAll(List.of(CheckItem.of("document", "1", "viewer", "user", "userId"))));
+        assertThat(exception.getMessage(), is("Error performing FGA batch check"));
+    }
+
+    @Test
+    void batchCheckAsyncReturnsDecisions() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        stubBatchCheck(List.of(batchCheckResult("0", false), batchCheckResult("1", true)));
+        var first = CheckItem.of("document", "1", "viewer", "user", "userId");
+        var second = CheckItem.of("document", "2", "viewer", "user", "userId");
+
+        // when
+        Map<CheckItem, Boolean> decisions = openFga.batchCheckAsync(List.of(first, second)).get();
+
+        // then
+        assertThat(decisions, is(Map.of(first, false, second, true)));
+    }
+
+    @Test
+    void filterUsesBatchCheckForSmallCollections() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        stubBatchCheck(List.of(batchCheckResult("0", true), batchCheckResult("1", false), batchCheckResult("2", true)));
+
+        // when
+        List<String> permitted =
+                openFga.filter(List.of("a", "b", "c"), id -> id, "document", "viewer", "user", "userId");
+
+        // then
+        assertThat(permitted, is(List.of("a", "c")));
+        verify(mockClient, never()).listObjects(any(ClientListObjectsRequest.class));
+    }
+
+    @Test
+    void filterUsesListObjectsForLargeCollections() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        openFga.setListObjectsThreshold(3);
+        var response = mock(ClientListObjectsResponse.class);
+        when(response.getObjects()).thenReturn(List.of("document:c", "document:a", "document:z"));
+        when(mockClient.listObjects(any(ClientListObjectsRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // when
+        List<String> permitted =
+                openFga.filter(List.of("a", "b", "c"), id -> id, "document", "viewer", "user", "userId");
+
+        // then
+        assertThat(permitted, is(List.of("a", "c")));
+        ArgumentCaptor<ClientListObjectsRequest> argumentCaptor =
+                ArgumentCaptor.forClass(ClientListObjectsRequest.class);
+        verify(mockClient).listObjects(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().getUser(), is("user:userId"));
+        assertThat(argumentCaptor.getValue().getType(), is("document"));
+        verify(mockClient, never()).batchCheck(any(ClientBatchCheckRequest.class), any(ClientBatchCheckOptions.class));
+    }
+
+    @Test
+    void filterChecksElementsMissingFromTruncatedList() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        openFga.setListObjectsThreshold(3);
+        openFga.setListObjectsMaxResults(2);
+        var response = mock(ClientListObjectsResponse.class);
+        when(response.getObjects()).thenReturn(List.of("document:c", "document:z"));
+        when(mockClient.listObjects(any(ClientListObjectsRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+        stubBatchCheck(List.of(batchCheckResult("0", true), batchCheckResult("1", false)));
+
+        // when
+        List<String> permitted =
+                openFga.filter(List.of("a", "b", "c"), id -> id, "document", "viewer", "user", "userId");
+
+        // then
+        assertThat(permitted, is(List.of("a", "c")));
+        ArgumentCaptor<ClientBatchCheckRequest> argumentCaptor = ArgumentCaptor.forClass(ClientBatchCheckRequest.class);
+        verify(mockClient).batchCheck(argumentCaptor.capture(), any(ClientBatchCheckOptions.class));
+        var checks = argumentCaptor.getValue().getChecks();
+        assertThat(checks.size(), is(2));
+        assertThat(checks.get(0).getObject(), is("document:a"));
+        assertThat(checks.get(1).getObject(), is("document:b"));
+    }
+
+    private void stubStreamedListObjects(CompletableFuture<Void> result, String... objects) throws Exception {
+        when(mockClient.streamedListObjects(any(ClientListObjectsRequest.class), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<StreamedListObjectsResponse> consumer = invocation.getArgument(1);
+                    for (var object : objects) {
+                        var response = mock(StreamedListObjectsResponse.class);
+                        when(response.getObject()).thenReturn(object);
+                        consumer.accept(response);
+                    }
+                    return result;
+                });
+    }
+
+    @Test
+    void streamObjectsReturnsObjectsInOrder() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        stubStreamedListObjects(CompletableFuture.completedFuture(null), "document:1", "document:2");
+
+        // when
+        List<String> objects;
+        try (var stream = openFga.streamObjects("document", "viewer", "user", "userId")) {
+            objects = stream.toList();
+        }
+
+        // then
+        assertThat(objects, is(List.of("document:1", "document:2")));
+        ArgumentCaptor<ClientListObjectsRequest> argumentCaptor =
+                ArgumentCaptor.forClass(ClientListObjectsRequest.class);
+        verify(mockClient).streamedListObjects(argumentCaptor.capture(), any());
+        assertThat(argumentCaptor.getValue().getUser(), is("user:userId"));
+        assertThat(argumentCaptor.getValue().getRelation(), is("viewer"));
+    }
+
+    @Test
+    void streamObjectsFailsWhenStreamHasException() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        stubStreamedListObjects(CompletableFuture.failedFuture(new IllegalStateException("unavailable")), "document:1");
+
+        // when/then
+        try (var stream = openFga.streamObjects("document", "viewer", "user", "userId")) {
+            var iterator = stream.iterator();
+            assertThat(iterator.next(), is("document:1"));
+            OpenFgaException exception = assertThrows(OpenFgaException.class, iterator::hasNext);
+            assertThat(exception.getMessage(), is("Error performing FGA streamed list objects"));
+        }
+    }
+
+    @Test
+    void remembersDecisionForRestOfRequest() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        when(mockCheckResponse.getAllowed()).thenReturn(true);
+        when(mockClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockCheckResponse));
+
+        // when
+        bindRequest();
+        boolean first = openFga.check("document", "docId", "viewer", "user", "userId");
+        boolean second = openFga.check("document", "docId", "viewer", "user", "userId");
+        bindRequest();
+        boolean nextRequest = openFga.check("document", "docId", "viewer", "user", "userId");
+
+        // then
+        assertThat(first, is(true));
+        assertThat(second, is(true));
+        assertThat(nextRequest, is(true));
+        verify(mockClient, times(2)).check(any(ClientCheckRequest.class));
+    }
+
+    @Test
+    void doesNotRememberDecisionWhenRequestMemoizationDisabled() throws Exception {
+        // given
+        OpenFga openFga = new OpenFga(mockClient, exceptionHandler);
+        openFga.setRequestMemoization(false);
+        when(mockClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(mockCheckResponse));
+
+        // when
+        bindRequest();
+        openFga.check("document", "docId", "viewer", "user", "userId");
+        openFga.check("document", "docId", "viewer", "user", "userId");
+
+        // then
+        verify(mockClient, times(2)).check(any(ClientCheckRequest.class));
+    }
 }
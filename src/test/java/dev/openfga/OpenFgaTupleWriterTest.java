@@ -0,0 +1,159 @@
+package dev.openfga;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import dev.openfga.sdk.api.client.OpenFgaClient;
+import dev.openfga.sdk.api.client.model.ClientCheckRequest;
+import dev.openfga.sdk.api.client.model.ClientCheckResponse;
+import dev.openfga.sdk.api.client.model.ClientTupleKey;
+import dev.openfga.sdk.api.client.model.ClientTupleKeyWithoutCondition;
+import dev.openfga.sdk.api.client.model.ClientWriteRequest;
+import dev.openfga.sdk.api.client.model.ClientWriteResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+@UnitTest
+class OpenFgaTupleWriterTest {
+
+    @Mock
+    private OpenFgaClient fgaClient;
+
+    @Mock
+    private ClientWriteResponse writeResponse;
+
+    private final CheckCache checkCache = new CheckCache(100, Duration.ofHours(1));
+
+    private OpenFgaTupleWriter tupleWriter;
+
+    @BeforeEach
+    void setUp() {
+        tupleWriter = new OpenFgaTupleWriter(fgaClient, new OpenFgaExceptionHandler());
+        tupleWriter.setCheckCache(checkCache);
+    }
+
+    private static CheckKey key(String user, String relation, String object) {
+        return CheckKey.of(null, null, user, relation, object, null, null);
+    }
+
+    @Test
+    void writeRemovesStaleDecisionsAndSeedsGrantedCheck() throws Exception {
+        // given
+        tupleWriter.setSeedCache(true);
+        when(fgaClient.write(any(ClientWriteRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(writeResponse));
+        checkCache.put(key("user:anne", "viewer", "document:1"), false);
+        checkCache.put(key("user:bob", "viewer", "document:1"), false);
+        checkCache.put(key("user:dave", "viewer", "document:1"), true);
+        checkCache.put(key("user:anne", "editor", "document:5"), true);
+        checkCache.put(key("user:anne", "viewer", "document:2"), false);
+        checkCache.put(key("user:carl", "viewer", "document:2"), false);
+        checkCache.put(key("user:carl", "viewer", "document:3"), true);
+
+        // when
+        tupleWriter.write(List.of(new ClientTupleKey().user("user:anne").relation("owner")._object("document:1")));
+
+        // then
+        assertThat(checkCache.get(key("user:anne", "owner", "document:1")), is(true));
+        assertThat(checkCache.get(key("user:anne", "viewer", "document:1")), is(nullValue()));
+        assertThat(checkCache.get(key("user:bob", "viewer", "document:1")), is(nullValue()));
+        assertThat(checkCache.get(key("user:dave", "viewer", "document:1")), is(nullValue()));
+        assertThat(checkCache.get(key("user:anne", "editor", "document:5")), is(nullValue()));
+        assertThat(checkCache.get(key("user:anne", "viewer", "document:2")), is(nullValue()));
+        assertThat(checkCache.get(key("user:carl", "viewer", "document:2")), is(false));
+        assertThat(checkCache.get(key("user:carl", "viewer", "document:3")), is(true));
+    }
+
+    @Test
+    void deleteRemovesStaleDecisions() throws Exception {
+        // given
+        when(fgaClient.write(any(ClientWriteRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(writeResponse));
+        checkCache.put(key("user:anne", "viewer", "document:1"), true);
+        checkCache.put(key("user:bob", "viewer", "document:1"), false);
+        checkCache.put(key("user:bob", "viewer", "document:2"), true);
+
+        // when
+        tupleWriter.delete(List.of(new ClientTupleKeyWithoutCondition()
+                .user("user:anne")
+                .relation("viewer")
+                ._object("document:1")));
+
+        // then
+        assertThat(checkCache.get(key("user:anne", "viewer", "document:1")), is(nullValue()));
+        assertThat(checkCache.get(key("user:bob", "viewer", "document:1")), is(nullValue()));
+        assertThat(checkCache.get(key("user:bob", "viewer", "document:2")), is(true));
+    }
+
+    @Test
+    void usersetWriteRemovesAllDecisions() throws Exception {
+        // given
+        when(fgaClient.write(any(ClientWriteRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(writeResponse));
+        checkCache.put(key("user:anne", "viewer", "document:2"), false);
+        checkCache.put(key("user:bob", "viewer", "document:3"), true);
+
+        // when
+        tupleWriter.write(List.of(
+                new ClientTupleKey().user("group:eng#member").relation("viewer")._object("folder:1")));
+
+        // then
+        assertThat(checkCache.get(key("user:anne", "viewer", "document:2")), is(nullValue()));
+        assertThat(checkCache.get(key("user:bob", "viewer", "document:3")), is(nullValue()));
+        assertThat(checkCache.get(key("group:eng#member", "viewer", "folder:1")), is(nullValue()));
+    }
+
+    @Test
+    void doesNotCacheDecisionOfCheckSentBeforeWrite() throws Exception {
+        // given
+        var openFga = new OpenFga(fgaClient, new OpenFgaExceptionHandler());
+        openFga.setCheckCache(checkCache);
+        openFga.setCheckCoalescer(new CheckCoalescer());
+        var denied = mock(ClientCheckResponse.class);
+        when(denied.getAllowed()).thenReturn(false);
+        var granted = mock(ClientCheckResponse.class);
+        when(granted.getAllowed()).thenReturn(true);
+        var beforeWrite = new CompletableFuture<ClientCheckResponse>();
+        when(fgaClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(beforeWrite)
+                .thenReturn(CompletableFuture.completedFuture(granted));
+        when(fgaClient.write(any(ClientWriteRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(writeResponse));
+        var sentBeforeWrite = openFga.checkAsync("document", "1", "viewer", "user", "anne");
+
+        // when
+        tupleWriter.write(List.of(new ClientTupleKey().user("user:anne").relation("viewer")._object("document:1")));
+        var sentAfterWrite = openFga.checkAsync("document", "1", "viewer", "user", "anne");
+        beforeWrite.complete(denied);
+
+        // then
+        assertThat(sentBeforeWrite.get(), is(false));
+        assertThat(sentAfterWrite.get(), is(true));
+        assertThat(checkCache.get(key("user:anne", "viewer", "document:1")), is(true));
+    }
+
+    @Test
+    void keepsCacheWhenWriteFails() throws Exception {
+        // given
+        when(fgaClient.write(any(ClientWriteRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("unavailable")));
+        checkCache.put(key("user:anne", "viewer", "document:1"), false);
+
+        // when/then
+        OpenFgaException exception = assertThrows(
+                OpenFgaException.class,
+                () -> tupleWriter.write(List.of(
+                        new ClientTupleKey().user("user:anne").relation("viewer")._object("document:1"))));
+        assertThat(exception.getMessage(), is("Error writing FGA tuples"));
+        assertThat(checkCache.get(key("user:anne", "viewer", "document:1")), is(false));
+    }
+}
@@ -0,0 +1,162 @@
+package dev.openfga;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.openfga.sdk.api.client.OpenFgaClient;
+import dev.openfga.sdk.api.client.model.ClientCheckRequest;
+import dev.openfga.sdk.api.client.model.ClientCheckResponse;
+import dev.openfga.sdk.api.client.model.ClientListObjectsRequest;
+import dev.openfga.sdk.api.model.StreamedListObjectsResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@UnitTest
+class ReactiveOpenFgaTest {
+
+    @Mock
+    private OpenFgaClient fgaClient;
+
+    @Mock
+    private ClientCheckResponse checkResponse;
+
+    private ReactiveOpenFga reactiveFga;
+
+    @BeforeEach
+    void setUp() {
+        reactiveFga = new ReactiveOpenFga(new OpenFga(fgaClient, new OpenFgaExceptionHandler()));
+    }
+
+    @Test
+    void usesPrincipalFromReactiveSecurityContext() throws Exception {
+        // given
+        when(checkResponse.getAllowed()).thenReturn(true);
+        when(fgaClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(checkResponse));
+
+        // when
+        var allowed = reactiveFga
+                .check("document", "docId", "viewer", "user")
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(
+                        new TestingAuthenticationToken("userId", null)));
+
+        // then
+        StepVerifier.create(allowed).expectNext(true).verifyComplete();
+        var argumentCaptor = ArgumentCaptor.forClass(ClientCheckRequest.class);
+        verify(fgaClient).check(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().getUser(), is("user:userId"));
+    }
+
+    @Test
+    void failsWhenNoAuthenticationInReactiveSecurityContext() {
+        StepVerifier.create(reactiveFga.check("document", "docId", "viewer", "user"))
+                .expectErrorMessage("No user provided, and no authentication could be found in the security context")
+                .verify();
+    }
+
+    @Test
+    void sharesDecisionsThroughMemoInReactorContext() throws Exception {
+        // given
+        when(checkResponse.getAllowed()).thenReturn(true);
+        when(fgaClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(checkResponse));
+        var check = reactiveFga.check("document", "docId", "viewer", "user", "userId");
+
+        // when
+        var allowed = check.then(check).contextWrite(context -> context.put(CheckMemo.CONTEXT_KEY, new CheckMemo()));
+
+        // then
+        StepVerifier.create(allowed).expectNext(true).verifyComplete();
+        verify(fgaClient, times(1)).check(any(ClientCheckRequest.class));
+    }
+
+    @Test
+    void streamObjectsEmitsObjectsAsTheyArrive() throws Exception {
+        // given
+        when(fgaClient.streamedListObjects(any(ClientListObjectsRequest.class), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<StreamedListObjectsResponse> consumer = invocation.getArgument(1);
+                    for (var object : List.of("document:1", "document:2")) {
+                        var response = mock(StreamedListObjectsResponse.class);
+                        when(response.getObject()).thenReturn(object);
+                        consumer.accept(response);
+                    }
+                    return CompletableFuture.completedFuture(null);
+                });
+
+        // when/then
+        StepVerifier.create(reactiveFga.streamObjects("document", "viewer", "user", "userId"))
+                .expectNext("document:1", "document:2")
+                .verifyComplete();
+    }
+
+    @Test
+    void streamObjectsEmitsOnlyRequestedObjects() throws Exception {
+        // given
+        var request = new CompletableFuture<Void>();
+        when(fgaClient.streamedListObjects(any(ClientListObjectsRequest.class), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<StreamedListObjectsResponse> consumer = invocation.getArgument(1);
+                    for (var object : List.of("document:1", "document:2", "document:3")) {
+                        var response = mock(StreamedListObjectsResponse.class);
+                        when(response.getObject()).thenReturn(object);
+                        consumer.accept(response);
+                    }
+                    return request;
+                });
+
+        // when/then
+        StepVerifier.create(reactiveFga.streamObjects("document", "viewer", "user", "userId"), 1)
+                .expectNext("document:1")
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenCancel()
+                .verify();
+        assertThat(request.isCancelled(), is(true));
+    }
+
+    @Test
+    void authorizationManagerGrantsAccessWhenRelationExists() throws Exception {
+        // given
+        when(checkResponse.getAllowed()).thenReturn(true);
+        when(fgaClient.check(any(ClientCheckRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(checkResponse));
+        var manager = new OpenFgaReactiveAuthorizationManager<String>(
+                reactiveFga, "document", documentId -> documentId, "viewer", "user");
+        var authentication = new TestingAuthenticationToken("userId", null);
+        authentication.setAuthenticated(true);
+
+        // when
+        Mono<AuthorizationDecision> decision = manager.check(Mono.just(authentication), "docId");
+
+        // then
+        StepVerifier.create(decision.map(AuthorizationDecision::isGranted))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    void authorizationManagerDeniesAccessWithoutAuthentication() {
+        var manager = new OpenFgaReactiveAuthorizationManager<String>(
+                reactiveFga, "document", documentId -> documentId, "viewer", "user");
+
+        StepVerifier.create(manager.check(Mono.empty(), "docId").map(AuthorizationDecision::isGranted))
+                .expectNext(false)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,166 @@
+package dev.openfga;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.openfga.sdk.api.client.OpenFgaClient;
+import dev.openfga.sdk.api.client.model.ClientReadChangesRequest;
+import dev.openfga.sdk.api.client.model.ClientReadChangesResponse;
+import dev.openfga.sdk.api.configuration.ClientReadChangesOptions;
+import dev.openfga.sdk.api.model.TupleChange;
+import dev.openfga.sdk.api.model.TupleKey;
+import dev.openfga.sdk.api.model.TupleOperation;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+@UnitTest
+class ReadChangesWatcherTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:10Z");
+
+    @Mock
+    private OpenFgaClient fgaClient;
+
+    private final CheckCache checkCache = new CheckCache(100, Duration.ofHours(1));
+    private final InMemoryContinuationTokenStore tokenStore = new InMemoryContinuationTokenStore();
+
+    private ReadChangesWatcher watcher(int pageSize) {
+        return new ReadChangesWatcher(
+                fgaClient,
+                checkCache,
+                tokenStore,
+                Duration.ofSeconds(5),
+                pageSize,
+                Thread::new,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static CheckKey key(String user, String relation, String object) {
+        return CheckKey.of(null, null, user, relation, object, null, null);
+    }
+
+    private static TupleChange change(TupleOperation operation, String user, String relation, String object) {
+        var change = mock(TupleChange.class);
+        when(change.getOperation()).thenReturn(operation);
+        when(change.getTupleKey()).thenReturn(new TupleKey().user(user).relation(relation)._object(object));
+        when(change.getTimestamp()).thenReturn(OffsetDateTime.ofInstant(NOW.minusSeconds(3), ZoneOffset.UTC));
+        return change;
+    }
+
+    private static ClientReadChangesResponse page(String continuationToken, TupleChange... changes) {
+        var response = mock(ClientReadChangesResponse.class);
+        when(response.getChanges()).thenReturn(List.of(changes));
+        when(response.getContinuationToken()).thenReturn(continuationToken);
+        return response;
+    }
+
+    @Test
+    void removesDecisionsMadeStaleByChanges() throws Exception {
+        // given
+        var write = change(TupleOperation.WRITE, "user:anne", "viewer", "document:1");
+        var delete = change(TupleOperation.DELETE, "user:bob", "editor", "document:2");
+        when(fgaClient.readChanges(any(ClientReadChangesRequest.class), any(ClientReadChangesOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(page("token-1", write, delete)));
+        checkCache.put(key("user:anne", "viewer", "document:1"), false);
+        checkCache.put(key("user:dave", "viewer", "document:1"), true);
+        checkCache.put(key("user:carl", "viewer", "document:9"), false);
+        checkCache.put(key("user:carl", "viewer", "folder:1"), false);
+        checkCache.put(key("user:bob", "viewer", "document:3"), true);
+        checkCache.put(key("user:carl", "editor", "document:4"), true);
+        checkCache.put(key("user:carl", "owner", "document:4"), true);
+
+        // when
+        var watcher = watcher(100);
+        watcher.poll();
+
+        // then
+        assertThat(checkCache.get(key("user:anne", "viewer", "document:1")), is(nullValue()));
+        assertThat(checkCache.get(key("user:dave", "viewer", "document:1")), is(nullValue()));
+        assertThat(checkCache.get(key("user:carl", "viewer", "document:9")), is(nullValue()));
+        assertThat(checkCache.get(key("user:carl", "viewer", "folder:1")), is(false));
+        assertThat(checkCache.get(key("user:bob", "viewer", "document:3")), is(nullValue()));
+        assertThat(checkCache.get(key("user:carl", "editor", "document:4")), is(nullValue()));
+        assertThat(checkCache.get(key("user:carl", "owner", "document:4")), is(true));
+        assertThat(watcher.getChangeCount(), is(2L));
+        assertThat(watcher.getEvictionCount(), is(5L));
+        assertThat(watcher.getLag(), is(Duration.ofSeconds(3)));
+        assertThat(tokenStore.load(), is("token-1"));
+    }
+
+    @Test
+    void dropsDecisionsOfChecksInFlightDuringChanges() throws Exception {
+        // given
+        when(fgaClient.readChanges(any(ClientReadChangesRequest.class), any(ClientReadChangesOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        page("token-1", change(TupleOperation.DELETE, "user:anne", "viewer", "document:1"))));
+        long generation = checkCache.generation();
+
+        // when
+        watcher(100).poll();
+
+        // then
+        assertThat(checkCache.put(key("user:anne", "viewer", "document:1"), true, generation), is(false));
+        assertThat(checkCache.get(key("user:anne", "viewer", "document:1")), is(nullValue()));
+    }
+
+    @Test
+    void readsFullPagesUntilFeedEndsAndResumesFromSavedToken() throws Exception {
+        // given
+        tokenStore.save("token-0");
+        var first = page("token-1", change(TupleOperation.WRITE, "user:anne", "viewer", "document:1"));
+        var last = page("token-1");
+        when(fgaClient.readChanges(any(ClientReadChangesRequest.class), any(ClientReadChangesOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(first), CompletableFuture.completedFuture(last));
+
+        // when
+        watcher(1).poll();
+
+        // then
+        var requestCaptor = ArgumentCaptor.forClass(ClientReadChangesRequest.class);
+        var optionsCaptor = ArgumentCaptor.forClass(ClientReadChangesOptions.class);
+        verify(fgaClient, times(2)).readChanges(requestCaptor.capture(), optionsCaptor.capture());
+        assertThat(requestCaptor.getAllValues().get(0).getStartTime(), is(nullValue()));
+        assertThat(optionsCaptor.getAllValues().get(0).getContinuationToken(), is("token-0"));
+        assertThat(optionsCaptor.getAllValues().get(1).getContinuationToken(), is("token-1"));
+        assertThat(tokenStore.load(), is("token-1"));
+    }
+
+    @Test
+    void startsAtHeadOfFeedWithoutSavedToken() throws Exception {
+        // given
+        when(fgaClient.readChanges(any(ClientReadChangesRequest.class), any(ClientReadChangesOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(page("token-1")));
+
+        // when
+        watcher(100).poll();
+
+        // then
+        var requestCaptor = ArgumentCaptor.forClass(ClientReadChangesRequest.class);
+        var optionsCaptor = ArgumentCaptor.forClass(ClientReadChangesOptions.class);
+        verify(fgaClient).readChanges(requestCaptor.capture(), optionsCaptor.capture());
+        assertThat(requestCaptor.getValue().getStartTime(), is(NOW.toString()));
+        assertThat(optionsCaptor.getValue().getContinuationToken(), is(nullValue()));
+        assertThat(tokenStore.load(), is("token-1"));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> watcher(0));
+        assertThrows(IllegalArgumentException.class, () -> watcher(101));
+    }
+}
@@ -0,0 +1,111 @@
+package dev.openfga;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import dev.openfga.sdk.api.model.StreamedListObjectsResponse;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+@UnitTest
+class StreamedObjectsSinkTest {
+
+    private final CompletableFuture<Void> request = new CompletableFuture<>();
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private final BaseSubscriber<String> subscriber = new BaseSubscriber<>() {
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {}
+
+        @Override
+        protected void hookOnNext(String object) {
+            received.add(object);
+        }
+
+        @Override
+        protected void hookOnError(Throwable error) {
+            failure.set(error);
+        }
+    };
+
+    private static StreamedListObjectsResponse response(String object) {
+        var response = mock(StreamedListObjectsResponse.class);
+        when(response.getObject()).thenReturn(object);
+        return response;
+    }
+
+    private StreamedObjectsSink subscribe(int capacity) {
+        var objects = new AtomicReference<StreamedObjectsSink>();
+        Flux.<String>create(sink -> {
+                    objects.set(new StreamedObjectsSink(sink, capacity));
+                    objects.get().start(request, error -> new IllegalStateException("stream failed", error));
+                })
+                .subscribe(subscriber);
+        return objects.get();
+    }
+
+    @Test
+    void waitsForDemandOnceCapacityIsEmitted() throws Exception {
+        // given
+        var objects = subscribe(1);
+        objects.accept(response("document:1"));
+
+        // when
+        var second = CompletableFuture.runAsync(() -> objects.accept(response("document:2")));
+
+        // then
+        assertThrows(TimeoutException.class, () -> second.get(100, TimeUnit.MILLISECONDS));
+        subscriber.request(1);
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(received, is(List.of("document:1")));
+        subscriber.request(1);
+        request.complete(null);
+        assertThat(received, is(List.of("document:1", "document:2")));
+        assertThat(subscriber.isDisposed(), is(true));
+    }
+
+    @Test
+    void cancelsRequestAndRejectsObjectsOnceCancelled() throws Exception {
+        // given
+        var objects = subscribe(1);
+        objects.accept(response("document:1"));
+        var waiting = CompletableFuture.runAsync(() -> objects.accept(mock(StreamedListObjectsResponse.class)));
+
+        // when
+        subscriber.cancel();
+
+        // then
+        assertThat(request.isCancelled(), is(true));
+        var exception = assertThrows(ExecutionException.class, () -> waiting.get(5, TimeUnit.SECONDS));
+        assertThat(exception.getCause(), instanceOf(CancellationException.class));
+        assertThrows(CancellationException.class, () -> objects.accept(mock(StreamedListObjectsResponse.class)));
+    }
+
+    @Test
+    void failsWithErrorOfRequest() {
+        // given
+        subscribe(1);
+
+        // when
+        request.completeExceptionally(new IllegalArgumentException("invalid"));
+
+        // then
+        assertThat(failure.get(), instanceOf(IllegalStateException.class));
+        assertThat(failure.get().getCause(), instanceOf(IllegalArgumentException.class));
+    }
+}
@@ -0,0 +1,62 @@
+package dev.openfga;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import dev.openfga.sdk.api.model.StreamedListObjectsResponse;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class StreamedObjectsTest {
+
+    private static StreamedListObjectsResponse response(String object) {
+        var response = mock(StreamedListObjectsResponse.class);
+        when(response.getObject()).thenReturn(object);
+        return response;
+    }
+
+    private static StreamedObjects objects(Duration maxWait) {
+        return new StreamedObjects(1, maxWait, error -> new IllegalStateException("stream failed", error));
+    }
+
+    @Test
+    void failsStreamAbandonedByTheCaller() {
+        // given
+        var objects = objects(Duration.ofMillis(50));
+        var request = new CompletableFuture<Void>();
+        objects.start(request);
+        var stream = objects.stream();
+        objects.accept(response("document:1"));
+
+        // when
+        assertThrows(CancellationException.class, () -> objects.accept(response("document:2")));
+
+        // then
+        assertThat(request.isCancelled(), is(true));
+        var exception = assertThrows(IllegalStateException.class, () -> stream.iterator().hasNext());
+        assertThat(exception.getCause(), instanceOf(TimeoutException.class));
+    }
+
+    @Test
+    void rejectsObjectsOnceClosed() {
+        // given
+        var objects = objects(Duration.ofSeconds(30));
+        var request = new CompletableFuture<Void>();
+        objects.start(request);
+
+        // when
+        objects.stream().close();
+
+        // then
+        assertThat(request.isCancelled(), is(true));
+        assertThrows(CancellationException.class, () -> objects.accept(response("document:1")));
+    }
+}
@@ -4,18 +4,40 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import dev.openfga.CheckCircuitBreaker;
+import dev.openfga.CheckHedger;
+import dev.openfga.OpenFgaConcurrencyLimiter;
+import dev.openfga.OpenFgaInterceptor;
+import dev.openfga.OpenFgaMetricsInterceptor;
+import dev.openfga.OpenFgaObservationInterceptor;
+import dev.openfga.sdk.api.client.ApiClient;
 import dev.openfga.sdk.api.configuration.BaseConfiguration;
 import dev.openfga.sdk.api.configuration.ClientConfiguration;
 import dev.openfga.sdk.api.configuration.CredentialsMethod;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import java.net.http.HttpClient.Redirect;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.web.reactive.DispatcherHandler;
 
 class OpenFgaAutoConfigurationTests {
 
@@ -353,6 +375,45 @@ class OpenFgaAutoConfigurationTests {
                 containsString("initialization.model-location must be set when initialization.mode is 'EMBEDDED'"));
     }
 
+    @Test
+    void failsIfInitializationConcurrencyIsNotPositive() {
+        var properties = new OpenFgaProperties();
+        properties.setStoreId("store ID");
+        properties.getInitialization().setMode(OpenFgaProperties.InitializationMode.EMBEDDED);
+        properties.getInitialization().setModelLocation("classpath:fga/model.json");
+        properties.getInitialization().setConcurrency(0);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, properties::validate);
+
+        assertThat(exception.getMessage(), containsString("initialization.concurrency must be positive"));
+    }
+
+    @Test
+    void failsIfInitializationWriteChunkSizeIsNotPositive() {
+        var properties = new OpenFgaProperties();
+        properties.setStoreId("store ID");
+        properties.getInitialization().setMode(OpenFgaProperties.InitializationMode.EMBEDDED);
+        properties.getInitialization().setModelLocation("classpath:fga/model.json");
+        properties.getInitialization().setWriteChunkSize(0);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, properties::validate);
+
+        assertThat(exception.getMessage(), containsString("initialization.write-chunk-size must be positive"));
+    }
+
+    @Test
+    void failsIfInitializationBatchSizeIsNotPositive() {
+        var properties = new OpenFgaProperties();
+        properties.setStoreId("store ID");
+        properties.getInitialization().setMode(OpenFgaProperties.InitializationMode.EMBEDDED);
+        properties.getInitialization().setModelLocation("classpath:fga/model.json");
+        properties.getInitialization().setBatchSize(0);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, properties::validate);
+
+        assertThat(exception.getMessage(), containsString("initialization.batch-size must be positive"));
+    }
+
     @Test
     void failsIfInitializationModeIsNull() {
         var properties = new OpenFgaProperties();
@@ -393,4 +454,363 @@ class OpenFgaAutoConfigurationTests {
                 exception.getCause().getMessage(),
                 containsString("minimumRetryDelay must be set if maxRetries is set"));
     }
+
+    @Test
+    void checkCacheBeanNotCreatedByDefault() {
+        contextRunner
+                .withPropertyValues("openfga.api-url=https://api.fga.example")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> assertThat(context.containsBean("openFgaCheckCache"), is(false)));
+    }
+
+    @Test
+    void checkCacheBeanCreatedWhenEnabled() {
+        contextRunner
+                .withPropertyValues(
+                        "openfga.api-url=https://api.fga.example",
+                        "openfga.cache.enabled=true",
+                        "openfga.cache.maximum-size=500",
+                        "openfga.cache.ttl=30")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> {
+                    assertThat(context.containsBean("openFgaCheckCache"), is(true));
+                    OpenFgaProperties.Cache cache =
+                            context.getBean(OpenFgaProperties.class).getCache();
+                    assertThat(cache.getMaximumSize(), is(500));
+                    assertThat(cache.getTtl(), is(Duration.ofSeconds(30)));
+                });
+    }
+
+    @Test
+    void failsIfCacheTtlIsNotPositive() {
+        var exception = assertThrows(IllegalStateException.class, () -> contextRunner
+                .withPropertyValues(
+                        "openfga.api-url=https://api.fga.example", "openfga.cache.enabled=true", "openfga.cache.ttl=0")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> context.getBean("fgaConfig")));
+
+        assertThat(exception.getCause().getMessage(), containsString("cache.ttl must be positive"));
+    }
+
+    @Test
+    void bindsStaleWindowsByTypeAndRelation() {
+        contextRunner
+                .withPropertyValues(
+                        "openfga.api-url=https://api.fga.example",
+                        "openfga.cache.enabled=true",
+                        "openfga.cache.refresh-ahead=0.2",
+                        "openfga.cache.stale-windows.[document#viewer]=5m",
+                        "openfga.cache.stale-windows.folder=30")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> {
+                    OpenFgaProperties.Cache cache =
+                            context.getBean(OpenFgaProperties.class).getCache();
+                    assertThat(cache.getRefreshAhead(), is(0.2));
+                    assertThat(
+                            cache.getStaleWindows(),
+                            is(Map.of("document#viewer", Duration.ofMinutes(5), "folder", Duration.ofSeconds(30))));
+                });
+    }
+
+    @Test
+    void failsIfCacheRefreshAheadIsNotAFraction() {
+        var exception = assertThrows(IllegalStateException.class, () -> contextRunner
+                .withPropertyValues(
+                        "openfga.api-url=https://api.fga.example",
+                        "openfga.cache.enabled=true",
+                        "openfga.cache.refresh-ahead=1")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> context.getBean("fgaConfig")));
+
+        assertThat(
+                exception.getCause().getMessage(),
+                containsString("cache.refresh-ahead must be at least 0 and less than 1"));
+    }
+
+    @Test
+    void checkCoalescerBeanCreatedWhenEnabled() {
+        contextRunner
+                .withPropertyValues("openfga.api-url=https://api.fga.example", "openfga.coalescing.enabled=true")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> assertThat(context.containsBean("openFgaCheckCoalescer"), is(true)));
+    }
+
+    @Test
+    void reactiveFgaBeanCreatedWhenWebFluxPresent() {
+        contextRunner
+                .withPropertyValues("openfga.api-url=https://api.fga.example")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> assertThat(context.containsBean("reactiveFga"), is(true)));
+    }
+
+    @Test
+    void reactiveFgaBeanNotCreatedWithoutWebFlux() {
+        contextRunner
+                .withClassLoader(new FilteredClassLoader(DispatcherHandler.class))
+                .withPropertyValues("openfga.api-url=https://api.fga.example")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> assertThat(context.containsBean("reactiveFga"), is(false)));
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void failsIfVirtualThreadingModeOnJavaBefore21() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> contextRunner
+                .withPropertyValues("openfga.api-url=https://api.fga.example", "openfga.threading.mode=virtual")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> context.getBean(OpenFgaProperties.class)));
+        assertThat(exception.getMessage(), containsString("threading.mode 'VIRTUAL' requires Java 21 or later"));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void beansConfiguredWhenThreadingModeVirtual() {
+        contextRunner
+                .withPropertyValues(
+                        "openfga.api-url=https://api.fga.example",
+                        "openfga.batching.enabled=true",
+                        "openfga.threading.mode=virtual")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> {
+                    assertThat(context.containsBean("apiClient"), is(true));
+                    assertThat(context.containsBean("openFgaCheckBatcher"), is(true));
+                });
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadsUsedWithCustomHttpClientBuilderCustomizer() {
+        contextRunner
+                .withBean(HttpClientBuilderCustomizer.class, () -> builder -> builder.followRedirects(Redirect.NORMAL))
+                .withPropertyValues("openfga.api-url=https://api.fga.example", "openfga.threading.mode=virtual")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> {
+                    var httpClient = context.getBean(ApiClient.class).getHttpClient();
+                    assertThat(httpClient.executor().isPresent(), is(true));
+                    assertThat(httpClient.followRedirects(), is(Redirect.NORMAL));
+                });
+    }
+
+    @Test
+    void readChangesWatcherBeanCreatedWhenEnabled() {
+        contextRunner
+                .withPropertyValues(
+                        "openfga.api-url=https://api.fga.example",
+                        "openfga.cache.enabled=true",
+                        "openfga.change-watcher.enabled=true")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> assertThat(context.containsBean("openFgaReadChangesWatcher"), is(true)));
+    }
+
+    @Test
+    void failsIfChangeWatcherEnabledWithoutCache() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> contextRunner
+                .withPropertyValues("openfga.api-url=https://api.fga.example", "openfga.change-watcher.enabled=true")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> context.getBean(OpenFgaProperties.class)));
+        assertThat(exception.getMessage(), containsString("change-watcher.enabled requires cache.enabled"));
+    }
+
+    @Test
+    void metricsBeansCreatedWhenMeterRegistryPresent() {
+        contextRunner
+                .withBean(SimpleMeterRegistry.class)
+                .withPropertyValues(
+                        "openfga.api-url=https://api.fga.example",
+                        "openfga.cache.enabled=true",
+                        "openfga.metrics.percentiles=0.99")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> {
+                    assertThat(context.containsBean("openFgaMetricsInterceptor"), is(true));
+                    var registry = new SimpleMeterRegistry();
+                    context.getBean("openFgaCacheMetrics", MeterBinder.class).bindTo(registry);
+                    assertThat(registry.get("openfga.cache.size").gauge().value(), is(0.0));
+                });
+    }
+
+    @Test
+    void noMetricsBeansCreatedWithoutMeterRegistry() {
+        contextRunner
+                .withPropertyValues("openfga.api-url=https://api.fga.example")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> assertThat(context.containsBean("openFgaMetricsInterceptor"), is(false)));
+    }
+
+    @Test
+    void noMetricsBeansCreatedWhenDisabled() {
+        contextRunner
+                .withBean(SimpleMeterRegistry.class)
+                .withPropertyValues("openfga.api-url=https://api.fga.example", "openfga.metrics.enabled=false")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> assertThat(context.containsBean("openFgaMetricsInterceptor"), is(false)));
+    }
+
+    @Test
+    void observationInterceptorCreatedWhenObservationRegistryPresent() {
+        contextRunner
+                .withBean(ObservationRegistry.class, ObservationRegistry::create)
+                .withPropertyValues("openfga.api-url=https://api.fga.example")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> assertThat(context.containsBean("openFgaObservationInterceptor"), is(true)));
+    }
+
+    @Test
+    void noObservationInterceptorCreatedWhenTracingDisabled() {
+        contextRunner
+                .withBean(ObservationRegistry.class, ObservationRegistry::create)
+                .withPropertyValues("openfga.api-url=https://api.fga.example", "openfga.tracing.enabled=false")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> assertThat(context.containsBean("openFgaObservationInterceptor"), is(false)));
+    }
+
+    @Test
+    void traceContextPropagatedWhenTracerPresent() {
+        contextRunner
+                .withBean(Tracer.class, () -> Tracer.NOOP)
+                .withBean(Propagator.class, () -> Propagator.NOOP)
+                .withPropertyValues("openfga.api-url=https://api.fga.example")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> {
+                    assertThat(context.containsBean("openFgaTracingApiClientCustomizer"), is(true));
+                    assertThat(context.getBean(ApiClient.class).getRequestInterceptor(), notNullValue());
+                });
+    }
+
+    @Test
+    void apiClientCustomizersApplied() {
+        ApiClientCustomizer customizer = apiClient -> apiClient.setReadTimeout(Duration.ofSeconds(42));
+        contextRunner
+                .withBean(ApiClientCustomizer.class, () -> customizer)
+                .withPropertyValues("openfga.api-url=https://api.fga.example")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context ->
+                        assertThat(context.getBean(ApiClient.class).getReadTimeout(), is(Duration.ofSeconds(42))));
+    }
+
+    @Test
+    void circuitBreakerConfiguredWhenEnabled() {
+        contextRunner
+                .withPropertyValues(
+                        "openfga.api-url=https://api.fga.example",
+                        "openfga.circuit-breaker.enabled=true",
+                        "openfga.circuit-breaker.open-decision=ALLOW")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> {
+                    var circuitBreaker = context.getBean(CheckCircuitBreaker.class);
+                    assertThat(circuitBreaker.getOpenDecision(), is(CheckCircuitBreaker.OpenDecision.ALLOW));
+                    var health = context.getBean("openFgaCircuitBreakerHealthIndicator", HealthIndicator.class)
+                            .health();
+                    assertThat(health.getStatus(), is(Status.UP));
+                });
+    }
+
+    @Test
+    void noCircuitBreakerConfiguredByDefault() {
+        contextRunner
+                .withPropertyValues("openfga.api-url=https://api.fga.example")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> {
+                    assertThat(context.containsBean("openFgaCircuitBreaker"), is(false));
+                    assertThat(context.containsBean("openFgaCircuitBreakerHealthIndicator"), is(false));
+                });
+    }
+
+    @Test
+    void failsIfCircuitBreakerMinimumCallsExceedsWindowSize() {
+        var exception = assertThrows(IllegalStateException.class, () -> contextRunner
+                .withPropertyValues(
+                        "openfga.api-url=https://api.fga.example",
+                        "openfga.circuit-breaker.enabled=true",
+                        "openfga.circuit-breaker.window-size=10",
+                        "openfga.circuit-breaker.minimum-calls=20")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> context.getBean(OpenFgaProperties.class)));
+        assertThat(
+                exception.getMessage(),
+                containsString("circuit-breaker.minimum-calls must be between 1 and window-size"));
+    }
+
+    @Test
+    void checkHedgerConfiguredWhenEnabled() {
+        contextRunner
+                .withPropertyValues(
+                        "openfga.api-url=https://api.fga.example",
+                        "openfga.hedging.enabled=true",
+                        "openfga.hedging.delay=20")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> assertThat(
+                        context.getBean(CheckHedger.class).getDelay(), is(Duration.ofMillis(20))));
+    }
+
+    @Test
+    void failsIfHedgingBudgetIsNotAFraction() {
+        var exception = assertThrows(IllegalStateException.class, () -> contextRunner
+                .withPropertyValues(
+                        "openfga.api-url=https://api.fga.example",
+                        "openfga.hedging.enabled=true",
+                        "openfga.hedging.budget=2")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> context.getBean(OpenFgaProperties.class)));
+        assertThat(exception.getMessage(), containsString("hedging.budget must be greater than 0 and at most 1"));
+    }
+
+    @Test
+    void concurrencyLimiterConfiguredWhenEnabled() {
+        contextRunner
+                .withPropertyValues(
+                        "openfga.api-url=https://api.fga.example",
+                        "openfga.concurrency-limit.enabled=true",
+                        "openfga.concurrency-limit.check.initial-limit=50",
+                        "openfga.concurrency-limit.check.max-limit=500")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> {
+                    var limiter = context.getBean(OpenFgaConcurrencyLimiter.class);
+                    assertThat(limiter.getCheckLimit().getLimit(), is(50));
+                    assertThat(limiter.getBulkLimit().getLimit(), is(4));
+                });
+    }
+
+    @Test
+    void concurrencyLimiterOrderedAfterObservationAndMetrics() {
+        contextRunner
+                .withBean(SimpleMeterRegistry.class)
+                .withBean(ObservationRegistry.class, ObservationRegistry::create)
+                .withPropertyValues(
+                        "openfga.api-url=https://api.fga.example", "openfga.concurrency-limit.enabled=true")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> {
+                    var types = context.getBeanProvider(OpenFgaInterceptor.class)
+                            .orderedStream()
+                            .map(Object::getClass)
+                            .toList();
+                    assertThat(
+                            types,
+                            is(List.of(
+                                    OpenFgaObservationInterceptor.class,
+                                    OpenFgaMetricsInterceptor.class,
+                                    OpenFgaConcurrencyLimiter.class)));
+                });
+    }
+
+    @Test
+    void concurrencyLimiterNotConfiguredByDefault() {
+        contextRunner
+                .withPropertyValues("openfga.api-url=https://api.fga.example")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> assertThat(context.containsBean("openFgaConcurrencyLimiter"), is(false)));
+    }
+
+    @Test
+    void failsIfConcurrencyLimitInitialLimitExceedsMaxLimit() {
+        var exception = assertThrows(IllegalStateException.class, () -> contextRunner
+                .withPropertyValues(
+                        "openfga.api-url=https://api.fga.example",
+                        "openfga.concurrency-limit.enabled=true",
+                        "openfga.concurrency-limit.bulk.initial-limit=30")
+                .withConfiguration(AutoConfigurations.of(OpenFgaAutoConfiguration.class))
+                .run(context -> context.getBean(OpenFgaProperties.class)));
+        assertThat(
+                exception.getMessage(),
+                containsString("concurrency-limit.bulk.initial-limit must be between 1 and max-limit"));
+    }
 }
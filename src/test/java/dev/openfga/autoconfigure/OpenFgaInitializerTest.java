@@ -1,6 +1,8 @@
 package dev.openfga.autoconfigure;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -11,12 +13,15 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.openfga.OpenFgaCall;
+import dev.openfga.OpenFgaInterceptor;
 import dev.openfga.UnitTest;
 import dev.openfga.sdk.api.client.OpenFgaClient;
 import dev.openfga.sdk.api.client.model.ClientReadAuthorizationModelResponse;
 import dev.openfga.sdk.api.client.model.ClientReadRequest;
 import dev.openfga.sdk.api.client.model.ClientReadResponse;
 import dev.openfga.sdk.api.client.model.ClientTupleKey;
+import dev.openfga.sdk.api.client.model.ClientTupleKeyWithoutCondition;
 import dev.openfga.sdk.api.client.model.ClientWriteAuthorizationModelResponse;
 import dev.openfga.sdk.api.client.model.ClientWriteRequest;
 import dev.openfga.sdk.api.client.model.ClientWriteResponse;
@@ -26,11 +31,24 @@ import dev.openfga.sdk.api.model.AuthorizationModel;
 import dev.openfga.sdk.api.model.ConsistencyPreference;
 import dev.openfga.sdk.api.model.Tuple;
 import dev.openfga.sdk.api.model.WriteAuthorizationModelRequest;
+import dev.openfga.sdk.errors.FgaApiValidationError;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.core.io.DefaultResourceLoader;
@@ -46,8 +64,7 @@ class OpenFgaInitializerTest {
     @Mock
     private ResourceLoader resourceLoader;
 
-    @Mock
-    private ObjectMapper objectMapper;
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
     private OpenFgaProperties.Initialization initialization(String modelLocation, String tuplesLocation) {
         var initialization = new OpenFgaProperties.Initialization();
@@ -58,8 +75,6 @@ class OpenFgaInitializerTest {
     }
 
     private OpenFgaInitializer initializer(String modelLocation, String tuplesLocation) {
-        when(objectMapper.copy()).thenReturn(objectMapper);
-        when(objectMapper.addMixIn(any(), any())).thenReturn(objectMapper);
         return new OpenFgaInitializer(
                 fgaClient, initialization(modelLocation, tuplesLocation), resourceLoader, objectMapper);
     }
@@ -77,6 +92,34 @@ class OpenFgaInitializerTest {
         when(resourceLoader.getResource(location)).thenReturn(resource);
     }
 
+    private void stubTuples(String location, String content) throws Exception {
+        var resource = mock(Resource.class);
+        when(resource.exists()).thenReturn(true);
+        when(resource.getInputStream())
+                .thenAnswer(invocation -> new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        when(resourceLoader.getResource(location)).thenReturn(resource);
+    }
+
+    private void stubTuples(ClientWriteRequest request) throws Exception {
+        var writes = request.getWrites() == null
+                ? List.<String>of()
+                : request.getWrites().stream()
+                        .map(tuple -> tupleJson(tuple.getUser(), tuple.getRelation(), tuple.getObject()))
+                        .toList();
+        var deletes = request.getDeletes() == null
+                ? List.<String>of()
+                : request.getDeletes().stream()
+                        .map(tuple -> tupleJson(tuple.getUser(), tuple.getRelation(), tuple.getObject()))
+                        .toList();
+        stubTuples(
+                "classpath:fga/tuples.json",
+                "{\"writes\":[" + String.join(",", writes) + "],\"deletes\":[" + String.join(",", deletes) + "]}");
+    }
+
+    private static String tupleJson(String user, String relation, String object) {
+        return "{\"user\":\"" + user + "\",\"relation\":\"" + relation + "\",\"object\":\"" + object + "\"}";
+    }
+
     private ClientReadResponse tupleReadResponse(List<Tuple> tuples) {
         var response = mock(ClientReadResponse.class);
         when(response.getTuples()).thenReturn(tuples);
@@ -120,12 +163,30 @@ class OpenFgaInitializerTest {
         verify(fgaClient, never()).write(any(), any());
     }
 
+    @Test
+    void sendsRequestsThroughInterceptors() throws Exception {
+        stubLatestModel(null);
+        stubResource("classpath:fga/model.json", "{}".getBytes());
+        stubModelWrite();
+        var operations = new ArrayList<String>();
+        var initializer = initializer("classpath:fga/model.json", null);
+        initializer.setInterceptors(List.of(new OpenFgaInterceptor() {
+            @Override
+            public <T> CompletableFuture<T> intercept(OpenFgaCall call, Supplier<CompletableFuture<T>> next) {
+                operations.add(call.operation());
+                return next.get();
+            }
+        }));
+
+        initializer.run(null);
+
+        assertEquals(List.of(OpenFgaCall.READ_AUTHORIZATION_MODEL, OpenFgaCall.WRITE_AUTHORIZATION_MODEL), operations);
+    }
+
     @Test
     void writesModelWhenNoneExists() throws Exception {
         stubLatestModel(null);
         stubResource("classpath:fga/model.json", "{}".getBytes());
-        when(objectMapper.readValue("{}".getBytes(), WriteAuthorizationModelRequest.class))
-                .thenReturn(new WriteAuthorizationModelRequest());
         stubModelWrite();
 
         initializer("classpath:fga/model.json", null).run(null);
@@ -138,11 +199,7 @@ class OpenFgaInitializerTest {
     void writesModelAndTuplesTransactionallyWhenTuplesLocationConfigured() throws Exception {
         stubLatestModel(null);
         stubResource("classpath:fga/model.json", "{}".getBytes());
-        var tuples = "{\"writes\":[]}".getBytes();
-        stubResource("classpath:fga/tuples.json", tuples);
-        when(objectMapper.readValue("{}".getBytes(), WriteAuthorizationModelRequest.class))
-                .thenReturn(new WriteAuthorizationModelRequest());
-        when(objectMapper.readValue(tuples, ClientWriteRequest.class)).thenReturn(tupleRequest());
+        stubTuples(tupleRequest());
         stubTupleRead(List.of());
         stubModelWrite();
         when(fgaClient.write(any(), any(ClientWriteOptions.class)))
@@ -191,6 +248,398 @@ class OpenFgaInitializerTest {
                 "document:1", tupleRequestCaptor.getValue().getWrites().get(0).getObject());
     }
 
+    @Test
+    void comparesTuplesWithBoundedConcurrencyAndWritesOnlyMissingOnes() throws Exception {
+        stubLatestModel(new AuthorizationModel().id("01H..."));
+        var writes = new ArrayList<ClientTupleKey>();
+        var responses = new HashMap<String, ClientReadResponse>();
+        for (int i = 0; i < 5; i++) {
+            var tuple = new ClientTupleKey().user("user:" + i).relation("reader")._object("document:1");
+            writes.add(tuple);
+            var existing = i % 2 == 1 ? List.of(new Tuple().key(tuple.asTupleKey())) : List.<Tuple>of();
+            responses.put(tuple.getUser(), tupleReadResponse(existing));
+        }
+        stubTuples(ClientWriteRequest.ofWrites(writes));
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        when(fgaClient.read(any(ClientReadRequest.class), any(ClientReadOptions.class)))
+                .thenAnswer(invocation -> {
+                    ClientReadRequest request = invocation.getArgument(0);
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return CompletableFuture.supplyAsync(
+                            () -> {
+                                inFlight.decrementAndGet();
+                                return responses.get(request.getUser());
+                            },
+                            CompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS));
+                });
+        when(fgaClient.write(any(), any(ClientWriteOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(ClientWriteResponse.class)));
+        var initialization = initialization("classpath:fga/model.json", "classpath:fga/tuples.json");
+        initialization.setConcurrency(2);
+
+        new OpenFgaInitializer(fgaClient, initialization, resourceLoader, objectMapper).run(null);
+
+        assertTrue(maxInFlight.get() <= 2);
+        var tupleRequestCaptor = ArgumentCaptor.forClass(ClientWriteRequest.class);
+        verify(fgaClient).write(tupleRequestCaptor.capture(), any(ClientWriteOptions.class));
+        assertEquals(
+                List.of("user:0", "user:2", "user:4"),
+                tupleRequestCaptor.getValue().getWrites().stream()
+                        .map(ClientTupleKey::getUser)
+                        .toList());
+    }
+
+    private OpenFgaInitializer chunkedInitializer(List<ClientTupleKey> writes) throws Exception {
+        stubLatestModel(new AuthorizationModel().id("01H..."));
+        stubTuples(ClientWriteRequest.ofWrites(writes));
+        stubTupleRead(List.of());
+        var initialization = initialization("classpath:fga/model.json", "classpath:fga/tuples.json");
+        initialization.setWriteChunkSize(2);
+        initialization.setWriteAttempts(2);
+        return new OpenFgaInitializer(fgaClient, initialization, resourceLoader, objectMapper);
+    }
+
+    private static List<ClientTupleKey> readers(int count) {
+        var writes = new ArrayList<ClientTupleKey>();
+        for (int i = 0; i < count; i++) {
+            writes.add(new ClientTupleKey().user("user:" + i).relation("reader")._object("document:1"));
+        }
+        return writes;
+    }
+
+    private static boolean writesUser(ClientWriteRequest request, String user) {
+        return request != null
+                && request.getWrites() != null
+                && request.getWrites().stream().anyMatch(tuple -> tuple.getUser().equals(user));
+    }
+
+    @Test
+    void writesTuplesInChunks() throws Exception {
+        var initializer = chunkedInitializer(readers(5));
+        when(fgaClient.write(any(), any(ClientWriteOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(ClientWriteResponse.class)));
+
+        initializer.run(null);
+
+        var tupleRequestCaptor = ArgumentCaptor.forClass(ClientWriteRequest.class);
+        verify(fgaClient, times(3)).write(tupleRequestCaptor.capture(), any(ClientWriteOptions.class));
+        assertEquals(
+                List.of(2, 2, 1),
+                tupleRequestCaptor.getAllValues().stream()
+                        .map(request -> request.getWrites().size())
+                        .toList());
+    }
+
+    @Test
+    void retriesOnlyTheChunkThatFailed() throws Exception {
+        var initializer = chunkedInitializer(readers(4));
+        var failedWrite = new CompletableFuture<ClientWriteResponse>();
+        failedWrite.completeExceptionally(new IOException("unavailable"));
+        var failedOnce = new AtomicInteger();
+        when(fgaClient.write(any(), any(ClientWriteOptions.class))).thenAnswer(invocation -> {
+            ClientWriteRequest request = invocation.getArgument(0);
+            if (writesUser(request, "user:2") && failedOnce.getAndIncrement() == 0) {
+                return failedWrite;
+            }
+            return CompletableFuture.completedFuture(mock(ClientWriteResponse.class));
+        });
+
+        initializer.run(null);
+
+        var tupleRequestCaptor = ArgumentCaptor.forClass(ClientWriteRequest.class);
+        verify(fgaClient, times(3)).write(tupleRequestCaptor.capture(), any(ClientWriteOptions.class));
+        assertEquals(
+                2,
+                tupleRequestCaptor.getAllValues().stream()
+                        .filter(request -> writesUser(request, "user:2"))
+                        .count());
+    }
+
+    @Test
+    void reportsTheChunksThatFailed() throws Exception {
+        var initializer = chunkedInitializer(readers(6));
+        var failedWrite = new CompletableFuture<ClientWriteResponse>();
+        failedWrite.completeExceptionally(new IOException("unavailable"));
+        when(fgaClient.write(any(), any(ClientWriteOptions.class))).thenAnswer(invocation -> {
+            ClientWriteRequest request = invocation.getArgument(0);
+            return writesUser(request, "user:2")
+                    ? failedWrite
+                    : CompletableFuture.completedFuture(mock(ClientWriteResponse.class));
+        });
+
+        var exception = assertThrows(ExecutionException.class, () -> initializer.run(null));
+
+        assertTrue(exception.getMessage().contains("Failed to write 1 of 3 chunks"));
+        assertTrue(exception.getMessage().contains("chunk 2 (2 tuple changes, 2 attempts)"));
+        verify(fgaClient, times(4)).write(any(), any(ClientWriteOptions.class));
+    }
+
+    @Test
+    void failsRejectedChunkWithoutRetrying() throws Exception {
+        var initializer = chunkedInitializer(readers(4));
+        var rejectedWrite = new CompletableFuture<ClientWriteResponse>();
+        rejectedWrite.completeExceptionally(new FgaApiValidationError("invalid tuple", 400, null, null));
+        when(fgaClient.write(any(), any(ClientWriteOptions.class))).thenAnswer(invocation -> {
+            ClientWriteRequest request = invocation.getArgument(0);
+            return writesUser(request, "user:2")
+                    ? rejectedWrite
+                    : CompletableFuture.completedFuture(mock(ClientWriteResponse.class));
+        });
+
+        var exception = assertThrows(ExecutionException.class, () -> initializer.run(null));
+
+        assertTrue(exception.getMessage().contains("chunk 2 (2 tuple changes, 1 attempts)"));
+        verify(fgaClient, times(2)).write(any(), any(ClientWriteOptions.class));
+    }
+
+    private ClientReadResponse storePage(String continuationToken, ClientTupleKey... tuples) {
+        var page = tupleReadResponse(Arrays.stream(tuples)
+                .map(tuple -> new Tuple().key(tuple.asTupleKey()))
+                .toList());
+        when(page.getContinuationToken()).thenReturn(continuationToken);
+        return page;
+    }
+
+    @Test
+    void comparesTuplesWithScannedStore() throws Exception {
+        stubLatestModel(new AuthorizationModel().id("01H..."));
+        var users = readers(5);
+        var tupleRequest = new ClientWriteRequest()
+                .writes(users.subList(0, 3))
+                .deletes(users.subList(3, 5).stream()
+                        .map(tuple -> new ClientTupleKeyWithoutCondition()
+                                .user(tuple.getUser())
+                                .relation(tuple.getRelation())
+                                ._object(tuple.getObject()))
+                        .toList());
+        stubTuples(tupleRequest);
+        var firstPage = storePage("page-2", users.get(1), users.get(3));
+        var lastPage = storePage("", readers(7).get(6));
+        when(fgaClient.read(any(ClientReadRequest.class), any(ClientReadOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(firstPage), CompletableFuture.completedFuture(lastPage));
+        when(fgaClient.write(any(), any(ClientWriteOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(ClientWriteResponse.class)));
+        var initialization = initialization("classpath:fga/model.json", "classpath:fga/tuples.json");
+        initialization.setDiffStrategy(OpenFgaProperties.TupleDiffStrategy.SCAN);
+
+        new OpenFgaInitializer(fgaClient, initialization, resourceLoader, objectMapper).run(null);
+
+        var readRequestCaptor = ArgumentCaptor.forClass(ClientReadRequest.class);
+        var readOptionsCaptor = ArgumentCaptor.forClass(ClientReadOptions.class);
+        verify(fgaClient, times(2)).read(readRequestCaptor.capture(), readOptionsCaptor.capture());
+        assertNull(readRequestCaptor.getValue().getUser());
+        assertEquals(100, readOptionsCaptor.getValue().getPageSize());
+        assertEquals("page-2", readOptionsCaptor.getValue().getContinuationToken());
+        var tupleRequestCaptor = ArgumentCaptor.forClass(ClientWriteRequest.class);
+        verify(fgaClient).write(tupleRequestCaptor.capture(), any(ClientWriteOptions.class));
+        assertEquals(
+                List.of("user:0", "user:2"),
+                tupleRequestCaptor.getValue().getWrites().stream()
+                        .map(ClientTupleKey::getUser)
+                        .toList());
+        assertEquals(
+                List.of("user:3"),
+                tupleRequestCaptor.getValue().getDeletes().stream()
+                        .map(ClientTupleKeyWithoutCondition::getUser)
+                        .toList());
+    }
+
+    @Test
+    void scansStoreWhenSeedReachesScanThreshold() throws Exception {
+        stubLatestModel(new AuthorizationModel().id("01H..."));
+        stubTuples(ClientWriteRequest.ofWrites(readers(3)));
+        var page = storePage(null, readers(3).toArray(ClientTupleKey[]::new));
+        when(fgaClient.read(any(ClientReadRequest.class), any(ClientReadOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(page));
+        var initialization = initialization("classpath:fga/model.json", "classpath:fga/tuples.json");
+        initialization.setScanThreshold(3);
+
+        new OpenFgaInitializer(fgaClient, initialization, resourceLoader, objectMapper).run(null);
+
+        verify(fgaClient, times(1)).read(any(ClientReadRequest.class), any(ClientReadOptions.class));
+        verify(fgaClient, never()).write(any(), any());
+    }
+
+    @Test
+    void readsEachTupleWhenStoreExceedsScanLimit() throws Exception {
+        stubLatestModel(new AuthorizationModel().id("01H..."));
+        stubTuples(ClientWriteRequest.ofWrites(readers(3)));
+        var page = storePage("page-2", readers(3).toArray(ClientTupleKey[]::new));
+        when(fgaClient.read(any(ClientReadRequest.class), any(ClientReadOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(page));
+        var initialization = initialization("classpath:fga/model.json", "classpath:fga/tuples.json");
+        initialization.setScanThreshold(3);
+        initialization.setScanLimit(2);
+
+        new OpenFgaInitializer(fgaClient, initialization, resourceLoader, objectMapper).run(null);
+
+        var readRequestCaptor = ArgumentCaptor.forClass(ClientReadRequest.class);
+        verify(fgaClient, times(4)).read(readRequestCaptor.capture(), any(ClientReadOptions.class));
+        assertNull(readRequestCaptor.getAllValues().get(0).getUser());
+        assertEquals(
+                List.of("user:0", "user:1", "user:2"),
+                readRequestCaptor.getAllValues().subList(1, 4).stream()
+                        .map(ClientReadRequest::getUser)
+                        .toList());
+        verify(fgaClient, never()).write(any(), any());
+    }
+
+    @Test
+    void readsTuplesFromNdjsonFile() throws Exception {
+        stubLatestModel(new AuthorizationModel().id("01H..."));
+        stubTuples(
+                "classpath:fga/tuples.ndjson",
+                String.join(
+                        "\n",
+                        tupleJson("user:1", "reader", "document:1"),
+                        "",
+                        tupleJson("user:2", "writer", "document:2")));
+        stubTupleRead(List.of());
+        when(fgaClient.write(any(), any(ClientWriteOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(ClientWriteResponse.class)));
+
+        initializer("classpath:fga/model.json", "classpath:fga/tuples.ndjson").run(null);
+
+        var tupleRequestCaptor = ArgumentCaptor.forClass(ClientWriteRequest.class);
+        verify(fgaClient).write(tupleRequestCaptor.capture(), any(ClientWriteOptions.class));
+        var writes = tupleRequestCaptor.getValue().getWrites();
+        assertEquals(List.of("user:1", "user:2"), writes.stream().map(ClientTupleKey::getUser).toList());
+        assertEquals("writer", writes.get(1).getRelation());
+        assertEquals("document:2", writes.get(1).getObject());
+    }
+
+    @Test
+    void readsTuplesFromCsvFile() throws Exception {
+        stubLatestModel(new AuthorizationModel().id("01H..."));
+        stubTuples(
+                "classpath:fga/tuples.csv",
+                "user,relation,object\n# readers\nuser:1,reader,document:1\n\n user:2 , writer , document:2 \n");
+        stubTupleRead(List.of());
+        when(fgaClient.write(any(), any(ClientWriteOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(ClientWriteResponse.class)));
+
+        initializer("classpath:fga/model.json", "classpath:fga/tuples.csv").run(null);
+
+        var tupleRequestCaptor = ArgumentCaptor.forClass(ClientWriteRequest.class);
+        verify(fgaClient).write(tupleRequestCaptor.capture(), any(ClientWriteOptions.class));
+        var writes = tupleRequestCaptor.getValue().getWrites();
+        assertEquals(List.of("user:1", "user:2"), writes.stream().map(ClientTupleKey::getUser).toList());
+        assertEquals("writer", writes.get(1).getRelation());
+        assertEquals("document:2", writes.get(1).getObject());
+    }
+
+    @Test
+    void skipsCsvHeaderAfterCommentsAndBlankLines() throws Exception {
+        stubLatestModel(new AuthorizationModel().id("01H..."));
+        stubTuples(
+                "classpath:fga/tuples.csv",
+                "# tuples of the demo\n\nuser, relation, object\nuser:1,reader,document:1\n");
+        stubTupleRead(List.of());
+        when(fgaClient.write(any(), any(ClientWriteOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(ClientWriteResponse.class)));
+
+        initializer("classpath:fga/model.json", "classpath:fga/tuples.csv").run(null);
+
+        var tupleRequestCaptor = ArgumentCaptor.forClass(ClientWriteRequest.class);
+        verify(fgaClient).write(tupleRequestCaptor.capture(), any(ClientWriteOptions.class));
+        var writes = tupleRequestCaptor.getValue().getWrites();
+        assertEquals(List.of("user:1"), writes.stream().map(ClientTupleKey::getUser).toList());
+    }
+
+    @Test
+    void failsOnMalformedCsvLine() throws Exception {
+        stubLatestModel(new AuthorizationModel().id("01H..."));
+        stubTuples("classpath:fga/tuples.csv", "user:1,reader,document:1\nuser:2,reader\n");
+
+        var exception = assertThrows(IllegalStateException.class, () -> initializer(
+                        "classpath:fga/model.json", "classpath:fga/tuples.csv")
+                .run(null));
+
+        assertTrue(exception.getMessage().contains("line 2"));
+        verify(fgaClient, never()).write(any(), any());
+    }
+
+    @Test
+    void comparesAndWritesTuplesOneBatchAtATime() throws Exception {
+        stubLatestModel(new AuthorizationModel().id("01H..."));
+        stubTuples(ClientWriteRequest.ofWrites(readers(5)));
+        stubTupleRead(List.of());
+        when(fgaClient.write(any(), any(ClientWriteOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(ClientWriteResponse.class)));
+        var initialization = initialization("classpath:fga/model.json", "classpath:fga/tuples.json");
+        initialization.setBatchSize(2);
+        initialization.setDiffStrategy(OpenFgaProperties.TupleDiffStrategy.PER_TUPLE);
+
+        new OpenFgaInitializer(fgaClient, initialization, resourceLoader, objectMapper).run(null);
+
+        verify(fgaClient, times(5)).read(any(ClientReadRequest.class), any(ClientReadOptions.class));
+        var tupleRequestCaptor = ArgumentCaptor.forClass(ClientWriteRequest.class);
+        verify(fgaClient, times(3)).write(tupleRequestCaptor.capture(), any(ClientWriteOptions.class));
+        assertEquals(
+                List.of(2, 2, 1),
+                tupleRequestCaptor.getAllValues().stream()
+                        .map(request -> request.getWrites().size())
+                        .toList());
+    }
+
+    @Test
+    void skipsInitializationWhileChecksumMatches(@TempDir Path directory) throws Exception {
+        stubLatestModel(new AuthorizationModel().id("01H..."));
+        stubTuples("classpath:fga/model.json", "{}");
+        stubTuples(tupleRequest());
+        var existingTuple = new Tuple().key(tupleRequest().getWrites().get(0).asTupleKey());
+        stubTupleRead(List.of(existingTuple));
+        var initialization = initialization("classpath:fga/model.json", "classpath:fga/tuples.json");
+        initialization.setChecksumFile(directory.resolve("openfga/checksum").toString());
+
+        new OpenFgaInitializer(fgaClient, initialization, resourceLoader, objectMapper).run(null);
+        new OpenFgaInitializer(fgaClient, initialization, resourceLoader, objectMapper).run(null);
+
+        assertTrue(Files.exists(directory.resolve("openfga/checksum")));
+        verify(fgaClient, times(1)).readLatestAuthorizationModel();
+        verify(fgaClient, times(1)).read(any(ClientReadRequest.class), any(ClientReadOptions.class));
+    }
+
+    @Test
+    void initializesAndRecordsChecksumWhenItChanged(@TempDir Path directory) throws Exception {
+        stubLatestModel(new AuthorizationModel().id("01H..."));
+        stubTuples("classpath:fga/model.json", "{}");
+        stubTuples(tupleRequest());
+        stubTupleRead(List.of());
+        when(fgaClient.write(any(), any(ClientWriteOptions.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(ClientWriteResponse.class)));
+        var checksumFile = directory.resolve("checksum");
+        Files.writeString(checksumFile, "outdated\n");
+        var initialization = initialization("classpath:fga/model.json", "classpath:fga/tuples.json");
+        initialization.setChecksumFile(checksumFile.toString());
+
+        new OpenFgaInitializer(fgaClient, initialization, resourceLoader, objectMapper).run(null);
+
+        verify(fgaClient).write(any(), any(ClientWriteOptions.class));
+        assertEquals(64, Files.readString(checksumFile).strip().length());
+    }
+
+    @Test
+    void doesNotRecordChecksumWhenInitializationFails(@TempDir Path directory) throws Exception {
+        stubLatestModel(new AuthorizationModel().id("01H..."));
+        stubTuples("classpath:fga/model.json", "{}");
+        stubTuples(tupleRequest());
+        stubTupleRead(List.of());
+        var failedWrite = new CompletableFuture<ClientWriteResponse>();
+        failedWrite.completeExceptionally(new IllegalStateException("unavailable"));
+        when(fgaClient.write(any(), any(ClientWriteOptions.class))).thenReturn(failedWrite);
+        var initialization = initialization("classpath:fga/model.json", "classpath:fga/tuples.json");
+        initialization.setChecksumFile(directory.resolve("checksum").toString());
+        initialization.setWriteAttempts(1);
+
+        assertThrows(
+                ExecutionException.class,
+                () -> new OpenFgaInitializer(fgaClient, initialization, resourceLoader, objectMapper).run(null));
+
+        assertFalse(Files.exists(directory.resolve("checksum")));
+    }
+
     @Test
     void retriesTuplesAgainstExistingModelAfterPreviousFailure() throws Exception {
         var noModelResponse = mock(ClientReadAuthorizationModelResponse.class);
@@ -201,33 +650,31 @@ class OpenFgaInitializerTest {
                         CompletableFuture.completedFuture(noModelResponse),
                         CompletableFuture.completedFuture(existingModelResponse));
         stubResource("classpath:fga/model.json", "{}".getBytes());
-        var tuples = "{\"writes\":[]}".getBytes();
-        stubResource("classpath:fga/tuples.json", tuples);
-        when(objectMapper.readValue("{}".getBytes(), WriteAuthorizationModelRequest.class))
-                .thenReturn(new WriteAuthorizationModelRequest());
-        when(objectMapper.readValue(tuples, ClientWriteRequest.class)).thenReturn(tupleRequest());
+        stubTuples(tupleRequest());
         stubTupleRead(List.of());
         stubModelWrite();
         var failedWrite = new CompletableFuture<ClientWriteResponse>();
-        failedWrite.completeExceptionally(new IllegalStateException("tuple write failed"));
+        failedWrite.completeExceptionally(new IOException("tuple write failed"));
         when(fgaClient.write(any(), any(ClientWriteOptions.class)))
-                .thenReturn(failedWrite, CompletableFuture.completedFuture(mock(ClientWriteResponse.class)));
+                .thenReturn(
+                        failedWrite,
+                        failedWrite,
+                        failedWrite,
+                        CompletableFuture.completedFuture(mock(ClientWriteResponse.class)));
         var initializer = initializer("classpath:fga/model.json", "classpath:fga/tuples.json");
 
         assertThrows(ExecutionException.class, () -> initializer.run(null));
         initializer.run(null);
 
         verify(fgaClient).writeAuthorizationModel(any());
-        verify(fgaClient, times(2)).write(any(), any(ClientWriteOptions.class));
+        verify(fgaClient, times(4)).write(any(), any(ClientWriteOptions.class));
     }
 
     @Test
     void acceptsConcurrentTupleInitializationWhenDesiredStateExistsAfterFailure() throws Exception {
         stubLatestModel(new AuthorizationModel().id("01H..."));
-        var tuples = "{\"writes\":[]}".getBytes();
-        stubResource("classpath:fga/tuples.json", tuples);
         var tupleRequest = tupleRequest();
-        when(objectMapper.readValue(tuples, ClientWriteRequest.class)).thenReturn(tupleRequest);
+        stubTuples(tupleRequest);
         var missingTuples = tupleReadResponse(List.of());
         var existingTuple = new Tuple().key(tupleRequest.getWrites().get(0).asTupleKey());
         var existingTuples = tupleReadResponse(List.of(existingTuple));
@@ -269,8 +716,6 @@ class OpenFgaInitializerTest {
     void restoresInterruptFlagWhenModelWriteIsInterrupted() throws Exception {
         stubLatestModel(null);
         stubResource("classpath:fga/model.json", "{}".getBytes());
-        when(objectMapper.readValue("{}".getBytes(), WriteAuthorizationModelRequest.class))
-                .thenReturn(new WriteAuthorizationModelRequest());
         when(fgaClient.writeAuthorizationModel(any())).thenReturn(new CompletableFuture<>());
 
         assertInterruptRestored(
@@ -281,11 +726,7 @@ class OpenFgaInitializerTest {
     void restoresInterruptFlagWhenTupleWriteIsInterrupted() throws Exception {
         stubLatestModel(null);
         stubResource("classpath:fga/model.json", "{}".getBytes());
-        var tuples = "{\"writes\":[]}".getBytes();
-        stubResource("classpath:fga/tuples.json", tuples);
-        when(objectMapper.readValue("{}".getBytes(), WriteAuthorizationModelRequest.class))
-                .thenReturn(new WriteAuthorizationModelRequest());
-        when(objectMapper.readValue(tuples, ClientWriteRequest.class)).thenReturn(tupleRequest());
+        stubTuples(tupleRequest());
         stubTupleRead(List.of());
         stubModelWrite();
         when(fgaClient.write(any(), any(ClientWriteOptions.class))).thenReturn(new CompletableFuture<>());
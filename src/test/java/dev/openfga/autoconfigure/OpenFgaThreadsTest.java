@@ -0,0 +1,50 @@
+package dev.openfga.autoconfigure;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+class OpenFgaThreadsTest {
+
+    @Test
+    void platformThreadFactoryCreatesNamedDaemonThreads() {
+        var threadFactory = OpenFgaThreads.threadFactory(OpenFgaProperties.ThreadingMode.PLATFORM, "openfga-test");
+
+        var first = threadFactory.newThread(() -> {});
+        var second = threadFactory.newThread(() -> {});
+
+        assertThat(first.getName(), is("openfga-test-1"));
+        assertThat(second.getName(), is("openfga-test-2"));
+        assertThat(first.isDaemon(), is(true));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadFactoryCreatesVirtualThreads() {
+        var threadFactory = OpenFgaThreads.threadFactory(OpenFgaProperties.ThreadingMode.VIRTUAL, "openfga-test");
+
+        var thread = threadFactory.newThread(() -> {});
+
+        assertThat(thread.getName(), is("openfga-test-1"));
+        assertThat(thread.getClass().getName(), is("java.lang.VirtualThread"));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadPerTaskExecutorRunsTasksOnVirtualThreads() throws Exception {
+        var executor = OpenFgaThreads.virtualThreadPerTaskExecutor("openfga-test");
+        try {
+            var threadType = CompletableFuture.supplyAsync(
+                    () -> Thread.currentThread().getClass().getName(), executor);
+
+            assertThat(threadType.get(1, TimeUnit.SECONDS), is("java.lang.VirtualThread"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}